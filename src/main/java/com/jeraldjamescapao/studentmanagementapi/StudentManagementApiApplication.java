@@ -2,12 +2,20 @@ package com.jeraldjamescapao.studentmanagementapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class StudentManagementApiApplication {
 
+	// Startup steps kept for StartupTimingReporter and /actuator/startup.
+	private static final int STARTUP_STEPS = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(StudentManagementApiApplication.class, args);
+		SpringApplication app = new SpringApplication(StudentManagementApiApplication.class);
+		app.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		app.run(args);
 	}
 
 }
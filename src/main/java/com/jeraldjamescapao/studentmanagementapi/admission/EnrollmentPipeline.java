@@ -0,0 +1,383 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import com.jeraldjamescapao.studentmanagementapi.catalog.CourseCatalog;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ConflictException;
+import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ServiceUnavailableException;
+import com.jeraldjamescapao.studentmanagementapi.repository.StudentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-writer pipeline for new enrollments.
+ *
+ * <p><b>Flow:</b> {@link #submit} checks the course against the catalog and puts the request
+ * on a bounded queue; {@link #submitAll} does the same for a whole roster as one queue entry.
+ * One writer thread takes whatever is queued (up to {@code app.enrollment.pipeline.max-batch}
+ * enrollments, but never less than one whole entry) and writes it in one transaction:</p>
+ * <ol>
+ *   <li>one query for which students exist and one for the enrollments they already have;</li>
+ *   <li>a seat decision per request from {@link SeatLedger}, in queue order;</li>
+ *   <li>multi-row {@code INSERT} statements of {@value #ROWS_PER_INSERT} rows.</li>
+ * </ol>
+ * <p>Each caller's future completes with its own enrollment or error once the batch has
+ * committed.</p>
+ *
+ * <p><b>Why:</b> During a registration rush, one transaction per enrollment makes every
+ * request pay for its own commit and fight over H2's write path and the
+ * {@code uq_enrollments_live} and foreign key checks. A single writer removes that contention, and
+ * batches grow with the load by themselves: requests that arrive while a batch commits form
+ * the next one. There is no artificial wait when the queue is empty.</p>
+ *
+ * <p><b>Failures:</b> Unknown students and duplicates are settled per request before the
+ * insert. If the batch still fails (e.g. a row written concurrently outside the pipeline), it
+ * is rolled back, its seats are given back, and each request is retried in a transaction of
+ * its own, so one bad request never fails the others.</p>
+ *
+ * <p><b>Back-pressure:</b> When the queue ({@code app.enrollment.pipeline.queue-capacity}
+ * entries, a roster counting as one) is full, or the pipeline is stopped, requests fail fast with
+ * {@link ServiceUnavailableException}. On shutdown the writer stops after the web server and
+ * drains the queue first.</p>
+ *
+ * <p><b>Metrics:</b></p>
+ * <ul>
+ *   <li>{@code enrollment.pipeline.queue.depth} – requests waiting for the writer;</li>
+ *   <li>{@code enrollment.pipeline.batch.size} – enrollments per batch;</li>
+ *   <li>{@code enrollment.pipeline.commit} – time to validate, insert and commit one batch;</li>
+ *   <li>{@code enrollment.pipeline.rejected} – requests turned away because the queue was full.</li>
+ * </ul>
+ *
+ * @see SeatLedger
+ */
+@Slf4j
+@Component
+public class EnrollmentPipeline implements SmartLifecycle {
+
+    private static final int ROWS_PER_INSERT = 100;
+    private static final String COLUMNS =
+            "INSERT INTO enrollments (id, student_id, course_id, term, section, status, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final CourseCatalog catalog;
+    private final SeatLedger ledger;
+    private final StudentRepository studentRepo;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final BlockingQueue<Submission> queue;
+    private final int maxBatch;
+
+    private final DistributionSummary batchSize;
+    private final Timer commitTimer;
+    private final Counter rejected;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public EnrollmentPipeline(CourseCatalog catalog,
+                              SeatLedger ledger,
+                              StudentRepository studentRepo,
+                              JdbcTemplate jdbc,
+                              PlatformTransactionManager txManager,
+                              MeterRegistry registry,
+                              @Value("${app.enrollment.pipeline.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.enrollment.pipeline.max-batch:256}") int maxBatch) {
+        this.catalog = catalog;
+        this.ledger = ledger;
+        this.studentRepo = studentRepo;
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+
+        Gauge.builder("enrollment.pipeline.queue.depth", queue, BlockingQueue::size)
+                .description("Enrollment requests waiting for the writer")
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("enrollment.pipeline.batch.size")
+                .description("Enrollments written per transaction")
+                .register(registry);
+        this.commitTimer = Timer.builder("enrollment.pipeline.commit")
+                .description("Time to validate, insert and commit one batch of enrollments")
+                .register(registry);
+        this.rejected = Counter.builder("enrollment.pipeline.rejected")
+                .description("Enrollment requests rejected because the queue was full")
+                .register(registry);
+    }
+
+    /**
+     * Queues a new enrollment.
+     *
+     * @param req the student, course, term and section
+     * @return completes with the created enrollment ({@code ENROLLED} or {@code WAITLISTED}),
+     *         or with {@link NotFoundException}, {@link BadRequestException},
+     *         {@link ConflictException} or {@link ServiceUnavailableException}
+     */
+    public CompletableFuture<EnrollmentResponse> submit(EnrollmentCreateRequest req) {
+        return submitAll(List.of(req)).thenCompose(outcomes -> outcomes.get(0).toFuture());
+    }
+
+    /**
+     * Queues many enrollments as one entry, written together in a single transaction.
+     *
+     * @param reqs the enrollments, e.g. one section's roster
+     * @return completes with one {@link Outcome} per request, in order, once committed; fails
+     *         as a whole with {@link NotFoundException} or {@link BadRequestException} when a
+     *         course is unknown or retired, or {@link ServiceUnavailableException} when the
+     *         queue is full
+     */
+    public CompletableFuture<List<Outcome>> submitAll(List<EnrollmentCreateRequest> reqs) {
+        for (UUID courseId : reqs.stream().map(EnrollmentCreateRequest::getCourseId).distinct().toList()) {
+            Optional<CourseResponse> course = catalog.findById(courseId);
+            if (course.isEmpty()) {
+                return CompletableFuture.failedFuture(new NotFoundException("Course", courseId));
+            }
+            if (!course.get().isActive()) {
+                return CompletableFuture.failedFuture(new BadRequestException("Course is retired: " + course.get().getCode()));
+            }
+        }
+        if (!running) {
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Enrollments are not accepted while shutting down"));
+        }
+        Submission s = new Submission(reqs, new CompletableFuture<>());
+        if (!queue.offer(s)) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Too many pending enrollments; retry shortly"));
+        }
+        return s.result();
+    }
+
+    // ---- writer ----------------------------------------------------------------------
+
+    private void run() {
+        List<Submission> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                int size = first.requests().size();
+                // Sole consumer: a peeked entry is still there to poll.
+                Submission next;
+                while ((next = queue.peek()) != null && size + next.requests().size() <= maxBatch) {
+                    batch.add(queue.poll());
+                    size += next.requests().size();
+                }
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Enrollment batch of {} entries failed", batch.size(), ex);
+                batch.forEach(s -> s.result().completeExceptionally(ex));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Submission> batch) {
+        List<EnrollmentCreateRequest> reqs = batch.stream().flatMap(s -> s.requests().stream()).toList();
+        batchSize.record(reqs.size());
+        Outcome[] outcomes = commit(reqs);
+        // Completed only after commit, so callers never see an enrollment that could roll back.
+        int from = 0;
+        for (Submission s : batch) {
+            int to = from + s.requests().size();
+            s.result().complete(List.of(Arrays.copyOfRange(outcomes, from, to)));
+            from = to;
+        }
+    }
+
+    private Outcome[] commit(List<EnrollmentCreateRequest> reqs) {
+        try {
+            return commitTimer.record(() -> tx.execute(status -> insert(reqs)));
+        } catch (DataAccessException ex) {
+            if (reqs.size() == 1) {
+                return new Outcome[]{Outcome.failed(translate(ex, reqs.get(0)))};
+            }
+            log.debug("Enrollment batch of {} rolled back, retrying one by one", reqs.size(), ex);
+            Outcome[] outcomes = new Outcome[reqs.size()];
+            for (int i = 0; i < reqs.size(); i++) {
+                outcomes[i] = commit(List.of(reqs.get(i)))[0];
+            }
+            return outcomes;
+        }
+    }
+
+    // Runs in the batch transaction; returns one outcome per request.
+    private Outcome[] insert(List<EnrollmentCreateRequest> reqs) {
+        Set<UUID> students = new HashSet<>(studentRepo.findExistingIds(
+                reqs.stream().map(EnrollmentCreateRequest::getStudentId).distinct().toList()));
+        Set<Key> taken = existingKeys(reqs);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        Outcome[] outcomes = new Outcome[reqs.size()];
+        List<Object[]> rows = new ArrayList<>(reqs.size());
+        for (int i = 0; i < reqs.size(); i++) {
+            EnrollmentCreateRequest req = reqs.get(i);
+            if (!students.contains(req.getStudentId())) {
+                outcomes[i] = Outcome.failed(new NotFoundException("Student", req.getStudentId()));
+            } else if (!taken.add(Key.of(req))) {
+                outcomes[i] = Outcome.failed(duplicate(req));
+            } else {
+                boolean seated = ledger.tryAdmit(new SectionKey(req.getCourseId(), req.getTerm(), req.getSection()));
+                EnrollmentStatus status = seated ? EnrollmentStatus.ENROLLED : EnrollmentStatus.WAITLISTED;
+                UUID id = UUID.randomUUID();
+                rows.add(new Object[]{id, req.getStudentId(), req.getCourseId(), req.getTerm(), req.getSection(),
+                        status.name(), now, now});
+                outcomes[i] = Outcome.created(new EnrollmentResponse(id, req.getStudentId(), req.getCourseId(),
+                        req.getTerm(), req.getSection(), status, now, now));
+            }
+        }
+
+        for (int from = 0; from < rows.size(); from += ROWS_PER_INSERT) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + ROWS_PER_INSERT, rows.size()));
+            jdbc.update(COLUMNS + String.join(", ", Collections.nCopies(chunk.size(), ROW)),
+                    chunk.stream().flatMap(Arrays::stream).toArray());
+        }
+        return outcomes;
+    }
+
+    // Live rows only, like uq_enrollments_live: a deleted enrollment does not block re-enrolling.
+    // schema: uq_enrollments_live (student_id leading)
+    private Set<Key> existingKeys(List<EnrollmentCreateRequest> reqs) {
+        List<UUID> studentIds = reqs.stream().map(EnrollmentCreateRequest::getStudentId).distinct().toList();
+        List<UUID> courseIds = reqs.stream().map(EnrollmentCreateRequest::getCourseId).distinct().toList();
+        String sql = "SELECT student_id, course_id, term, section FROM enrollments WHERE student_id IN ("
+                + placeholders(studentIds.size()) + ") AND course_id IN (" + placeholders(courseIds.size()) + ")"
+                + " AND deleted_at IS NULL";
+        List<Object> args = new ArrayList<>(studentIds);
+        args.addAll(courseIds);
+        return new HashSet<>(jdbc.query(sql, (rs, n) -> new Key(
+                rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getString(3), rs.getString(4)),
+                args.toArray()));
+    }
+
+    private static String placeholders(int n) {
+        return String.join(", ", Collections.nCopies(n, "?"));
+    }
+
+    private static RuntimeException translate(DataAccessException ex, EnrollmentCreateRequest req) {
+        if (ex instanceof DataIntegrityViolationException) {
+            String detail = ex.getMostSpecificCause().getMessage();
+            String lower = detail == null ? "" : detail.toLowerCase(Locale.ROOT);
+            if (lower.contains("uq_enrollments_live")) {
+                return duplicate(req);
+            }
+            if (lower.contains("fk_enrollments_student")) {
+                return new NotFoundException("Student", req.getStudentId());
+            }
+            if (lower.contains("fk_enrollments_course")) {
+                return new NotFoundException("Course", req.getCourseId());
+            }
+        }
+        return ex;
+    }
+
+    private static ConflictException duplicate(EnrollmentCreateRequest req) {
+        return new ConflictException("Student is already enrolled in section " + req.getTerm() + "/" + req.getSection());
+    }
+
+    // ---- lifecycle -------------------------------------------------------------------
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "enrollment-writer");
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        Submission late;
+        while ((late = queue.poll()) != null) {
+            late.result().completeExceptionally(new ServiceUnavailableException("Enrollments are not accepted while shutting down"));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the embedded web server, so no request reaches a
+     * stopped writer.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private record Submission(List<EnrollmentCreateRequest> requests, CompletableFuture<List<Outcome>> result) {
+    }
+
+    /**
+     * Result of one queued enrollment: either the created enrollment or the reason it was not
+     * created ({@link NotFoundException}, {@link ConflictException}, or an unexpected error).
+     *
+     * @param enrollment the created enrollment, or {@code null}
+     * @param error the failure, or {@code null}
+     */
+    public record Outcome(EnrollmentResponse enrollment, RuntimeException error) {
+
+        static Outcome created(EnrollmentResponse enrollment) {
+            return new Outcome(enrollment, null);
+        }
+
+        static Outcome failed(RuntimeException error) {
+            return new Outcome(null, error);
+        }
+
+        CompletableFuture<EnrollmentResponse> toFuture() {
+            return error == null ? CompletableFuture.completedFuture(enrollment) : CompletableFuture.failedFuture(error);
+        }
+    }
+
+    // One row of uq_enrollments_live.
+    private record Key(UUID studentId, UUID courseId, String term, String section) {
+
+        static Key of(EnrollmentCreateRequest req) {
+            return new Key(req.getStudentId(), req.getCourseId(), req.getTerm(), req.getSection());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Lock-free seat counter of one section.
+ *
+ * <p><b>State:</b> A single {@link AtomicLong} holds the seats taken in its lower 32 bits and
+ * a modification count in its upper 32 bits. Acquiring a seat is one compare-and-set that
+ * succeeds only while {@code taken < capacity}, so concurrent admissions can never push the
+ * count past the capacity. Every acquire and release also bumps the modification count.</p>
+ *
+ * <p><b>Pending:</b> Transactions that will change the seats of this section bracket their work
+ * with {@link #begin()} and {@link #end()}, calling {@code end()} only once they have committed
+ * or rolled back. The pending count is what lets {@link #reconcile(IntSupplier)} tell a quiet
+ * section from one whose database count is about to change.</p>
+ */
+final class SeatCounter {
+
+    /** Capacity of a section without a capacity row. */
+    static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final long TAKEN = 0xFFFF_FFFFL;
+    private static final long VERSION = 1L << 32;
+
+    private volatile int capacity;
+    private final AtomicLong state;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    SeatCounter(int capacity, int taken) {
+        this.capacity = capacity;
+        this.state = new AtomicLong(taken);
+    }
+
+    /**
+     * Takes a seat if one is free.
+     *
+     * @return {@code true} if a seat was taken, {@code false} if the section is full
+     */
+    boolean tryAcquire() {
+        return tryAcquire(capacity);
+    }
+
+    /**
+     * Takes a seat if one is free under the given capacity instead of the current one.
+     *
+     * @param capacity the capacity to check against
+     * @return {@code true} if a seat was taken, {@code false} if the section is full
+     */
+    boolean tryAcquire(int capacity) {
+        while (true) {
+            long s = state.get();
+            if (taken(s) >= capacity) {
+                return false;
+            }
+            if (state.compareAndSet(s, s + VERSION + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back a seat.
+     */
+    void release() {
+        while (true) {
+            long s = state.get();
+            int taken = taken(s);
+            // Never below zero, even if a release races a reconcile that already counted it.
+            if (state.compareAndSet(s, next(s, taken == 0 ? 0 : taken - 1))) {
+                return;
+            }
+        }
+    }
+
+    void begin() {
+        pending.incrementAndGet();
+    }
+
+    void end() {
+        pending.decrementAndGet();
+    }
+
+    /**
+     * Resets the seats taken to the committed database count, if the section is quiet.
+     *
+     * <p>The count is only applied when no transaction was pending before or after it was read
+     * and the state did not change in the meantime; otherwise the section is left alone and
+     * picked up by a later run. A transaction that commits while the count is read either was
+     * pending at one of the two checks or changed the state, so a stale count is never
+     * applied.</p>
+     *
+     * @param committed reads the number of seat-holding enrollments from the database
+     * @return the correction applied (new minus old count), or {@code null} if the section was busy
+     */
+    Integer reconcile(IntSupplier committed) {
+        long s = state.get();
+        if (pending.get() != 0) {
+            return null;
+        }
+        int actual = committed.getAsInt();
+        if (pending.get() != 0 || !state.compareAndSet(s, next(s, actual))) {
+            return null;
+        }
+        return actual - taken(s);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void capacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    int taken() {
+        return taken(state.get());
+    }
+
+    private static int taken(long state) {
+        return (int) (state & TAKEN);
+    }
+
+    // Same modification count plus one, with a new number of seats taken.
+    private static long next(long state, int taken) {
+        return (state & ~TAKEN) + VERSION + taken;
+    }
+}
@@ -0,0 +1,263 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.repository.CourseSectionRepository;
+import com.jeraldjamescapao.studentmanagementapi.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory seat counts per section, deciding between {@code ENROLLED} and {@code WAITLISTED}.
+ *
+ * <p><b>Admission:</b> Each section has its own lock-free {@link SeatCounter}, so admissions to
+ * different sections never contend and admissions to the same section only race on one
+ * compare-and-set. There is no global lock and no {@code SELECT ... FOR UPDATE} on a capacity
+ * or counter row: a registration rush on one section does not queue on the database.</p>
+ *
+ * <p><b>Transactions:</b> {@code tryAdmit} and {@link #vacate} must be called inside the
+ * transaction that writes the enrollment. A seat taken by a transaction that rolls back is
+ * given back; a seat vacated is only given back once the transaction has committed, so the
+ * counter never shows a free seat that the database does not have yet. {@code tryAdmit} must
+ * come before the transaction changes enrollments of that section, as it may load the
+ * counter.</p>
+ *
+ * <p><b>Loading:</b> A counter is created on first use from the section capacity
+ * ({@code course_sections}, unlimited when absent) and the committed count of seat-holding
+ * enrollments ({@link EnrollmentStatus#holdsSeat()}).</p>
+ *
+ * <p><b>Reconciliation:</b> Every {@code app.admission.reconcile-interval} the counters are
+ * compared with the database and corrected, and capacities are re-read. Sections with
+ * admissions in flight are skipped for that run (see {@link SeatCounter#reconcile}). This
+ * repairs drift from writes that bypassed the ledger, e.g. SQL run by hand.</p>
+ *
+ * <p><b>Scope:</b> Counters live in this JVM. Running several instances against one database
+ * would let each admit up to the capacity; the ledger assumes a single writer instance, as the
+ * embedded database does.</p>
+ *
+ * @see SeatCounter
+ * @see SectionKey
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLedger {
+
+    private static final List<EnrollmentStatus> SEAT_HOLDING = Arrays.stream(EnrollmentStatus.values())
+            .filter(EnrollmentStatus::holdsSeat)
+            .toList();
+
+    private final CourseSectionRepository sectionRepo;
+    private final EnrollmentRepository enrollmentRepo;
+
+    private final ConcurrentMap<SectionKey, SeatCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a seat in the section if one is free. Must be called inside a transaction; the
+     * seat is given back if that transaction does not commit.
+     *
+     * @param key the section
+     * @return {@code true} if the enrollment gets a seat, {@code false} if it must be waitlisted
+     */
+    public boolean tryAdmit(SectionKey key) {
+        return admit(key, SeatCounter::tryAcquire);
+    }
+
+    /**
+     * Takes a seat in the section if one is free under a capacity that is about to be set.
+     * Must be called inside the transaction that changes the capacity, before it is written;
+     * the seat is given back if that transaction does not commit.
+     *
+     * @param key the section
+     * @param capacity the new capacity
+     * @return {@code true} if a seat was taken, {@code false} if the section is full
+     */
+    public boolean tryAdmit(SectionKey key, int capacity) {
+        return admit(key, counter -> counter.tryAcquire(capacity));
+    }
+
+    private boolean admit(SectionKey key, Predicate<SeatCounter> acquire) {
+        requireTransaction();
+        SeatCounter counter = counter(key);
+        counter.begin();
+        boolean seated = acquire.test(counter);
+        onCompletion(counter, committed -> {
+            if (seated && !committed) {
+                counter.release();
+            }
+        });
+        return seated;
+    }
+
+    /**
+     * Frees a seat in the section once the current transaction commits.
+     *
+     * @param key the section
+     */
+    public void vacate(SectionKey key) {
+        requireTransaction();
+        // Not loaded here: loading now would count this transaction's own uncommitted change.
+        // A later load counts the committed rows; one racing this commit still counts the seat
+        // as taken, which only waitlists early until the next reconciliation.
+        SeatCounter counter = counters.get(key);
+        if (counter == null) {
+            return;
+        }
+        counter.begin();
+        onCompletion(counter, committed -> {
+            if (committed) {
+                counter.release();
+            }
+        });
+    }
+
+    /**
+     * Whether a seat this transaction is giving up may pass to the waitlist: {@code false} while
+     * the section would still hold at least its capacity without it, e.g. after the capacity
+     * was lowered.
+     *
+     * @param key the section
+     * @return {@code true} if the seat may be handed over, {@code false} if it must be vacated
+     */
+    public boolean hasRoomAfterRelease(SectionKey key) {
+        SeatCounter counter = counters.get(key);
+        if (counter != null) {
+            // The counter still includes the seat being given up.
+            return counter.taken() - 1 < counter.capacity();
+        }
+        // The database count already excludes this transaction's own change.
+        return countTaken(key) < capacityOf(key);
+    }
+
+    /**
+     * Applies a new capacity once the current transaction commits.
+     *
+     * @param key the section
+     * @param capacity the new capacity
+     */
+    public void capacityChanged(SectionKey key, int capacity) {
+        requireTransaction();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                SeatCounter counter = counters.get(key);
+                if (counter != null) {
+                    counter.capacity(capacity);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the current seats of a section. Sections that have not been admitted to yet are
+     * read from the database without creating a counter.
+     *
+     * @param key the section
+     * @return capacity ({@code null} when unlimited) and seats taken
+     */
+    public Seats seats(SectionKey key) {
+        SeatCounter counter = counters.get(key);
+        if (counter != null) {
+            return Seats.of(counter.capacity(), counter.taken());
+        }
+        return Seats.of(capacityOf(key), countTaken(key));
+    }
+
+    /**
+     * Corrects every counter against the database.
+     */
+    @Scheduled(fixedDelayString = "${app.admission.reconcile-interval:PT1M}",
+            initialDelayString = "${app.admission.reconcile-interval:PT1M}")
+    public void reconcile() {
+        int busy = 0;
+        for (var entry : counters.entrySet()) {
+            SectionKey key = entry.getKey();
+            SeatCounter counter = entry.getValue();
+            counter.capacity(capacityOf(key));
+            Integer drift = counter.reconcile(() -> countTaken(key));
+            if (drift == null) {
+                busy++;
+            } else if (drift != 0) {
+                log.warn("Seat count of section {} was off by {}; corrected to {}", key, drift, counter.taken());
+            }
+        }
+        if (busy > 0) {
+            log.debug("Skipped {} busy sections during seat reconciliation", busy);
+        }
+    }
+
+    private SeatCounter counter(SectionKey key) {
+        SeatCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        // Loaded outside the map so the query holds no map lock. Until a counter is mapped no
+        // admission to this section can commit, so the loser of a race discards an equal count.
+        SeatCounter loaded = new SeatCounter(capacityOf(key), countTaken(key));
+        counter = counters.putIfAbsent(key, loaded);
+        return counter != null ? counter : loaded;
+    }
+
+    private int capacityOf(SectionKey key) {
+        return sectionRepo.findCapacity(key.courseId(), key.term(), key.section())
+                .orElse(SeatCounter.UNLIMITED);
+    }
+
+    private int countTaken(SectionKey key) {
+        return Math.toIntExact(enrollmentRepo.countByCourseIdAndTermAndSectionAndStatusIn(
+                key.courseId(), key.term(), key.section(), SEAT_HOLDING));
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Seat changes must run inside a transaction");
+        }
+    }
+
+    private static void onCompletion(SeatCounter counter, CompletionAction action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    action.run(status == STATUS_COMMITTED);
+                } finally {
+                    counter.end();
+                }
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface CompletionAction {
+        void run(boolean committed);
+    }
+
+    /**
+     * Seats of one section.
+     *
+     * @param capacity the capacity, or {@code null} when unlimited
+     * @param taken the seats taken
+     */
+    public record Seats(Integer capacity, int taken) {
+
+        static Seats of(int capacity, int taken) {
+            return new Seats(capacity == SeatCounter.UNLIMITED ? null : capacity, taken);
+        }
+
+        /**
+         * Free seats, or {@code null} when unlimited.
+         */
+        public Integer available() {
+            return capacity == null ? null : Math.max(capacity - taken, 0);
+        }
+    }
+}
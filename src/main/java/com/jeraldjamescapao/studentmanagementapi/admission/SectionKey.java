@@ -0,0 +1,31 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.Enrollment;
+
+import java.util.UUID;
+
+/**
+ * Identifies one offering of a course: the (course, term, section) an enrollment is made in.
+ *
+ * <p>Term and section are compared exactly, as by the {@code uq_enrollments_live} and
+ * {@code uq_course_sections} constraints.</p>
+ *
+ * @param courseId the course id
+ * @param term the academic term, e.g. {@code 2025-FALL}
+ * @param section the section token, e.g. {@code A}
+ */
+public record SectionKey(UUID courseId, String term, String section) {
+
+    /**
+     * Returns the section of an enrollment. Reads only the id of the lazy {@code course}
+     * association, which does not load the course.
+     */
+    public static SectionKey of(Enrollment e) {
+        return new SectionKey(e.getCourse().getId(), e.getTerm(), e.getSection());
+    }
+
+    @Override
+    public String toString() {
+        return courseId + "/" + term + "/" + section;
+    }
+}
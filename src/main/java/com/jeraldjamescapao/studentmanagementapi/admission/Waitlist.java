@@ -0,0 +1,100 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.Enrollment;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * Moves {@code WAITLISTED} enrollments into free seats, oldest first.
+ *
+ * <p><b>Hand-over:</b> A seat given up by a status change, a move or a deletion passes to the
+ * head of the waitlist in the same transaction, so the seat count does not change. It is
+ * vacated instead when nobody is waiting, or when the section holds more seats than its
+ * capacity, e.g. after the capacity was lowered.</p>
+ *
+ * <p><b>Capacity:</b> Raising a capacity promotes as many waiting enrollments as the new seats
+ * allow. Each promotion takes its seat through {@link SeatLedger#tryAdmit(SectionKey, int)}, so
+ * concurrent admissions never push the section past the capacity.</p>
+ *
+ * <p><b>Concurrency:</b> Promotions are guarded updates. When a concurrent transaction has
+ * already promoted the head, the next waiting enrollment is tried.</p>
+ *
+ * <p><b>Transactions:</b> Every method must be called inside the transaction that makes the
+ * change, like the {@link SeatLedger} methods it calls.</p>
+ *
+ * @see SeatLedger
+ */
+@Component
+@RequiredArgsConstructor
+public class Waitlist {
+
+    private final EnrollmentRepository enrollmentRepo;
+    private final SeatLedger ledger;
+
+    /**
+     * Gives a seat the current transaction is giving up to the head of the waitlist, or back to
+     * the ledger.
+     *
+     * @param key the section of the seat
+     */
+    public void handOver(SectionKey key) {
+        if (!ledger.hasRoomAfterRelease(key)) {
+            ledger.vacate(key);
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        while (true) {
+            Optional<Enrollment> head = head(key);
+            if (head.isEmpty()) {
+                ledger.vacate(key);
+                return;
+            }
+            if (enrollmentRepo.promoteIfWaitlisted(head.get().getId(), now) == 1) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Promotes waiting enrollments into the seats a new capacity opens. Must be called before the
+     * capacity is written, as it may load the section's counter.
+     *
+     * @param key the section
+     * @param capacity the new capacity
+     * @return the number of enrollments promoted
+     */
+    public int fill(SectionKey key, int capacity) {
+        OffsetDateTime now = OffsetDateTime.now();
+        int promoted = 0;
+        // A seat is only taken once someone is waiting for it, and kept for the next head when
+        // a concurrent hand-over promoted this one first.
+        boolean seated = false;
+        while (true) {
+            Optional<Enrollment> head = head(key);
+            if (head.isEmpty()) {
+                break;
+            }
+            if (!seated && !(seated = ledger.tryAdmit(key, capacity))) {
+                break;
+            }
+            if (enrollmentRepo.promoteIfWaitlisted(head.get().getId(), now) == 1) {
+                promoted++;
+                seated = false;
+            }
+        }
+        if (seated) {
+            ledger.vacate(key);
+        }
+        return promoted;
+    }
+
+    private Optional<Enrollment> head(SectionKey key) {
+        return enrollmentRepo.findFirstByCourseIdAndTermAndSectionAndStatusOrderByCreatedAtAscIdAsc(
+                key.courseId(), key.term(), key.section(), EnrollmentStatus.WAITLISTED);
+    }
+}
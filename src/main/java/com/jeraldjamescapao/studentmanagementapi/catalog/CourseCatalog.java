@@ -0,0 +1,182 @@
+package com.jeraldjamescapao.studentmanagementapi.catalog;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+import com.jeraldjamescapao.studentmanagementapi.event.CourseChangedEvent;
+import com.jeraldjamescapao.studentmanagementapi.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable in-memory snapshot of the course catalog.
+ *
+ * <p><b>Reads:</b> Lookups by id, by case-insensitive code and the list of active courses are
+ * answered from the current {@link Snapshot} through a single volatile read. They never query
+ * the database and never take a lock.</p>
+ *
+ * <p><b>Writes:</b> Copy-on-write. Each committed {@link CourseChangedEvent} builds a new
+ * snapshot from the current one and publishes it with one reference swap, so readers see
+ * either the old or the new catalog, never a partial update. Writers are serialized; an event
+ * older than the entry it would replace ({@code updatedAt}) is ignored, so after-commit
+ * callbacks that run out of order cannot bring back stale data.</p>
+ *
+ * <p><b>Loading:</b> Preloaded once the application is ready. Readiness only switches to
+ * {@code ACCEPTING_TRAFFIC} after the {@link ApplicationReadyEvent} listeners have returned,
+ * so the catalog is complete before readiness reports UP. A read that arrives earlier loads
+ * the catalog itself.</p>
+ *
+ * <p><b>Sharing:</b> Returned {@link CourseResponse} instances are shared by all readers and
+ * must not be modified.</p>
+ *
+ * @see CourseChangedEvent
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCatalog {
+
+    private final CourseRepository courseRepo;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Finds a course by id.
+     */
+    public Optional<CourseResponse> findById(UUID id) {
+        return Optional.ofNullable(snapshot().byId().get(id));
+    }
+
+    /**
+     * Finds a course by code, ignoring case.
+     */
+    public Optional<CourseResponse> findByCode(String code) {
+        return Optional.ofNullable(snapshot().byCode().get(fold(code)));
+    }
+
+    /**
+     * Returns all courses, ordered by code.
+     */
+    public List<CourseResponse> all() {
+        return snapshot().all();
+    }
+
+    /**
+     * Returns the active courses, ordered by code.
+     */
+    public List<CourseResponse> active() {
+        return snapshot().active();
+    }
+
+    /**
+     * Loads the catalog before the application reports ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        snapshot();
+    }
+
+    /**
+     * Applies a committed course change by swapping in a new snapshot.
+     */
+    @TransactionalEventListener
+    public void on(CourseChangedEvent e) {
+        synchronized (writeLock) {
+            // Not loaded yet: the load reads after this commit and will include the change.
+            if (snapshot != null) {
+                snapshot = e.deleted() ? snapshot.without(e.id()) : snapshot.with(e.course());
+            }
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (snapshot == null) {
+                long start = System.nanoTime();
+                snapshot = Snapshot.of(courseRepo.findAllResponses());
+                log.info("Course catalog loaded with {} courses in {} ms", snapshot.all().size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return snapshot;
+        }
+    }
+
+    private static String fold(String code) {
+        return code.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One immutable version of the catalog.
+     *
+     * @param byId courses by id
+     * @param byCode courses by case-folded code
+     * @param all all courses, ordered by code
+     * @param active active courses, ordered by code
+     */
+    record Snapshot(Map<UUID, CourseResponse> byId,
+                    Map<String, CourseResponse> byCode,
+                    List<CourseResponse> all,
+                    List<CourseResponse> active) {
+
+        private static final Comparator<CourseResponse> BY_CODE =
+                Comparator.comparing(CourseResponse::getCode, String.CASE_INSENSITIVE_ORDER);
+
+        static Snapshot of(Collection<CourseResponse> courses) {
+            Map<UUID, CourseResponse> byId = new HashMap<>();
+            Map<String, CourseResponse> byCode = new HashMap<>();
+            for (CourseResponse c : courses) {
+                byId.put(c.getId(), c);
+                byCode.put(fold(c.getCode()), c);
+            }
+            List<CourseResponse> all = new ArrayList<>(courses);
+            all.sort(BY_CODE);
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byCode), List.copyOf(all),
+                    all.stream().filter(CourseResponse::isActive).toList());
+        }
+
+        Snapshot with(CourseResponse course) {
+            CourseResponse existing = byId.get(course.getId());
+            if (existing != null && isOlder(course, existing)) {
+                return this;
+            }
+            Map<UUID, CourseResponse> next = new HashMap<>(byId);
+            next.put(course.getId(), course);
+            return of(next.values());
+        }
+
+        Snapshot without(UUID id) {
+            if (!byId.containsKey(id)) {
+                return this;
+            }
+            Map<UUID, CourseResponse> next = new HashMap<>(byId);
+            next.remove(id);
+            return of(next.values());
+        }
+
+        private static boolean isOlder(CourseResponse candidate, CourseResponse existing) {
+            // A never-updated course (updatedAt null) is older than any update of it.
+            OffsetDateTime a = candidate.getUpdatedAt();
+            OffsetDateTime b = existing.getUpdatedAt();
+            return b != null && (a == null || a.isBefore(b));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.jeraldjamescapao.studentmanagementapi.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the application's in-process caches.
+ *
+ * <p><b>Caches:</b></p>
+ * <ul>
+ *   <li>{@link #STUDENTS} – {@code StudentResponse} by student id, bounded in size and TTL
+ *       via {@code app.cache.students.spec} (Caffeine spec syntax).</li>
+ * </ul>
+ *
+ * <p><b>Transactions:</b> The Caffeine manager is wrapped in a
+ * {@link TransactionAwareCacheManagerProxy}, so evictions issued inside a transaction are
+ * applied only after it commits. A rolled-back update therefore never evicts an entry.</p>
+ *
+ * <p><b>Reads:</b> Cached reads use {@code @Cacheable(sync = true)}. A synchronized load
+ * bypasses the proxy's deferral and runs as an atomic Caffeine compute, and an eviction of
+ * the same key waits for a compute in flight. Without it, a reader's put would be deferred
+ * to the end of its own transaction and could land after a writer's eviction, keeping a
+ * stale entry for the whole TTL.</p>
+ *
+ * <p><b>Metrics:</b> Statistics are recorded ({@code recordStats} in the spec) and bound by
+ * Spring Boot Actuator as {@code cache.gets}, {@code cache.puts}, {@code cache.evictions}
+ * and {@code cache.size}, tagged with {@code cache=students}.</p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Cache of {@code StudentResponse} keyed by student id. */
+    public static final String STUDENTS = "students";
+
+    @Bean
+    CacheManager cacheManager(@Value("${app.cache.students.spec}") String studentsSpec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(STUDENTS);
+        caffeine.setCaffeineSpec(CaffeineSpec.parse(studentsSpec));
+        caffeine.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
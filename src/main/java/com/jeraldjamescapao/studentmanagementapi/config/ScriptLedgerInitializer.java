@@ -0,0 +1,131 @@
+package com.jeraldjamescapao.studentmanagementapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Runs {@code schema.sql} and {@code data.sql} only when they changed since the last boot.
+ *
+ * <p><b>Ledger:</b> Every applied script is recorded in {@value #LEDGER} with the MD5 checksum
+ * of its content, a version that increases with each changed content, the time it was applied
+ * and how long it ran. On startup, a script whose checksum matches its ledger row is skipped;
+ * a new or edited script runs once and its row is updated. Both scripts are idempotent, so
+ * re-running an edited one against an existing database is safe.</p>
+ *
+ * <p><b>Why:</b> With {@code spring.sql.init.mode: always} on its own, every boot re-executed
+ * the full schema and every {@code INSERT ... WHERE NOT EXISTS} seed, which costs startup time
+ * and takes table locks on a large database while other instances are serving.</p>
+ *
+ * <p><b>Startup steps:</b> Each phase is recorded as an {@code app.sql.init.scripts} startup
+ * step, tagged with the applied and skipped scripts, which {@code StartupTimingReporter}
+ * reports.</p>
+ *
+ * @see SqlInitConfig
+ */
+@Slf4j
+public class ScriptLedgerInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+    /** Table holding one row per applied script. */
+    public static final String LEDGER = "sql_script_history";
+
+    private static final String CREATE_LEDGER = """
+            CREATE TABLE IF NOT EXISTS sql_script_history (
+                script       VARCHAR(255) PRIMARY KEY,
+                version      INT NOT NULL,
+                checksum     VARCHAR(32) NOT NULL,
+                applied_at   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                execution_ms BIGINT NOT NULL
+            )""";
+
+    private final JdbcTemplate jdbc;
+    private final ApplicationStartup applicationStartup;
+    private boolean ledgerReady;
+
+    public ScriptLedgerInitializer(DataSource dataSource,
+                                   SqlInitializationProperties properties,
+                                   ApplicationStartup applicationStartup) {
+        super(dataSource, properties);
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Runs the scripts of one phase (schema or data) that are not in the ledger with their
+     * current checksum.
+     */
+    @Override
+    protected void runScripts(Scripts scripts) {
+        StartupStep step = applicationStartup.start("app.sql.init.scripts");
+        ensureLedger();
+        Map<String, String> applied = jdbc.query("SELECT script, checksum FROM " + LEDGER,
+                        (rs, n) -> Map.entry(rs.getString(1), rs.getString(2)))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        List<String> ran = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+
+        for (Resource script : scripts) {
+            String name = script.getFilename();
+            String checksum = checksum(script);
+            if (checksum.equals(applied.get(name))) {
+                skipped.add(name);
+                continue;
+            }
+            long start = System.nanoTime();
+            super.runScripts(new Scripts(List.of(script))
+                    .continueOnError(scripts.isContinueOnError())
+                    .separator(scripts.getSeparator())
+                    .encoding(scripts.getEncoding()));
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            record(name, checksum, millis);
+            ran.add(name);
+            log.info("Applied {} (checksum {}) in {} ms", name, checksum, millis);
+        }
+
+        step.tag("applied", String.join(",", ran)).tag("skipped", String.join(",", skipped)).end();
+        if (!skipped.isEmpty()) {
+            log.info("Skipped unchanged scripts {}", skipped);
+        }
+    }
+
+    private void ensureLedger() {
+        if (!ledgerReady) {
+            jdbc.execute(CREATE_LEDGER);
+            ledgerReady = true;
+        }
+    }
+
+    private void record(String script, String checksum, long millis) {
+        int updated = jdbc.update("UPDATE " + LEDGER + " SET version = version + 1, checksum = ?, "
+                + "applied_at = CURRENT_TIMESTAMP, execution_ms = ? WHERE script = ?", checksum, millis, script);
+        if (updated == 0) {
+            jdbc.update("INSERT INTO " + LEDGER + " (script, version, checksum, execution_ms) VALUES (?, 1, ?, ?)",
+                    script, checksum, millis);
+        }
+    }
+
+    private static String checksum(Resource script) {
+        try (InputStream in = script.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(StreamUtils.copyToByteArray(in));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read " + script, ex);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.jeraldjamescapao.studentmanagementapi.config;
+
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration of database initialization from {@code schema.sql} and {@code data.sql}.
+ *
+ * <p><b>Initializer:</b> Replaces Spring Boot's {@link SqlDataSourceScriptDatabaseInitializer}
+ * with a {@link ScriptLedgerInitializer}, which skips scripts that are unchanged since they
+ * were last applied. Boot's auto-configuration backs off when this bean is present, while
+ * {@code spring.sql.init.*} settings and the ordering relative to JPA
+ * ({@code spring.jpa.defer-datasource-initialization}) still apply; with
+ * {@code spring.sql.init.mode: never} nothing runs.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(SqlInitializationProperties.class)
+public class SqlInitConfig {
+
+    @Bean
+    ScriptLedgerInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
+                                                                SqlInitializationProperties properties,
+                                                                ApplicationStartup applicationStartup) {
+        return new ScriptLedgerInitializer(dataSource, properties, applicationStartup);
+    }
+}
@@ -0,0 +1,49 @@
+package com.jeraldjamescapao.studentmanagementapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@code virtual} profile, which serves requests on virtual threads.
+ *
+ * <p><b>Threads:</b> The profile sets {@code spring.threads.virtual.enabled}, so Tomcat
+ * request handling, MVC async work (streaming exports), {@code @Async} and
+ * {@code @Scheduled} tasks all run on virtual threads instead of bounded platform pools.</p>
+ *
+ * <p><b>Database concurrency:</b> The connection pool becomes the only limit on concurrent
+ * database work. The pool's {@link HikariDataSource} is wrapped in a
+ * {@link ConcurrencyLimitingDataSource} with one permit per pooled connection
+ * ({@code spring.datasource.hikari.maximum-pool-size}) and the pool's connection timeout, so
+ * surplus requests wait in a fair queue instead of piling up inside the pool.</p>
+ *
+ * <p><b>Activation:</b> {@code --spring.profiles.active=virtual}.</p>
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    // HikariConfig leaves maximumPoolSize at -1 until the pool starts, then defaults to 10.
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor databaseConcurrencyLimiter() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int poolSize = hikari.getMaximumPoolSize() > 0
+                            ? hikari.getMaximumPoolSize()
+                            : HIKARI_DEFAULT_POOL_SIZE;
+                    return new ConcurrencyLimitingDataSource(hikari, poolSize,
+                            Duration.ofMillis(hikari.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package com.jeraldjamescapao.studentmanagementapi.controller;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.common.PageDto;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.SectionCapacityRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.SectionSeatsResponse;
+import com.jeraldjamescapao.studentmanagementapi.service.CourseService;
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST controller that exposes API endpoints for the course catalog.
+ *
+ * <p><b>Usage:</b> Lists and looks up courses, creates, updates and deletes them, and manages
+ * the seat capacity of their sections.
+ * Delegates to {@link CourseService}; reads are answered from the in-memory catalog and do
+ * not reach the database.</p>
+ *
+ * <p><b>Base Path:</b> {@code /api/v1/courses}</p>
+ *
+ * @see CourseService
+ * @see CourseResponse
+ * @see GlobalExceptionHandler
+ */
+@RestController
+@RequestMapping("/api/v1/courses")
+@RequiredArgsConstructor
+@Tag(name = "Courses", description = "Operations for managing the course catalog (v1.0)")
+public class CourseController {
+
+    private final CourseService service;
+
+    /**
+     * Retrieves a paginated list of courses ordered by code.
+     *
+     * <p><b>Parameters:</b></p>
+     * <ul>
+     *   <li>{@code active} – optional; {@code true} for the catalog offered to students,
+     *       {@code false} for retired courses</li>
+     *   <li>{@code pageable} – page and size (sorting is fixed to the course code)</li>
+     * </ul>
+     */
+    @GetMapping
+    @Operation(summary = "List courses", description = "Returns a pageable list of courses ordered by code, optionally filtered by active state.")
+    public PageDto<CourseResponse> list(@RequestParam(required = false) Boolean active,
+                                        @ParameterObject Pageable pageable) {
+        return PageDto.from(service.list(active, pageable));
+    }
+
+    /**
+     * Retrieves a single course by ID.
+     *
+     * @param id the unique course ID
+     * @return the corresponding {@link CourseResponse}
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get course by ID", description = "Fetch a single course by its unique identifier.")
+    public CourseResponse get(@PathVariable UUID id) {
+        return service.get(id);
+    }
+
+    /**
+     * Retrieves a single course by its code.
+     *
+     * <p><b>Example:</b> {@code GET /api/v1/courses/by-code/cs101}; the code is matched
+     * case-insensitively.</p>
+     *
+     * @param code the course code
+     * @return the corresponding {@link CourseResponse}
+     */
+    @GetMapping("/by-code/{code}")
+    @Operation(summary = "Get course by code", description = "Fetch a single course by its code, ignoring case.")
+    public CourseResponse getByCode(@PathVariable String code) {
+        return service.getByCode(code);
+    }
+
+    /**
+     * Creates a new course.
+     *
+     * @param req the course data to create
+     * @return the newly created {@link CourseResponse}
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Create course", description = "Creates a new course; the code must be unique ignoring case.")
+    public CourseResponse create(@Valid @RequestBody CourseCreateRequest req) {
+        return service.create(req);
+    }
+
+    /**
+     * Replaces an existing course.
+     *
+     * @param id the course ID to update
+     * @param req the new course state
+     * @return the updated {@link CourseResponse}
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update course", description = "Replaces an existing course.")
+    public CourseResponse update(@PathVariable UUID id, @Valid @RequestBody CourseUpdateRequest req) {
+        return service.update(id, req);
+    }
+
+    /**
+     * Deletes a course.
+     *
+     * <p><b>Behavior:</b> Blocked while the course has enrollments; retire such courses with
+     * {@code active=false}. Otherwise the course is soft-deleted.</p>
+     *
+     * @param id the course ID to delete
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete course", description = "Deletes a course if no linked enrollments exist.")
+    public void delete(@PathVariable UUID id) {
+        service.delete(id);
+    }
+
+    /**
+     * Retrieves the seats of one course section.
+     *
+     * <p><b>Example:</b> {@code GET /api/v1/courses/{id}/sections/2025-FALL/A}</p>
+     *
+     * @param id the course ID
+     * @param term the academic term
+     * @param section the section token
+     * @return the capacity and seats taken as {@link SectionSeatsResponse}
+     */
+    @GetMapping("/{id}/sections/{term}/{section}")
+    @Operation(summary = "Get section seats", description = "Returns the capacity and taken seats of a course section; capacity is null when unlimited.")
+    public SectionSeatsResponse getSection(@PathVariable UUID id,
+                                           @PathVariable String term,
+                                           @PathVariable String section) {
+        return service.getSection(id, term, section);
+    }
+
+    /**
+     * Sets the seat capacity of one course section.
+     *
+     * <p><b>Behavior:</b> Enrollments beyond the capacity are waitlisted; raising the capacity
+     * promotes waitlisted students into the new seats. Lowering the capacity does not remove
+     * students who already hold a seat.</p>
+     *
+     * @param id the course ID
+     * @param term the academic term
+     * @param section the section token
+     * @param req the new capacity
+     * @return the updated {@link SectionSeatsResponse}
+     */
+    @PutMapping("/{id}/sections/{term}/{section}")
+    @Operation(summary = "Set section capacity", description = "Sets the seat capacity of a course section.")
+    public SectionSeatsResponse setSectionCapacity(@PathVariable UUID id,
+                                                   @PathVariable String term,
+                                                   @PathVariable String section,
+                                                   @Valid @RequestBody SectionCapacityRequest req) {
+        return service.setSectionCapacity(id, term, section, req);
+    }
+}
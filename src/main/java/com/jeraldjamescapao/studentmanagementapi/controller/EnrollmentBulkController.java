@@ -0,0 +1,57 @@
+package com.jeraldjamescapao.studentmanagementapi.controller;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterResponse;
+import com.jeraldjamescapao.studentmanagementapi.service.EnrollmentService;
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for bulk operations on the enrollment collection.
+ *
+ * <p><b>Usage:</b> Exposes custom collection methods in the {@code /enrollments:verb} style
+ * next to {@link EnrollmentController}. Delegates to {@link EnrollmentService}.</p>
+ *
+ * <p><b>Base Path:</b> {@code /api/v1}</p>
+ *
+ * <p><b>Results:</b> A roster answers {@code 200 OK} with an outcome per student. Errors that
+ * concern the whole request (unknown or retired course, empty or oversized roster, full write
+ * queue) are mapped by {@link GlobalExceptionHandler}.</p>
+ *
+ * @see EnrollmentController
+ * @see EnrollmentService
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Enrollments", description = "Operations for enrolling students in course sections (v1.0)")
+public class EnrollmentBulkController {
+
+    private final EnrollmentService service;
+
+    /**
+     * Enrolls a cohort of students into one course section.
+     *
+     * <p><b>Behavior:</b> Students are admitted in list order until the section is full and
+     * waitlisted after that. Unknown students and students already in the section are
+     * reported per student while the rest are inserted in one transaction.</p>
+     *
+     * @param req the section and student ids (at most {@link EnrollmentRosterRequest#MAX_STUDENTS})
+     * @return an {@link EnrollmentRosterResponse} with one result per student, in request order
+     */
+    @PostMapping("/enrollments:roster")
+    @Operation(summary = "Enroll a roster",
+            description = "Enrolls up to 1000 students into one section at once and returns a per-student result.")
+    public CompletableFuture<EnrollmentRosterResponse> enrollRoster(@Valid @RequestBody EnrollmentRosterRequest req) {
+        return service.enrollRoster(req);
+    }
+}
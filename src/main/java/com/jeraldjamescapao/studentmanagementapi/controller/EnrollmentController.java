@@ -0,0 +1,167 @@
+package com.jeraldjamescapao.studentmanagementapi.controller;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.common.PageDto;
+import com.jeraldjamescapao.studentmanagementapi.dto.common.SliceDto;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentDetailResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.service.EnrollmentService;
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller that exposes API endpoints for enrolling students in course sections.
+ *
+ * <p><b>Usage:</b> Admits students to sections, lists and reads enrollments with their course
+ * and student, and changes or deletes them. Delegates to {@link EnrollmentService}, which decides between {@code ENROLLED} and
+ * {@code WAITLISTED} from the section's seat capacity.</p>
+ *
+ * <p><b>Base Path:</b> {@code /api/v1/enrollments}</p>
+ *
+ * @see EnrollmentService
+ * @see EnrollmentResponse
+ * @see EnrollmentDetailResponse
+ * @see GlobalExceptionHandler
+ */
+@RestController
+@RequestMapping("/api/v1/enrollments")
+@RequiredArgsConstructor
+@Tag(name = "Enrollments", description = "Operations for enrolling students in course sections (v1.0)")
+public class EnrollmentController {
+
+    private final EnrollmentService service;
+
+    /**
+     * Retrieves a paginated list of enrollments.
+     *
+     * <p><b>Parameters:</b></p>
+     * <ul>
+     *   <li>{@code studentId}, {@code courseId}, {@code status} – optional filters, at most
+     *       one per request</li>
+     *   <li>{@code pageable} – pagination configuration (page, size, sort)</li>
+     * </ul>
+     *
+     * <p><b>Returns:</b> A {@link PageDto} of {@link EnrollmentDetailResponse} objects, each
+     * with the course code and title and the student name. The page costs the same two
+     * statements for any size. Add {@code withTotal=false} to skip the count (see
+     * {@link #listSlice(UUID, UUID, EnrollmentStatus, Pageable)}).</p>
+     */
+    @GetMapping
+    @Operation(summary = "List enrollments", description = "Returns a pageable list of enrollments with course and student summary, optionally filtered by student, course or status.")
+    public PageDto<EnrollmentDetailResponse> list(
+            @RequestParam(required = false) UUID studentId,
+            @RequestParam(required = false) UUID courseId,
+            @RequestParam(required = false) EnrollmentStatus status,
+            @ParameterObject Pageable pageable) {
+        return PageDto.from(service.list(studentId, courseId, status, pageable));
+    }
+
+    /**
+     * Retrieves a paginated list of enrollments without computing totals.
+     *
+     * <p>Selected when the request carries {@code withTotal=false}. Accepts the same filters
+     * and pageable parameters as {@link #list(UUID, UUID, EnrollmentStatus, Pageable)}.</p>
+     *
+     * <p><b>Returns:</b> A {@link SliceDto} with {@code hasNext} instead of
+     * {@code totalElements}/{@code totalPages}; no {@code COUNT} query is run.</p>
+     */
+    @GetMapping(params = "withTotal=false")
+    @Operation(summary = "List enrollments (no totals)", description = "Returns a slice of enrollments without total counts; pass withTotal=false.")
+    public SliceDto<EnrollmentDetailResponse> listSlice(
+            @RequestParam(required = false) UUID studentId,
+            @RequestParam(required = false) UUID courseId,
+            @RequestParam(required = false) EnrollmentStatus status,
+            @ParameterObject Pageable pageable) {
+        return SliceDto.from(service.listSlice(studentId, courseId, status, pageable));
+    }
+
+    /**
+     * Retrieves a single enrollment by its unique identifier.
+     *
+     * @param id the enrollment ID
+     * @return the {@link EnrollmentDetailResponse}
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get enrollment by ID", description = "Fetches an enrollment with its course and student summary.")
+    public EnrollmentDetailResponse get(@PathVariable UUID id) {
+        return service.get(id);
+    }
+
+    /**
+     * Enrolls a student in a course section.
+     *
+     * <p><b>Behavior:</b> The enrollment is {@code ENROLLED} while the section has free seats
+     * and {@code WAITLISTED} once it is full; a {@code status} in the request is ignored. The
+     * request is answered asynchronously once its batch has been written; {@code 503} with
+     * {@code Retry-After} means the write queue is full.</p>
+     *
+     * @param req the student, course, term and section
+     * @return the newly created {@link EnrollmentResponse}
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Enroll student", description = "Enrolls a student in a course section, or waitlists them when the section is full.")
+    public CompletableFuture<EnrollmentResponse> create(@Valid @RequestBody EnrollmentCreateRequest req) {
+        return service.create(req);
+    }
+
+    /**
+     * Changes the {@link EnrollmentStatus} of an enrollment.
+     *
+     * <p><b>Example:</b> {@code PATCH /api/v1/enrollments/{id}/status?status=DROPPED}; the freed
+     * seat goes to the first waitlisted student of the section.</p>
+     *
+     * @param id the enrollment ID
+     * @param status the new {@link EnrollmentStatus} value
+     * @return the updated {@link EnrollmentResponse}
+     */
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Change enrollment status", description = "Updates the status of an enrollment; taking a seat fails with 409 when the section is full.")
+    public EnrollmentResponse changeStatus(@PathVariable UUID id,
+                                           @RequestParam(name = "status") EnrollmentStatus status) {
+        return service.changeStatus(id, status);
+    }
+
+    /**
+     * Replaces the term, section and status of an enrollment.
+     *
+     * <p><b>Behavior:</b> Moving a seat-holding enrollment to a full section fails with
+     * {@code 409}; the seat it leaves goes to the old section's waitlist.</p>
+     *
+     * @param id the enrollment ID
+     * @param req the new term, section and status
+     * @return the updated {@link EnrollmentResponse}
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update enrollment", description = "Replaces term, section and status of an enrollment.")
+    public EnrollmentResponse update(@PathVariable UUID id, @Valid @RequestBody EnrollmentUpdateRequest req) {
+        return service.update(id, req);
+    }
+
+    /**
+     * Deletes an enrollment entered by mistake.
+     *
+     * <p><b>Behavior:</b> Returns {@code 400} while the enrollment has grades; students
+     * leaving a section should be set to {@code DROPPED} or {@code WITHDRAWN} instead.</p>
+     *
+     * @param id the enrollment ID
+     */
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete enrollment", description = "Soft-deletes an enrollment without grades.")
+    public void delete(@PathVariable UUID id) {
+        service.delete(id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jeraldjamescapao.studentmanagementapi.controller;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.common.ExportFormat;
+import com.jeraldjamescapao.studentmanagementapi.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller that streams full-table exports for bulk consumers such as nightly syncs.
+ *
+ * <p><b>Usage:</b> Each endpoint returns the whole table in a single response instead of
+ * forcing clients to walk thousands of 100-row pages. The body is produced by
+ * {@link ExportService} on an MVC async thread via {@link StreamingResponseBody}, so the
+ * request thread is released immediately and rows are written as they are read.</p>
+ *
+ * <p><b>Base Path:</b> {@code /api/v1/exports}</p>
+ *
+ * <p><b>Parameters:</b> {@code format} – {@code NDJSON} (default) or {@code CSV}.</p>
+ *
+ * <p><b>Timeouts:</b> Long exports are bounded by {@code spring.mvc.async.request-timeout}.</p>
+ *
+ * @see ExportService
+ * @see ExportFormat
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+@Tag(name = "Exports", description = "Streaming full-table exports as NDJSON or CSV (v1.0)")
+public class ExportController {
+
+    private final ExportService service;
+
+    @GetMapping("/students")
+    @Operation(summary = "Export students", description = "Streams every student as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> students(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return stream("students", format, out -> service.exportStudents(format, out));
+    }
+
+    @GetMapping("/courses")
+    @Operation(summary = "Export courses", description = "Streams every course as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> courses(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return stream("courses", format, out -> service.exportCourses(format, out));
+    }
+
+    @GetMapping("/enrollments")
+    @Operation(summary = "Export enrollments", description = "Streams every enrollment as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> enrollments(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return stream("enrollments", format, out -> service.exportEnrollments(format, out));
+    }
+
+    @GetMapping("/grades")
+    @Operation(summary = "Export grades", description = "Streams every grade as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> grades(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return stream("grades", format, out -> service.exportGrades(format, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(
+            String resource, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(format.fileName(resource))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
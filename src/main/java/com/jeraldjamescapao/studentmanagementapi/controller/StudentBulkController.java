@@ -0,0 +1,91 @@
+package com.jeraldjamescapao.studentmanagementapi.controller;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBatchCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBatchCreateResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBulkDeleteRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBulkDeleteResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBulkStatusRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBulkStatusResponse;
+import com.jeraldjamescapao.studentmanagementapi.service.StudentService;
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for bulk operations on the student collection.
+ *
+ * <p><b>Usage:</b> Exposes custom collection methods in the {@code /students:verb} style,
+ * so they sit next to {@link StudentController} without clashing with its
+ * {@code /students/{id}} routes. Delegates to {@link StudentService}.</p>
+ *
+ * <p><b>Base Path:</b> {@code /api/v1}</p>
+ *
+ * <p><b>Results:</b> Bulk endpoints answer {@code 200 OK} with a per-item outcome; a partly
+ * failed batch is not an error. Envelope errors (empty or oversized batch) are rejected with
+ * {@code 400} by {@link GlobalExceptionHandler}.</p>
+ *
+ * @see StudentController
+ * @see StudentService
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Tag(name = "Students", description = "Operations for managing student records (v1.0)")
+public class StudentBulkController {
+
+    private final StudentService service;
+
+    /**
+     * Creates many students in one request.
+     *
+     * <p><b>Behavior:</b> Items are validated individually. Invalid items and email conflicts
+     * are reported per item while the remaining students are inserted in one transaction.</p>
+     *
+     * @param req the students to create (at most {@link StudentBatchCreateRequest#MAX_ITEMS})
+     * @return a {@link StudentBatchCreateResponse} with one result per item, in request order
+     */
+    @PostMapping("/students:batch")
+    @Operation(summary = "Create students in bulk",
+            description = "Creates up to 1000 students at once and returns a per-item result.")
+    public StudentBatchCreateResponse createBatch(@Valid @RequestBody StudentBatchCreateRequest req) {
+        return service.createBatch(req.getItems());
+    }
+
+    /**
+     * Moves many students to a new status in one request.
+     *
+     * <p><b>Example:</b> {@code {"fromStatus": "ENROLLED", "status": "GRADUATED"}} graduates
+     * every enrolled student; add {@code ids} to restrict the change to specific students.</p>
+     *
+     * @param req the selection (ids and/or {@code fromStatus}) and the target status
+     * @return a {@link StudentBulkStatusResponse} with matched and updated counts
+     */
+    @PostMapping("/students:changeStatus")
+    @Operation(summary = "Change student status in bulk",
+            description = "Sets the status of all selected students with set-based updates and reports how many changed.")
+    public StudentBulkStatusResponse changeStatusBulk(@Valid @RequestBody StudentBulkStatusRequest req) {
+        return service.changeStatusBulk(req);
+    }
+
+    /**
+     * Deletes many students in one request, e.g. from cleanup jobs.
+     *
+     * <p><b>Behavior:</b> Students that still have enrollments are kept and listed in the
+     * response as {@code blocked}; unknown ids are counted as {@code notFound}.</p>
+     *
+     * @param req the ids to delete (at most {@link StudentBulkDeleteRequest#MAX_IDS})
+     * @return a {@link StudentBulkDeleteResponse} with deleted, not-found and blocked results
+     */
+    @PostMapping("/students:delete")
+    @Operation(summary = "Delete students in bulk",
+            description = "Deletes the listed students that have no enrollments with guarded set-based deletes.")
+    public StudentBulkDeleteResponse deleteBulk(@Valid @RequestBody StudentBulkDeleteRequest req) {
+        return service.deleteBulk(req);
+    }
+}
@@ -1,19 +1,26 @@
 package com.jeraldjamescapao.studentmanagementapi.controller;
 
+import com.jeraldjamescapao.studentmanagementapi.dto.common.CursorPageDto;
 import com.jeraldjamescapao.studentmanagementapi.dto.common.PageDto;
+import com.jeraldjamescapao.studentmanagementapi.dto.common.SliceDto;
 import com.jeraldjamescapao.studentmanagementapi.dto.student.*;
 import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
 import com.jeraldjamescapao.studentmanagementapi.service.StudentService;
+import com.jeraldjamescapao.studentmanagementapi.web.ETags;
 import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -53,26 +60,114 @@ public class StudentController {
      * </ul>
      *
      * <p><b>Returns:</b> A {@link PageDto} of {@link StudentResponse} objects with
-     * pagination metadata and applied sorting.</p>
+     * pagination metadata and applied sorting. Add {@code withTotal=false} to skip the
+     * total count (see {@link #searchSlice(String, Pageable)}).</p>
+     *
+     * <p><b>Conditional requests:</b> The response carries a strong {@code ETag} digesting
+     * the page and the version of every member. When {@code If-None-Match} is sent, only the
+     * version columns are queried first; if the tag still matches, {@code 304 Not Modified}
+     * is returned without loading entities or writing a body. Otherwise the members of that
+     * version page are loaded by primary key, so a stale tag costs one lookup more than an
+     * unconditional request instead of a second page query and {@code COUNT}.</p>
      */
     @GetMapping
-    @Operation(summary = "List students", description = "Returns a pageable list of students with optional free-text search.")
-    public PageDto<StudentResponse> search(
+    @Operation(summary = "List students", description = "Returns a pageable list of students with optional free-text search. Supports If-None-Match.")
+    public ResponseEntity<PageDto<StudentResponse>> search(
+            @RequestParam(required = false) String q,
+            @ParameterObject Pageable pageable,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Page<StudentResponse> page;
+        if (ifNoneMatch != null) {
+            Page<StudentVersion> versions = service.searchVersions(q, pageable);
+            String current = ETags.ofPage(versions);
+            if (ETags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+            page = service.loadPage(versions);
+        } else {
+            page = service.search(q, pageable);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPage(page.map(StudentVersion::of)))
+                .body(PageDto.from(page));
+    }
+
+    /**
+     * Retrieves a paginated list of students without computing totals.
+     *
+     * <p>Selected when the request carries {@code withTotal=false}. Accepts the same
+     * {@code q} and pageable parameters as {@link #search(String, Pageable, String)}.</p>
+     *
+     * <p><b>Returns:</b> A {@link SliceDto} with {@code hasNext} instead of
+     * {@code totalElements}/{@code totalPages}; no {@code COUNT} query is run.</p>
+     */
+    @GetMapping(params = "withTotal=false")
+    @Operation(summary = "List students (no totals)", description = "Returns a slice of students without total counts; pass withTotal=false.")
+    public SliceDto<StudentResponse> searchSlice(
             @RequestParam(required = false) String q,
             @ParameterObject Pageable pageable) {
-        return PageDto.from(service.search(q, pageable));
+        return SliceDto.from(service.searchSlice(q, pageable));
+    }
+
+    /**
+     * Retrieves students using cursor-based (keyset) pagination.
+     *
+     * <p><b>Parameters:</b></p>
+     * <ul>
+     *   <li>{@code after} – opaque cursor from the previous response's {@code nextCursor}; omit for the first page</li>
+     *   <li>{@code size} – number of items per page (max 100)</li>
+     * </ul>
+     *
+     * <p><b>Returns:</b> A {@link CursorPageDto} ordered by last name, first name and id.
+     * No total count is computed, so deep pages cost the same as the first one.</p>
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll students", description = "Returns students in name order using an opaque cursor instead of page numbers.")
+    public CursorPageDto<StudentResponse> scroll(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        return service.scroll(after, size);
+    }
+
+    /**
+     * Suggests students for last-name type-ahead.
+     *
+     * <p><b>Parameters:</b></p>
+     * <ul>
+     *   <li>{@code prefix} – case-insensitive start of the last name</li>
+     *   <li>{@code limit} – maximum number of suggestions (max 50)</li>
+     * </ul>
+     *
+     * <p><b>Returns:</b> {@link StudentSuggestion} items ordered by last name, first name and id,
+     * served from memory without a database round trip.</p>
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest students", description = "Returns students whose last name starts with the given prefix.")
+    public List<StudentSuggestion> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return service.suggest(prefix, limit);
     }
 
     /**
      * Retrieves a single student by ID.
      *
+     * <p><b>Conditional requests:</b> The response carries a strong {@code ETag} built from
+     * the id and {@code updatedAt}. A matching {@code If-None-Match} yields
+     * {@code 304 Not Modified}; the check runs against the cached response, so repeated
+     * polls neither hit the database nor serialize a body.</p>
+     *
      * @param id the unique student ID
      * @return the corresponding {@link StudentResponse}
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Get student by ID", description = "Fetch a single student record by its unique identifier.")
-    public StudentResponse get(@PathVariable UUID id) {
-        return service.get(id);
+    @Operation(summary = "Get student by ID", description = "Fetch a single student record by its unique identifier. Supports If-None-Match.")
+    public ResponseEntity<StudentResponse> get(@PathVariable UUID id) {
+        StudentResponse student = service.get(id);
+        // Spring answers 304 itself when If-None-Match matches this tag.
+        return ResponseEntity.ok()
+                .eTag(ETags.of(StudentVersion.of(student)))
+                .body(student);
     }
 
     /**
@@ -112,7 +207,8 @@ public class StudentController {
      * Deletes a student record.
      *
      * <p><b>Behavior:</b> Deletion is blocked if the student has
-     * existing enrollments. Otherwise, the record is permanently removed.</p>
+     * existing enrollments. Otherwise, the record is soft-deleted: it disappears
+     * from all reads immediately and is physically purged after the retention window.</p>
      *
      * @param id the student ID to delete
      */
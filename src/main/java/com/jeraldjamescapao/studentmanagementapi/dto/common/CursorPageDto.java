@@ -0,0 +1,28 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.common;
+
+import java.util.List;
+
+/**
+ * DTO used for returning cursor-based (keyset) API responses.
+ *
+ * <p><b>Purpose:</b> Unlike {@link PageDto}, this structure carries no page index
+ * and no total count. Clients walk the result set forward by passing the opaque
+ * {@code nextCursor} back as the {@code after} parameter of the next request.</p>
+ *
+ * <p><b>Performance:</b> Because the next page is located by seeking past the last
+ * returned key instead of skipping rows, the cost of a request stays the same no
+ * matter how deep the client pages, and no {@code COUNT(*)} query is issued.</p>
+ *
+ * @param <T> the element type of the page content
+ * @param content items in the current page
+ * @param size requested page size (after clamping)
+ * @param nextCursor opaque token for the next page, or {@code null} on the last page
+ * @param hasNext whether more items exist after this page
+ */
+public record CursorPageDto<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
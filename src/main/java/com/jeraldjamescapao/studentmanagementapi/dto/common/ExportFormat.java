@@ -0,0 +1,38 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.common;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats supported by the streaming export endpoints.
+ *
+ * <p><b>Formats:</b></p>
+ * <ul>
+ *   <li>{@link #NDJSON} – one JSON object per line, same field names and formats as the
+ *       regular API responses.</li>
+ *   <li>{@link #CSV} – RFC 4180 CSV with a header row; columns follow the response DTO.</li>
+ * </ul>
+ *
+ * <p>Bound from the {@code format} request parameter ({@code NDJSON} or {@code CSV}).</p>
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /** Returns the download file name for the given resource, e.g. {@code students.csv}. */
+    public String fileName(String resource) {
+        return resource + "." + extension;
+    }
+}
@@ -63,7 +63,7 @@ public record PageDto<T>(
         );
     }
 
-    private static String formatOrder(Sort.Order o) {
+    static String formatOrder(Sort.Order o) {
         return o.getProperty() + "," + o.getDirection().name().toLowerCase();
     }
 }
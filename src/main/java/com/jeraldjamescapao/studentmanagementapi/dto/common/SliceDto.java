@@ -0,0 +1,53 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.common;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * DTO used for returning paginated API responses without a total count.
+ *
+ * <p><b>Purpose:</b> Same shape as {@link PageDto} minus {@code totalElements},
+ * {@code totalPages} and {@code last}. A {@link Slice} is produced by fetching
+ * {@code size + 1} rows, so no separate {@code COUNT} query is issued.</p>
+ *
+ * <p><b>Usage:</b> Convert any {@link Slice} using {@link #from(Slice)} before
+ * returning it from controller methods that were called with {@code withTotal=false}.</p>
+ *
+ * @param <T> the element type of the slice content
+ * @param content items in the current slice
+ * @param page zero-based page index
+ * @param size number of items per page
+ * @param first whether this is the first page
+ * @param hasNext whether another page follows
+ * @param sort applied sort tokens (e.g., {@code ["lastName,asc"]})
+ */
+public record SliceDto<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean first,
+        boolean hasNext,
+        List<String> sort
+) {
+
+    /**
+     * Converts a {@link Slice} into a {@link SliceDto}.
+     *
+     * @param s the {@link Slice} instance to convert
+     * @return a {@link SliceDto} representing the same slice details
+     */
+    public static <T> SliceDto<T> from(Slice<T> s) {
+        List<String> sortSpec = s.getSort().stream()
+                .map(PageDto::formatOrder)
+                .toList();
+        return new SliceDto<>(
+                s.getContent(),
+                s.getNumber(),
+                s.getSize(),
+                s.isFirst(),
+                s.hasNext(),
+                sortSpec
+        );
+    }
+}
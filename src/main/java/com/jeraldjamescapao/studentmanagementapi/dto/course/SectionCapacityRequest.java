@@ -0,0 +1,37 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.course;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * DTO used when setting the seat capacity of one course section through the API.
+ *
+ * <p><b>Note:</b> The section itself (course, term and section token) is identified by the
+ * request path; only the capacity is part of this payload.</p>
+ *
+ * <p><b>Validation:</b> Uses Jakarta Bean Validation annotations to keep the capacity within
+ * the range accepted by the {@code course_sections} table.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see SectionSeatsResponse
+ */
+@Schema(name = "SectionCapacityRequest", description = "Payload to set the seat capacity of a course section.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SectionCapacityRequest {
+
+    @Schema(description = "Maximum number of enrolled students; further enrollments are waitlisted.",
+            example = "40", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull
+    @Min(0)
+    @Max(100000)
+    private Integer capacity;
+}
@@ -0,0 +1,45 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.course;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * DTO returned by the API when reading the seats of one course section.
+ *
+ * <p>Represents the capacity of a (course, term, section) offering and how many of its seats are
+ * taken by enrollments that hold a seat. A section without a configured capacity is unlimited,
+ * reported with {@code null} {@code capacity} and {@code available}.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see SectionCapacityRequest
+ */
+@Schema(name = "SectionSeatsResponse", description = "Seat capacity and occupancy of a course section.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SectionSeatsResponse {
+
+    @Schema(example = "a6f0b11a-4b1e-4e15-8f5b-0d1a6f2e9e21")
+    private UUID courseId;
+
+    @Schema(example = "2025-FALL")
+    private String term;
+
+    @Schema(example = "A")
+    private String section;
+
+    @Schema(description = "Seat capacity; null when the section is unlimited.", example = "40")
+    private Integer capacity;
+
+    @Schema(description = "Seats held by enrollments.", example = "38")
+    private int taken;
+
+    @Schema(description = "Free seats; null when the section is unlimited.", example = "2")
+    private Integer available;
+}
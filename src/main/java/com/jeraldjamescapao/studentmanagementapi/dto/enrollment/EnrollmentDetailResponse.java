@@ -0,0 +1,76 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.enrollment;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static com.jeraldjamescapao.studentmanagementapi.dto.common.ApiDateFormats.OFFSET_DATE_TIME;
+
+/**
+ * DTO returned by the API when reading or listing {@code Enrollment} resources.
+ *
+ * <p>Carries every field of {@link EnrollmentResponse} plus the code and title of the
+ * course and the name of the student, so a roster or transcript page can be rendered
+ * without one request per row.</p>
+ *
+ * <p><b>Loading:</b> Built from enrollments whose {@code student} and {@code course} were
+ * fetched in the same statement (see {@code EnrollmentRepository}); mapping it never
+ * triggers a lazy load.</p>
+ *
+ * <p><b>Why a separate type:</b> {@link EnrollmentResponse} stays the write-side and export
+ * shape, whose columns do not change.</p>
+ *
+ * @see EnrollmentResponse
+ */
+@Schema(name = "EnrollmentDetailResponse", description = "An enrollment with its course and student summary.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentDetailResponse {
+
+    @Schema(description = "Unique identifier of the enrollment.",
+            example = "f1b2c3d4-1111-2222-3333-444455556666")
+    private UUID id;
+
+    @Schema(description = "Associated student identifier.",
+            example = "cbe1e180-95a3-4c46-b2de-f21e07f3b351")
+    private UUID studentId;
+
+    @Schema(description = "First and last name of the student.", example = "Ada Lovelace")
+    private String studentName;
+
+    @Schema(description = "Associated course identifier.",
+            example = "a6f0b11a-4b1e-4e15-8f5b-0d1a6f2e9e21")
+    private UUID courseId;
+
+    @Schema(example = "CS101")
+    private String courseCode;
+
+    @Schema(example = "Introduction to Computer Science")
+    private String courseTitle;
+
+    @Schema(example = "2025-FALL")
+    private String term;
+
+    @Schema(example = "A")
+    private String section;
+
+    @Schema(description = "Enum value (case-insensitive as configured).", example = "ENROLLED")
+    private EnrollmentStatus status;
+
+    /** Timestamp of record creation. */
+    @Schema(example = "2025-11-01T09:45:00+01:00")
+    @JsonFormat(pattern = OFFSET_DATE_TIME)
+    private OffsetDateTime createdAt;
+
+    /** Timestamp of the most recent update. */
+    @Schema(example = "2025-11-02T14:15:30+01:00")
+    @JsonFormat(pattern = OFFSET_DATE_TIME)
+    private OffsetDateTime updatedAt;
+}
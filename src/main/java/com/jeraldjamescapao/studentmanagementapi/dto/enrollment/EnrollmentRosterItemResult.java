@@ -0,0 +1,41 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.enrollment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-student result of a section roster request.
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see EnrollmentRosterItemStatus
+ * @see EnrollmentRosterResponse
+ */
+@Schema(name = "EnrollmentRosterItemResult", description = "Outcome for one student of a roster request.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentRosterItemResult {
+
+    @Schema(description = "Zero-based position of the student in the request.", example = "0")
+    private int index;
+
+    @Schema(example = "cbe1e180-95a3-4c46-b2de-f21e07f3b351")
+    private UUID studentId;
+
+    @Schema(example = "ENROLLED")
+    private EnrollmentRosterItemStatus status;
+
+    @Schema(description = "Id of the created enrollment; null unless the student was enrolled or waitlisted.",
+            example = "f1b2c3d4-1111-2222-3333-444455556666")
+    private UUID enrollmentId;
+
+    @Schema(description = "Reason for a non-successful outcome; null on success.",
+            example = "Student is already enrolled in section 2025-FALL/A")
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.enrollment;
+
+/**
+ * Outcome for one student of a section roster request.
+ *
+ * <ul>
+ *   <li>{@link #ENROLLED} – the student was given a seat.</li>
+ *   <li>{@link #WAITLISTED} – the section is full; the student is on its waitlist.</li>
+ *   <li>{@link #CONFLICT} – the student already has an enrollment in the section, or is
+ *       listed earlier in the same roster.</li>
+ *   <li>{@link #NOT_FOUND} – no student with this id exists.</li>
+ *   <li>{@link #FAILED} – the enrollment could not be written for another reason.</li>
+ * </ul>
+ *
+ * @see EnrollmentRosterItemResult
+ */
+public enum EnrollmentRosterItemStatus {
+    ENROLLED,
+    WAITLISTED,
+    CONFLICT,
+    NOT_FOUND,
+    FAILED
+}
@@ -0,0 +1,54 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.enrollment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO used to enroll a whole cohort into one course section at once.
+ *
+ * <p><b>Admission:</b> Students are admitted in list order: the first ones take the free
+ * seats, the rest are waitlisted.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see EnrollmentRosterResponse
+ */
+@Schema(name = "EnrollmentRosterRequest", description = "Payload to enroll many students into one section.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentRosterRequest {
+
+    /** Upper bound on students per request; larger cohorts are sent as several rosters. */
+    public static final int MAX_STUDENTS = 1000;
+
+    @Schema(example = "a6f0b11a-4b1e-4e15-8f5b-0d1a6f2e9e21", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull
+    private UUID courseId;
+
+    @Schema(example = "2025-FALL", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank
+    @Size(max = 20)
+    private String term;
+
+    @Schema(example = "A", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank
+    @Size(max = 10)
+    private String section;
+
+    @Schema(description = "Students to enroll, in admission order. Results are reported by index.",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty
+    @Size(max = MAX_STUDENTS)
+    private List<@NotNull UUID> studentIds;
+}
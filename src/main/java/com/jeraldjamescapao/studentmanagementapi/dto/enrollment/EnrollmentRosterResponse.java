@@ -0,0 +1,43 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.enrollment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO returned by the section roster endpoint.
+ *
+ * <p>Carries one {@link EnrollmentRosterItemResult} per listed student, in request order,
+ * plus totals per outcome.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see EnrollmentRosterRequest
+ */
+@Schema(name = "EnrollmentRosterResponse", description = "Per-student results of a section roster request.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentRosterResponse {
+
+    @Schema(example = "30")
+    private int enrolled;
+
+    @Schema(example = "5")
+    private int waitlisted;
+
+    @Schema(example = "1")
+    private int conflicts;
+
+    @Schema(example = "0")
+    private int notFound;
+
+    @Schema(example = "0")
+    private int failed;
+
+    private List<EnrollmentRosterItemResult> items;
+}
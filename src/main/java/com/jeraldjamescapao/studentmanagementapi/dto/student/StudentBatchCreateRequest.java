@@ -0,0 +1,39 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO used when creating many {@code Student} records in a single request.
+ *
+ * <p><b>Validation:</b> Only the envelope is validated up front (non-empty, at most
+ * {@value #MAX_ITEMS} items). Each item is validated individually by the service so that
+ * one bad row is reported as {@code INVALID} instead of rejecting the whole batch.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see StudentCreateRequest
+ * @see StudentBatchCreateResponse
+ */
+@Schema(name = "StudentBatchCreateRequest", description = "Payload to create many students at once.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBatchCreateRequest {
+
+    /** Upper bound on items per request; larger intakes are sent as several batches. */
+    public static final int MAX_ITEMS = 1000;
+
+    @Schema(description = "Students to create, in order. Results are reported by index.",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    private List<StudentCreateRequest> items;
+}
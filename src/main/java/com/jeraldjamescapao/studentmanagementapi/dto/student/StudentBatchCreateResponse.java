@@ -0,0 +1,37 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO returned by the batch student creation endpoint.
+ *
+ * <p>Carries one {@link StudentBatchItemResult} per request item, in request order,
+ * plus totals per outcome.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see StudentBatchCreateRequest
+ */
+@Schema(name = "StudentBatchCreateResponse", description = "Per-item results of a batch student creation.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBatchCreateResponse {
+
+    @Schema(example = "998")
+    private int created;
+
+    @Schema(example = "1")
+    private int conflicts;
+
+    @Schema(example = "1")
+    private int invalid;
+
+    private List<StudentBatchItemResult> items;
+}
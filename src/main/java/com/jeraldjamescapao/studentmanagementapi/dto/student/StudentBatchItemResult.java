@@ -0,0 +1,38 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Per-item result of a batch student request.
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see StudentBatchItemStatus
+ * @see StudentBatchCreateResponse
+ */
+@Schema(name = "StudentBatchItemResult", description = "Outcome of one item of a batch request.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBatchItemResult {
+
+    @Schema(description = "Zero-based position of the item in the request.", example = "0")
+    private int index;
+
+    @Schema(example = "CREATED")
+    private StudentBatchItemStatus status;
+
+    @Schema(description = "Id of the affected student; null unless the item succeeded.",
+            example = "cbe1e180-95a3-4c46-b2de-f21e07f3b351")
+    private UUID id;
+
+    @Schema(description = "Reason for a non-successful outcome; null on success.",
+            example = "Email already in use: jjcapaodev@protonmail.com")
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+/**
+ * Outcome of a single item in a batch student request.
+ *
+ * <ul>
+ *   <li>{@link #CREATED} – the student was inserted.</li>
+ *   <li>{@link #CONFLICT} – the email is already used by an existing student or by an
+ *       earlier item of the same batch.</li>
+ *   <li>{@link #INVALID} – the item failed bean validation.</li>
+ * </ul>
+ *
+ * @see StudentBatchItemResult
+ */
+public enum StudentBatchItemStatus {
+    CREATED,
+    CONFLICT,
+    INVALID
+}
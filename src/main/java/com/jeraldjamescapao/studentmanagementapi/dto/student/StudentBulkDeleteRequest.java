@@ -0,0 +1,38 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO used to delete many students at once, e.g. by cleanup jobs.
+ *
+ * <p><b>Selection:</b> Only explicit ids are accepted, so a request can never delete the
+ * whole table by accident. Students with enrollments are skipped, not deleted.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see StudentBulkDeleteResponse
+ */
+@Schema(name = "StudentBulkDeleteRequest", description = "Payload to delete many students.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBulkDeleteRequest {
+
+    /** Upper bound on ids per request. */
+    public static final int MAX_IDS = 10_000;
+
+    @Schema(description = "Student ids to delete.", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,34 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO returned by the bulk delete endpoint.
+ *
+ * <p>Every distinct requested id ends up in exactly one bucket: {@code deleted},
+ * {@code notFound}, or {@code blocked} (the student still has enrollments and was kept).
+ * Blocked ids are listed so callers can follow up on them.</p>
+ *
+ * @see StudentBulkDeleteRequest
+ */
+@Schema(name = "StudentBulkDeleteResponse", description = "Result of a bulk delete.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBulkDeleteResponse {
+
+    @Schema(description = "Number of students removed.", example = "980")
+    private int deleted;
+
+    @Schema(description = "Number of requested ids that did not exist.", example = "5")
+    private int notFound;
+
+    @Schema(description = "Students kept because they still have enrollments.")
+    private List<UUID> blocked;
+}
@@ -0,0 +1,47 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO used to move many students to a new {@link StudentStatus} at once.
+ *
+ * <p><b>Selection:</b> Students are selected by {@code ids}, by {@code fromStatus}, or by
+ * both (ids that currently have {@code fromStatus}). At least one of them is required, so a
+ * request can never update the whole table by accident.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see StudentBulkStatusResponse
+ */
+@Schema(name = "StudentBulkStatusRequest", description = "Payload to change the status of many students.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBulkStatusRequest {
+
+    /** Upper bound on explicitly listed ids per request. */
+    public static final int MAX_IDS = 10_000;
+
+    @Schema(description = "Explicit student ids to update.")
+    @Size(max = MAX_IDS)
+    private List<@NotNull UUID> ids;
+
+    @Schema(description = "Only update students currently in this status (case-insensitive as configured).",
+            example = "ENROLLED")
+    private StudentStatus fromStatus;
+
+    @Schema(description = "Target status (case-insensitive as configured).",
+            example = "GRADUATED", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull
+    private StudentStatus status;
+}
@@ -0,0 +1,32 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO returned by the bulk status endpoint.
+ *
+ * <p>{@code matched} counts the students selected by the request; {@code updated} counts
+ * those whose status actually changed (students already in the target status are left
+ * untouched, including their {@code updatedAt}).</p>
+ *
+ * @see StudentBulkStatusRequest
+ */
+@Schema(name = "StudentBulkStatusResponse", description = "Result of a bulk status change.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentBulkStatusResponse {
+
+    @Schema(example = "GRADUATED")
+    private StudentStatus status;
+
+    @Schema(description = "Number of students selected by ids and/or fromStatus.", example = "1250")
+    private int matched;
+
+    @Schema(description = "Number of rows whose status changed.", example = "1248")
+    private int updated;
+}
@@ -0,0 +1,71 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position used by the cursor-based student listing.
+ *
+ * <p><b>Ordering:</b> Students are walked in {@code (lastName, firstName, id)} order,
+ * which matches the {@code ix_students_last_first} index with {@code id} as a
+ * unique tie-breaker.</p>
+ *
+ * <p><b>Encoding:</b> The position is exposed to clients as an opaque, URL-safe
+ * Base64 token. Clients must treat it as a black box and only echo it back.</p>
+ *
+ * @param lastName last name of the last student on the previous page
+ * @param firstName first name of the last student on the previous page
+ * @param id id of the last student on the previous page
+ */
+public record StudentCursor(String lastName, String firstName, UUID id) {
+
+    // Names are validated as regular text, so NUL never occurs inside a component.
+    private static final char SEPARATOR = '\0';
+
+    /**
+     * Builds the cursor pointing just after the given student.
+     */
+    public static StudentCursor of(StudentResponse s) {
+        return new StudentCursor(s.getLastName(), s.getFirstName(), s.getId());
+    }
+
+    /**
+     * Encodes this position as an opaque token.
+     *
+     * @return URL-safe Base64 token without padding
+     */
+    public String encode() {
+        String raw = lastName + SEPARATOR + firstName + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor sent by the client
+     * @return the decoded position
+     * @throws BadRequestException if the token is malformed or was not produced by {@link #encode()}
+     */
+    public static StudentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            // UUID.fromString accepts non-canonical forms such as "1-2-3-4-5"; an edited or
+            // truncated token must not silently resume from a different position.
+            UUID id = UUID.fromString(parts[2]);
+            if (!id.toString().equals(parts[2])) {
+                throw new BadRequestException("Invalid cursor: " + token);
+            }
+            return new StudentCursor(parts[0], parts[1], id);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Lightweight DTO returned by the student name autocomplete endpoint.
+ *
+ * <p>Carries only what a type-ahead list needs to render and link a result,
+ * so suggestions can be served from memory without touching the database.</p>
+ *
+ * <p><b>Swagger:</b> The {@link io.swagger.v3.oas.annotations.media.Schema @Schema}
+ * annotations provide example values and descriptions for automatic OpenAPI documentation.</p>
+ *
+ * @see StudentResponse
+ */
+@Schema(name = "StudentSuggestion", description = "A student name matching an autocomplete prefix.")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentSuggestion {
+
+    @Schema(description = "Unique identifier of the student.",
+            example = "cbe1e180-95a3-4c46-b2de-f21e07f3b351")
+    private UUID id;
+
+    @Schema(example = "Jerald James")
+    private String firstName;
+
+    @Schema(example = "Capao")
+    private String lastName;
+}
@@ -0,0 +1,25 @@
+package com.jeraldjamescapao.studentmanagementapi.dto.student;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Version columns of a {@code Student}, used to compute HTTP validators ({@code ETag}).
+ *
+ * <p><b>Usage:</b> Loaded as a constructor projection so that conditional requests can be
+ * answered without hydrating entities or serializing full responses. Not exposed as a
+ * response body.</p>
+ *
+ * @param id the student id
+ * @param createdAt creation timestamp
+ * @param updatedAt last modification timestamp ({@code null} if never updated)
+ */
+public record StudentVersion(UUID id, OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+
+    /**
+     * Extracts the version columns from a full response.
+     */
+    public static StudentVersion of(StudentResponse r) {
+        return new StudentVersion(r.getId(), r.getCreatedAt(), r.getUpdatedAt());
+    }
+}
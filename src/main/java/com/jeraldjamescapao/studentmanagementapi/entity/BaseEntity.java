@@ -22,7 +22,10 @@ import java.util.UUID;
  *   <li>{@code id}: Auto-generated {@link java.util.UUID} serving as the primary key for all entities.</li>
  *   <li>{@code createdAt}: Automatically populated when the record is first persisted.</li>
  *   <li>{@code updatedAt}: Automatically updated whenever the record is modified.</li>
- *   <li>{@code deletedAt}: Soft-delete marker; a non-null value indicates the record was logically deleted.</li>
+ *   <li>{@code deletedAt}: Soft-delete marker; a non-null value indicates the record was logically deleted.
+ *       Each entity maps {@code delete} to an {@code UPDATE} of this column ({@code @SQLDelete}) and
+ *       filters {@code deleted_at IS NULL} on every entity query ({@code @SQLRestriction}). Rows past
+ *       the retention window are physically removed by {@code SoftDeletePurgeJob}.</li>
  *   <li>Declared as a {@code @MappedSuperclass} so its fields are mapped into subclass tables, not a separate one.</li>
  * </ul>
  *
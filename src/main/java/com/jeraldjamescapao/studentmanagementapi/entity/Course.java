@@ -3,6 +3,8 @@ package com.jeraldjamescapao.studentmanagementapi.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * JPA entity describing an academic course that can be offered and enrolled by students.
@@ -12,20 +14,28 @@ import lombok.experimental.SuperBuilder;
  *
  * <p>Key persistence notes:</p>
  * <ul>
- *   <li>Course code is unique to prevent duplicate curricula entries.</li>
+ *   <li>Course code is unique among live courses to prevent duplicate curricula entries
+ *       ({@code uq_courses_live_code} on the generated {@code live_code} column, {@code NULL}
+ *       once deleted, so a deleted course's code can be reused at once).</li>
  *   <li>Index on {@code active} supports fast catalog filtering.</li>
  *   <li>Use {@code active=false} to retire a course without losing historical data.</li>
  *   <li>Inherits identity and audit timestamps from {@code BaseEntity}.</li>
+ *   <li>Deleting a course soft-deletes it (see {@code BaseEntity}); {@code active=false} remains
+ *       the way to retire a course that should stay visible.</li>
  * </ul>
  *
  * @see BaseEntity
  * @see Enrollment
  */
 @Entity
+@SQLDelete(sql = "UPDATE courses SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 @Table(
         name = "courses",
-        uniqueConstraints = @UniqueConstraint(name = "uq_courses_code", columnNames = "code"),
-        indexes = @Index(name = "ix_courses_active", columnList = "active")
+        indexes = {
+                @Index(name = "ix_courses_active", columnList = "active"),
+                @Index(name = "ix_courses_deleted_at", columnList = "deleted_at")
+        }
 )
 @Getter
 @Setter
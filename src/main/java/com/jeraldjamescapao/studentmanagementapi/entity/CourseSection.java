@@ -0,0 +1,67 @@
+package com.jeraldjamescapao.studentmanagementapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * JPA entity holding the seat capacity of one offering of a {@code Course} (term and section).
+ *
+ * <p>Not directly exposed via the public API. Access is managed through controllers, DTOs, mappers,
+ * and services that enforce business rules.</p>
+ *
+ * <p>Key persistence notes:</p>
+ * <ul>
+ *   <li>Uniqueness across (course, term, section) matches the section key of {@code Enrollment}.</li>
+ *   <li>A section without a row has no seat limit.</li>
+ *   <li>Admission does not read this table per request; {@code SeatLedger} loads the capacity once
+ *       per section and keeps the seat count in memory.</li>
+ *   <li>Rows are removed together with their course when the course is purged ({@code ON DELETE CASCADE}).</li>
+ *   <li>Inherits identity and audit timestamps from {@code BaseEntity}.</li>
+ * </ul>
+ *
+ * @see BaseEntity
+ * @see Course
+ * @see Enrollment
+ */
+@Entity
+@SQLDelete(sql = "UPDATE course_sections SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
+@Table(
+        name = "course_sections",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uq_course_sections",
+                columnNames = {"course_id", "term", "section"}
+        )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = "course")
+@SuperBuilder
+public class CourseSection extends BaseEntity {
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "course_id",
+            nullable = false,
+            foreignKey = @ForeignKey(name = "fk_course_sections_course")
+    )
+    private Course course;
+
+    /** Academic term identifier (e.g., 2025-FALL). */
+    @Column(name = "term", length = 20, nullable = false)
+    private String term;
+
+    /** Offering section token (e.g., A, B1, LAB-1). */
+    @Column(name = "section", length = 10, nullable = false)
+    private String section;
+
+    /** Maximum number of seat-holding enrollments. */
+    @Column(name = "capacity", nullable = false)
+    private int capacity;
+}
@@ -4,6 +4,8 @@ import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * JPA entity linking a {@code Student} to a {@code Course} for a specific academic offering (term and section).
@@ -13,28 +15,34 @@ import lombok.experimental.SuperBuilder;
  *
  * <p>Key persistence notes:</p>
  * <ul>
- *   <li>Composite uniqueness across (student, course, term, section) prevents duplicate registrations.</li>
+ *   <li>Composite uniqueness across (student, course, term, section) among live enrollments
+ *       prevents duplicate registrations ({@code uq_enrollments_live}, which includes the
+ *       generated {@code live} column; a deleted enrollment no longer blocks the section).</li>
  *   <li>Foreign keys to {@code Student} and {@code Course} are lazy-loaded; prefer fetch joins or projections when needed.</li>
  *   <li>Enum status is stored as a string; renaming constants requires migration.</li>
  *   <li>Inherits identity and audit timestamps from {@code BaseEntity}.</li>
+ *   <li>Soft-deleted (see {@code BaseEntity}); only live enrollments block deleting a student.</li>
+ *   <li>Statuses that hold a seat count against the section capacity ({@code CourseSection});
+ *       see {@link EnrollmentStatus#holdsSeat()}.</li>
  * </ul>
  *
  * @see BaseEntity
  * @see Student
  * @see Course
  * @see EnrollmentStatus
+ * @see CourseSection
  */
 @Entity
+@SQLDelete(sql = "UPDATE enrollments SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 @Table(
         name = "enrollments",
-        uniqueConstraints = @UniqueConstraint(
-                name = "uq_enrollments",
-                columnNames = {"student_id", "course_id", "term", "section"}
-        ),
         indexes = {
                 @Index(name = "ix_enrollments_student", columnList = "student_id"),
                 @Index(name = "ix_enrollments_course", columnList = "course_id"),
-                @Index(name = "ix_enrollments_status", columnList = "status")
+                @Index(name = "ix_enrollments_status", columnList = "status"),
+                @Index(name = "ix_enrollments_section", columnList = "course_id, term, section, status"),
+                @Index(name = "ix_enrollments_deleted_at", columnList = "deleted_at")
         }
 )
 @Getter
@@ -3,6 +3,8 @@ package com.jeraldjamescapao.studentmanagementapi.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -19,17 +21,21 @@ import java.time.OffsetDateTime;
  *   <li>Indexed by {@code enrollment} (for joins) and by {@code letter} (for reporting).</li>
  *   <li>Consider service-level invariants if only one final grade per enrollment is allowed.</li>
  *   <li>Inherits identity and audit timestamps from {@code BaseEntity}.</li>
+ *   <li>Soft-deleted (see {@code BaseEntity}) and purged before its enrollment.</li>
  * </ul>
  *
  * @see BaseEntity
  * @see Enrollment
  */
 @Entity
+@SQLDelete(sql = "UPDATE grades SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
 @Table(
         name = "grades",
         indexes = {
                 @Index(name = "ix_grades_enrollment", columnList = "enrollment_id"),
-                @Index(name = "ix_grades_letter", columnList = "letter")
+                @Index(name = "ix_grades_letter", columnList = "letter"),
+                @Index(name = "ix_grades_deleted_at", columnList = "deleted_at")
         }
 )
 @Getter
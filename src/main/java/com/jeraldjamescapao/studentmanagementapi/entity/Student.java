@@ -1,9 +1,12 @@
 package com.jeraldjamescapao.studentmanagementapi.entity;
 
 import com.jeraldjamescapao.studentmanagementapi.entity.enums.*;
+import com.jeraldjamescapao.studentmanagementapi.entity.listener.StudentEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 
@@ -15,23 +18,34 @@ import java.time.LocalDate;
  *
  * <p>Key persistence notes:</p>
  * <ul>
- *   <li>Email is globally unique (enforced by a DB constraint).</li>
+ *   <li>Email is unique among live students, case-insensitively (enforced by a unique index
+ *       on the generated {@code live_email} column).</li>
  *   <li>Common query paths are optimized with indexes on (lastName, firstName) and status.</li>
  *   <li>Enums are stored as strings; renaming enum constants requires a data migration.</li>
  *   <li>Inherits identity and audit timestamps from {@code BaseEntity}.</li>
+ *   <li>Lifecycle changes are published as events by {@link StudentEntityListener}.</li>
+ *   <li>Soft-deleted (see {@code BaseEntity}); a deleted student's email is free for reuse
+ *       immediately, because {@code live_email} is {@code NULL} on deleted rows.</li>
  * </ul>
  *
  * @see BaseEntity
  * @see Gender
  * @see StudentStatus
+ * @see StudentEntityListener
  */
 @Entity
+@SQLDelete(sql = "UPDATE students SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
+@SQLRestriction("deleted_at IS NULL")
+@EntityListeners(StudentEntityListener.class)
 @Table(
         name = "students",
-        uniqueConstraints = @UniqueConstraint(name = "uq_students_email", columnNames = "email"),
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_students_live_email", columnNames = "live_email")
+        },
         indexes = {
                 @Index(name = "ix_students_last_first", columnList = "last_name,first_name"),
-                @Index(name = "ix_students_status", columnList = "status")
+                @Index(name = "ix_students_status", columnList = "status"),
+                @Index(name = "ix_students_deleted_at", columnList = "deleted_at")
         }
 )
 @Getter
@@ -49,10 +63,17 @@ public class Student extends BaseEntity {
     @Column(name = "last_name", length = 100, nullable = false)
     private String lastName;
 
-    /** Unique email for account identity; normalize (trim/lowercase) at the service layer. */
+    /** Email as entered; unique case-insensitively among live students via {@code liveEmail}. */
     @Column(name = "email", length = 320, nullable = false)
     private String email;
 
+    /**
+     * Lower-cased email generated by the database, {@code NULL} once soft-deleted; read-only,
+     * backs case-insensitive uniqueness among live students.
+     */
+    @Column(name = "live_email", length = 320, insertable = false, updatable = false)
+    private String liveEmail;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "gender", length = 10, nullable = false)
     private Gender gender;
@@ -29,5 +29,18 @@ public enum EnrollmentStatus {
     /** Course remains incomplete; pending completion requirements. */
     INCOMPLETE,
     /** Course cancelled or voided by the school administration. */
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Whether an enrollment in this status occupies a seat of its section.
+     *
+     * <p>Waitlisted, dropped, withdrawn and cancelled enrollments free their seat; all
+     * others keep it, including finished ones, so the count of a past term stays stable.</p>
+     */
+    public boolean holdsSeat() {
+        return switch (this) {
+            case WAITLISTED, DROPPED, WITHDRAWN, CANCELLED -> false;
+            case REGISTERED, ENROLLED, COMPLETED, FAILED, INCOMPLETE -> true;
+        };
+    }
 }
\ No newline at end of file
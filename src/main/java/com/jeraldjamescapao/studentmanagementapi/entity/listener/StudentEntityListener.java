@@ -0,0 +1,40 @@
+package com.jeraldjamescapao.studentmanagementapi.entity.listener;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.Student;
+import com.jeraldjamescapao.studentmanagementapi.event.StudentChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that turns {@link Student} lifecycle callbacks into
+ * {@link StudentChangedEvent} application events.
+ *
+ * <p><b>Wiring:</b> Registered on the entity via {@code @EntityListeners}. Spring Boot
+ * configures Hibernate's bean container, so this listener is instantiated by Spring
+ * and receives its dependencies through constructor injection.</p>
+ *
+ * <p><b>Timing:</b> Callbacks fire at flush time, inside the surrounding transaction.
+ * Events are therefore published before commit; consumers decide whether to act
+ * immediately or after commit.</p>
+ *
+ * @see StudentChangedEvent
+ */
+@RequiredArgsConstructor
+public class StudentEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    void afterSave(Student s) {
+        publisher.publishEvent(StudentChangedEvent.saved(s));
+    }
+
+    @PostRemove
+    void afterRemove(Student s) {
+        publisher.publishEvent(StudentChangedEvent.deleted(s.getId()));
+    }
+}
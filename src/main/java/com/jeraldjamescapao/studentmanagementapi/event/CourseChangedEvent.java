@@ -0,0 +1,40 @@
+package com.jeraldjamescapao.studentmanagementapi.event;
+
+import com.jeraldjamescapao.studentmanagementapi.catalog.CourseCatalog;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+
+import java.util.UUID;
+
+/**
+ * Application event describing a change to a single {@code Course} row.
+ *
+ * <p><b>Usage:</b> Published by the course service for every write. {@link CourseCatalog}
+ * listens with {@code @TransactionalEventListener}, so its snapshot only ever reflects
+ * committed data.</p>
+ *
+ * @param id the course id
+ * @param course the course after the change ({@code null} when deleted)
+ */
+public record CourseChangedEvent(UUID id, CourseResponse course) {
+
+    /**
+     * Creates an event for an inserted or updated course.
+     */
+    public static CourseChangedEvent saved(CourseResponse course) {
+        return new CourseChangedEvent(course.getId(), course);
+    }
+
+    /**
+     * Creates an event for a removed course.
+     */
+    public static CourseChangedEvent deleted(UUID id) {
+        return new CourseChangedEvent(id, null);
+    }
+
+    /**
+     * Whether the course was removed.
+     */
+    public boolean deleted() {
+        return course == null;
+    }
+}
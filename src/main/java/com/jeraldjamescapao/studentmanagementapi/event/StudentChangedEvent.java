@@ -0,0 +1,46 @@
+package com.jeraldjamescapao.studentmanagementapi.event;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.Student;
+import com.jeraldjamescapao.studentmanagementapi.entity.listener.StudentEntityListener;
+
+import java.util.UUID;
+
+/**
+ * Application event describing a change to a single {@code Student} row.
+ *
+ * <p><b>Usage:</b> Published by {@link StudentEntityListener} from JPA lifecycle
+ * callbacks (and by services for bulk statements that bypass the persistence context).
+ * Consumers that maintain in-memory read models should listen with
+ * {@code @TransactionalEventListener} so that they only observe committed data.</p>
+ *
+ * <p><b>Note:</b> Carries a snapshot of the searchable fields rather than the entity
+ * itself, so listeners never touch a managed instance outside its transaction.</p>
+ *
+ * @param id the student id
+ * @param firstName first name after the change ({@code null} when deleted)
+ * @param lastName last name after the change ({@code null} when deleted)
+ * @param email email after the change ({@code null} when deleted)
+ * @param deleted whether the student was removed
+ */
+public record StudentChangedEvent(
+        UUID id,
+        String firstName,
+        String lastName,
+        String email,
+        boolean deleted
+) {
+
+    /**
+     * Creates an event for an inserted or updated student.
+     */
+    public static StudentChangedEvent saved(Student s) {
+        return new StudentChangedEvent(s.getId(), s.getFirstName(), s.getLastName(), s.getEmail(), false);
+    }
+
+    /**
+     * Creates an event for a removed student.
+     */
+    public static StudentChangedEvent deleted(UUID id) {
+        return new StudentChangedEvent(id, null, null, null, true);
+    }
+}
@@ -0,0 +1,27 @@
+package com.jeraldjamescapao.studentmanagementapi.exception;
+
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+
+/**
+ * Exception thrown when a request cannot be accepted right now but may succeed later.
+ *
+ * <p><b>Usage:</b> Used for back-pressure, e.g. when the enrollment write queue is full or
+ * the application is shutting down.</p>
+ *
+ * <p><b>Handling:</b> Automatically translated into a
+ * {@code 503 Service Unavailable} response with a {@code Retry-After} header by
+ * {@link GlobalExceptionHandler}.</p>
+ *
+ * @see GlobalExceptionHandler
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Creates a new exception with a message describing why the request was turned away.
+     *
+     * @param message the reason the request was not accepted
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,517 @@
+package com.jeraldjamescapao.studentmanagementapi.maintenance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the database with a large synthetic school for benchmarking.
+ *
+ * <p><b>Volume:</b> With the defaults of {@code application-dataset.yaml}, one million
+ * students, three thousand courses, about twelve million enrollments and nine million
+ * grades.</p>
+ *
+ * <p><b>Distributions:</b></p>
+ * <ul>
+ *   <li>Students follow a fixed status mix (mostly {@code ENROLLED}, then {@code GRADUATED},
+ *       admissions and leavers); names come from small pools, so searches return realistic
+ *       result sizes.</li>
+ *   <li>Each student studies in a window of consecutive terms between {@value #FIRST_YEAR}
+ *       and {@value #LAST_YEAR}; the number of enrollments depends on the status, and course
+ *       popularity is skewed towards a head of introductory courses.</li>
+ *   <li>Past terms end mostly {@code COMPLETED}, with some failures, withdrawals and
+ *       drops; the current term is {@code ENROLLED}, {@code REGISTERED} or
+ *       {@code WAITLISTED}.</li>
+ *   <li>Completed enrollments are graded on a curve around B, shifted per student;
+ *       {@code FAILED}, {@code WITHDRAWN} and {@code INCOMPLETE} get F, W and I.</li>
+ * </ul>
+ *
+ * <p><b>Determinism:</b> Every value, including ids and timestamps, comes from
+ * {@code app.dataset.seed}, so two runs with the same settings produce identical data and
+ * benchmark results stay comparable. A database that already holds generated courses is
+ * left untouched; an interrupted run leaves a partial dataset, so start again from an empty
+ * database.</p>
+ *
+ * <p><b>Loading:</b></p>
+ * <ul>
+ *   <li>Rows are written with batched JDBC inserts on one connection and committed every
+ *       {@code app.dataset.commit-every} students.</li>
+ *   <li>Ids are time-ordered (UUID version 7 layout on a synthetic clock), so primary-key
+ *       and foreign-key index inserts append instead of splitting random B-tree pages.</li>
+ *   <li>Secondary {@code ix_*} indexes are dropped before loading and rebuilt afterwards by
+ *       re-running the idempotent {@code schema.sql}; a crashed run gets them back on the
+ *       next boot the same way.</li>
+ *   <li>Foreign-key checks are switched off for the duration
+ *       ({@code SET REFERENTIAL_INTEGRITY FALSE}); parents are written before children, so
+ *       the data stays consistent. The switch is database-wide, which is why this only runs
+ *       in its own profile.</li>
+ * </ul>
+ *
+ * <p><b>Activation:</b> {@code --spring.profiles.active=dataset}; sizes can be overridden,
+ * e.g. {@code --app.dataset.students=50000}.</p>
+ */
+@Slf4j
+@Component
+@Profile("dataset")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final int FIRST_YEAR = 2018;
+    private static final int LAST_YEAR = 2025;
+    private static final String EMAIL_DOMAIN = "dataset.example.edu";
+
+    private static final String[] SEASONS = {"SPRING", "SUMMER", "FALL"};
+    private static final List<String> TERMS = terms();
+    private static final int CURRENT_TERM = TERMS.size() - 1;
+    // Terms a student is typically active for (four academic years).
+    private static final int STUDY_TERMS = 12;
+
+    private static final String[] FIRST_NAMES = {
+            "Ada", "Alan", "Grace", "Linus", "Margaret", "Dennis", "Barbara", "Ken", "Frances", "Edsger",
+            "Radia", "Donald", "Katherine", "John", "Hedy", "Tim", "Shafi", "Niklaus", "Sophie", "Guido",
+            "Maria", "James", "Anita", "Bjarne", "Karen", "Leslie", "Mary", "Yukihiro", "Carol", "Brian",
+            "Elena", "Omar", "Priya", "Chen", "Fatima", "Lucas", "Aisha", "Mateo", "Yuki", "Noah"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Garcia", "Nguyen", "Kim", "Patel", "Johnson", "Brown", "Martinez", "Lee", "Wang",
+            "Rodriguez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson", "Walker",
+            "Young", "Allen", "King", "Wright", "Scott", "Torres", "Hill", "Flores", "Green", "Adams",
+            "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell", "Carter", "Roberts", "Capao", "Santos"
+    };
+    private static final String[] DEPARTMENTS = {
+            "CS", "MATH", "PHYS", "CHEM", "BIO", "HIST", "ECON", "PSYC", "ENGL", "PHIL",
+            "ART", "MUS", "STAT", "LING", "GEOG", "POLS", "SOCI", "ANTH", "EDUC", "NURS"
+    };
+    private static final String[] TOPICS = {
+            "Foundations", "Methods", "Theory", "Applications", "Systems", "Analysis",
+            "Design", "Seminar", "Laboratory", "Topics", "Practicum", "Research"
+    };
+
+    // Student status mix, in percent.
+    private static final String[] STUDENT_STATUSES =
+            {"ENROLLED", "GRADUATED", "ADMITTED", "APPLIED", "ON_LEAVE", "WITHDRAWN", "INACTIVE", "SUSPENDED"};
+    private static final int[] STUDENT_STATUS_WEIGHTS = {55, 15, 8, 7, 5, 5, 3, 2};
+
+    // Outcome mix of enrollments in past terms, in percent.
+    private static final String[] PAST_STATUSES =
+            {"COMPLETED", "FAILED", "WITHDRAWN", "DROPPED", "CANCELLED", "INCOMPLETE"};
+    private static final int[] PAST_STATUS_WEIGHTS = {80, 5, 5, 5, 3, 2};
+
+    private static final String[] CURRENT_STATUSES = {"ENROLLED", "REGISTERED", "WAITLISTED", "DROPPED"};
+    private static final int[] CURRENT_STATUS_WEIGHTS = {85, 5, 7, 3};
+
+    // Passing letters (A to D) first, then F, W and I; points on the 4.0 scale.
+    private static final String[] LETTERS = {"A", "A-", "B+", "B", "B-", "C+", "C", "C-", "D", "F", "W", "I"};
+    private static final BigDecimal[] LETTER_POINTS = {
+            new BigDecimal("4.00"), new BigDecimal("3.70"), new BigDecimal("3.30"), new BigDecimal("3.00"),
+            new BigDecimal("2.70"), new BigDecimal("2.30"), new BigDecimal("2.00"), new BigDecimal("1.70"),
+            new BigDecimal("1.00"), new BigDecimal("0.00"), new BigDecimal("0.00"), new BigDecimal("0.00")
+    };
+    private static final int PASSING_LETTERS = 9;
+    private static final int NO_GRADE = -1;
+
+    private static final String INSERT_STUDENT = """
+            INSERT INTO students (id, first_name, last_name, email, gender, birth_date, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_COURSE = """
+            INSERT INTO courses (id, code, title, description, credits, active, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ENROLLMENT = """
+            INSERT INTO enrollments (id, student_id, course_id, term, section, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_GRADE = """
+            INSERT INTO grades (id, enrollment_id, letter, points, graded_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private final DataSource dataSource;
+    private final int students;
+    private final int courses;
+    private final double enrollmentsPerStudent;
+    private final long seed;
+    private final int batchSize;
+    private final int commitEvery;
+
+    public DatasetGenerator(DataSource dataSource,
+                            @Value("${app.dataset.students:1000000}") int students,
+                            @Value("${app.dataset.courses:3000}") int courses,
+                            @Value("${app.dataset.enrollments-per-student:12}") double enrollmentsPerStudent,
+                            @Value("${app.dataset.seed:42}") long seed,
+                            @Value("${app.dataset.batch-size:1000}") int batchSize,
+                            @Value("${app.dataset.commit-every:10000}") int commitEvery) {
+        this.dataSource = dataSource;
+        this.students = students;
+        this.courses = courses;
+        this.enrollmentsPerStudent = enrollmentsPerStudent;
+        this.seed = seed;
+        this.batchSize = batchSize;
+        this.commitEvery = commitEvery;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        Random rnd = new Random(seed);
+        try (Connection con = dataSource.getConnection()) {
+            if (alreadyGenerated(con)) {
+                log.info("Synthetic dataset (seed {}) already present; skipping generation", seed);
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean autoCommit = con.getAutoCommit();
+            con.setAutoCommit(false);
+            setReferentialIntegrity(con, false);
+            try {
+                dropSecondaryIndexes(con);
+                Ids ids = new Ids(rnd);
+                UUID[] courseIds = insertCourses(con, rnd, ids);
+                long[] rows = insertStudents(con, rnd, ids, courseIds);
+                con.commit();
+                log.info("Generated {} students, {} courses, {} enrollments and {} grades in {} s",
+                        students, courses, rows[0], rows[1],
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+            } catch (SQLException | RuntimeException ex) {
+                con.rollback();
+                throw ex;
+            } finally {
+                setReferentialIntegrity(con, true);
+                con.setAutoCommit(autoCommit);
+            }
+
+            long indexStart = System.nanoTime();
+            ScriptUtils.executeSqlScript(con, new ClassPathResource("schema.sql"));
+            log.info("Rebuilt secondary indexes in {} s",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - indexStart));
+        }
+    }
+
+    // The first course code is fixed, so its presence marks a generated dataset.
+    private static boolean alreadyGenerated(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT 1 FROM courses WHERE code = ?")) {
+            ps.setString(1, courseCode(0));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // Plain (non-unique) indexes from schema.sql; constraint indexes stay in place.
+    private static void dropSecondaryIndexes(Connection con) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("""
+                     SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES
+                     WHERE TABLE_NAME IN ('students', 'courses', 'enrollments', 'grades')
+                       AND INDEX_TYPE_NAME = 'INDEX' AND INDEX_NAME LIKE 'ix\\_%' ESCAPE '\\'""")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        try (Statement st = con.createStatement()) {
+            for (String name : names) {
+                st.execute("DROP INDEX IF EXISTS " + name);
+            }
+        }
+        con.commit();
+    }
+
+    private static void setReferentialIntegrity(Connection con, boolean enabled) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("SET REFERENTIAL_INTEGRITY " + enabled);
+        }
+    }
+
+    private UUID[] insertCourses(Connection con, Random rnd, Ids idSequence) throws SQLException {
+        UUID[] ids = new UUID[courses];
+        try (PreparedStatement ps = con.prepareStatement(INSERT_COURSE)) {
+            for (int i = 0; i < courses; i++) {
+                String dept = DEPARTMENTS[i % DEPARTMENTS.length];
+                int level = 1 + i * 4 / courses; // the first (most popular) courses are introductory
+                ids[i] = idSequence.next();
+                ps.setObject(1, ids[i]);
+                ps.setString(2, courseCode(i));
+                ps.setString(3, dept + " " + TOPICS[rnd.nextInt(TOPICS.length)] + " " + level);
+                ps.setString(4, "Level " + level + " course of the " + dept + " department.");
+                ps.setInt(5, credits(rnd));
+                ps.setBoolean(6, rnd.nextInt(100) < 90);
+                ps.setObject(7, termStart(0).minusMonths(6));
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        con.commit();
+        return ids;
+    }
+
+    /**
+     * Inserts all students together with their enrollments and grades.
+     *
+     * @return the number of enrollments and grades written
+     */
+    private long[] insertStudents(Connection con, Random rnd, Ids ids, UUID[] courseIds) throws SQLException {
+        long enrollments = 0;
+        long grades = 0;
+        try (PreparedStatement student = con.prepareStatement(INSERT_STUDENT);
+             PreparedStatement enrollment = con.prepareStatement(INSERT_ENROLLMENT);
+             PreparedStatement grade = con.prepareStatement(INSERT_GRADE)) {
+            Batch studentBatch = new Batch(student, batchSize);
+            Batch enrollmentBatch = new Batch(enrollment, batchSize);
+            Batch gradeBatch = new Batch(grade, batchSize);
+
+            for (int i = 0; i < students; i++) {
+                UUID id = ids.next();
+                String status = pick(rnd, STUDENT_STATUSES, STUDENT_STATUS_WEIGHTS);
+                int firstTerm = firstTerm(rnd, status);
+                String firstName = FIRST_NAMES[rnd.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[skewed(rnd, LAST_NAMES.length)];
+
+                student.setObject(1, id);
+                student.setString(2, firstName);
+                student.setString(3, lastName);
+                student.setString(4, (firstName + "." + lastName + "." + i + "@" + EMAIL_DOMAIN).toLowerCase());
+                student.setString(5, gender(rnd));
+                // 17 to 20 years old when starting
+                student.setDate(6, Date.valueOf(LocalDate.of(termStart(firstTerm).getYear() - 20, 1, 1)
+                        .plusDays(rnd.nextInt(3 * 365))));
+                student.setString(7, status);
+                student.setObject(8, termStart(firstTerm).minusMonths(3));
+                studentBatch.add();
+
+                double ability = rnd.nextGaussian() * 0.4;
+                int count = enrollmentCount(rnd, status);
+                Set<Long> taken = new HashSet<>();
+                for (int e = 0; e < count; e++) {
+                    int term = enrollmentTerm(rnd, status, firstTerm);
+                    int course = skewed(rnd, courseIds.length);
+                    if (!taken.add((long) term << 32 | course)) {
+                        continue; // same course twice in a term; skip rather than bias the retry
+                    }
+                    UUID enrollmentId = ids.next();
+                    String outcome = term == CURRENT_TERM
+                            ? pick(rnd, CURRENT_STATUSES, CURRENT_STATUS_WEIGHTS)
+                            : pick(rnd, PAST_STATUSES, PAST_STATUS_WEIGHTS);
+
+                    enrollment.setObject(1, enrollmentId);
+                    enrollment.setObject(2, id);
+                    enrollment.setObject(3, courseIds[course]);
+                    enrollment.setString(4, TERMS.get(term));
+                    enrollment.setString(5, section(rnd));
+                    enrollment.setString(6, outcome);
+                    enrollment.setObject(7, termStart(term).minusWeeks(2 + rnd.nextInt(6)));
+                    enrollmentBatch.add();
+                    enrollments++;
+
+                    int letter = letter(rnd, outcome, ability);
+                    if (letter != NO_GRADE) {
+                        OffsetDateTime gradedAt = termStart(term).plusWeeks(15).plusHours(rnd.nextInt(24 * 14));
+                        grade.setObject(1, ids.next());
+                        grade.setObject(2, enrollmentId);
+                        grade.setString(3, LETTERS[letter]);
+                        grade.setBigDecimal(4, LETTER_POINTS[letter]);
+                        grade.setObject(5, gradedAt);
+                        grade.setObject(6, gradedAt);
+                        gradeBatch.add();
+                        grades++;
+                    }
+                }
+
+                if ((i + 1) % commitEvery == 0) {
+                    studentBatch.flush();
+                    enrollmentBatch.flush();
+                    gradeBatch.flush();
+                    con.commit();
+                    log.info("Generated {} / {} students", i + 1, students);
+                }
+            }
+            studentBatch.flush();
+            enrollmentBatch.flush();
+            gradeBatch.flush();
+        }
+        return new long[]{enrollments, grades};
+    }
+
+    // ---- distributions ---------------------------------------------------------------
+
+    // Index into LETTERS, or NO_GRADE for outcomes that are not graded.
+    private static int letter(Random rnd, String outcome, double ability) {
+        return switch (outcome) {
+            case "COMPLETED" -> {
+                // Curve centred on B (3.0) with a per-student shift; passing grades only.
+                double points = Math.min(4.0, Math.max(1.0, 3.0 + ability + rnd.nextGaussian() * 0.6));
+                int best = 0;
+                for (int i = 1; i < PASSING_LETTERS; i++) {
+                    if (Math.abs(LETTER_POINTS[i].doubleValue() - points)
+                            < Math.abs(LETTER_POINTS[best].doubleValue() - points)) {
+                        best = i;
+                    }
+                }
+                yield best;
+            }
+            case "FAILED" -> PASSING_LETTERS;
+            case "WITHDRAWN" -> PASSING_LETTERS + 1;
+            case "INCOMPLETE" -> PASSING_LETTERS + 2;
+            default -> NO_GRADE;
+        };
+    }
+
+    private int enrollmentCount(Random rnd, String status) {
+        double factor = switch (status) {
+            case "APPLIED", "ADMITTED" -> 0;
+            case "GRADUATED" -> 1.6;
+            case "WITHDRAWN", "INACTIVE" -> 0.4;
+            case "ON_LEAVE", "SUSPENDED" -> 0.7;
+            default -> 1.0;
+        };
+        // Roughly uniform spread of +/- 50 % around the status mean.
+        return (int) Math.round(enrollmentsPerStudent * factor * (0.5 + rnd.nextDouble()));
+    }
+
+    // First term of a student's study window; graduates finished before the current term.
+    private static int firstTerm(Random rnd, String status) {
+        return switch (status) {
+            case "GRADUATED" -> rnd.nextInt(Math.max(1, CURRENT_TERM - STUDY_TERMS + 1));
+            case "APPLIED", "ADMITTED" -> CURRENT_TERM;
+            // ENROLLED students are still inside their window, so they span the current term.
+            default -> Math.max(0, CURRENT_TERM - rnd.nextInt(STUDY_TERMS));
+        };
+    }
+
+    private static int enrollmentTerm(Random rnd, String status, int firstTerm) {
+        int last = Math.min(CURRENT_TERM, firstTerm + STUDY_TERMS - 1);
+        if ("GRADUATED".equals(status)) {
+            last = Math.min(last, CURRENT_TERM - 1);
+        }
+        int term = firstTerm + rnd.nextInt(last - firstTerm + 1);
+        // Summer terms are lighter: half of the summer picks move to the next fall.
+        if (TERMS.get(term).endsWith("SUMMER") && rnd.nextBoolean()) {
+            term = Math.min(term + 1, last);
+        }
+        return term;
+    }
+
+    // Index in [0, n) skewed towards the head: ~half of the picks fall in the first quarter.
+    private static int skewed(Random rnd, int n) {
+        double u = rnd.nextDouble();
+        return (int) (n * u * u);
+    }
+
+    private static String pick(Random rnd, String[] values, int[] percentWeights) {
+        int n = rnd.nextInt(100);
+        for (int i = 0; i < values.length; i++) {
+            n -= percentWeights[i];
+            if (n < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static String gender(Random rnd) {
+        int n = rnd.nextInt(100);
+        return n < 49 ? "FEMALE" : n < 98 ? "MALE" : "OTHER";
+    }
+
+    private static int credits(Random rnd) {
+        int n = rnd.nextInt(100);
+        return n < 10 ? 1 : n < 20 ? 2 : n < 65 ? 3 : n < 90 ? 4 : 6;
+    }
+
+    private static String section(Random rnd) {
+        int n = rnd.nextInt(100);
+        return n < 60 ? "A" : n < 85 ? "B" : n < 95 ? "C" : "LEC-01";
+    }
+
+    // Unique across departments: CS1000, MATH1000, ..., CS1001, ...
+    private static String courseCode(int i) {
+        return DEPARTMENTS[i % DEPARTMENTS.length] + (1000 + i / DEPARTMENTS.length);
+    }
+
+    private static OffsetDateTime termStart(int term) {
+        int year = FIRST_YEAR + term / SEASONS.length;
+        int month = switch (term % SEASONS.length) {
+            case 0 -> 1;  // SPRING
+            case 1 -> 6;  // SUMMER
+            default -> 9; // FALL
+        };
+        return OffsetDateTime.of(year, month, 15, 8, 0, 0, 0, ZoneOffset.UTC);
+    }
+
+    private static List<String> terms() {
+        List<String> terms = new ArrayList<>();
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (String season : SEASONS) {
+                terms.add(year + "-" + season);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    // Executes a statement's batch every `size` rows.
+    private static final class Batch {
+        private final PreparedStatement ps;
+        private final int size;
+        private int pending;
+
+        Batch(PreparedStatement ps, int size) {
+            this.ps = ps;
+            this.size = size;
+        }
+
+        void add() throws SQLException {
+            ps.addBatch();
+            if (++pending == size) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                ps.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+
+    // Time-ordered UUIDs (version 7 layout): a synthetic millisecond clock advanced per id
+    // keeps every id larger than the previous one; the random bits come from the seed.
+    private static final class Ids {
+        private final Random rnd;
+        private long clock = termStart(0).toInstant().toEpochMilli();
+
+        Ids(Random rnd) {
+            this.rnd = rnd;
+        }
+
+        UUID next() {
+            long msb = (clock++ << 16) | 0x7000L | rnd.nextInt(0x1000);
+            long lsb = (rnd.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.jeraldjamescapao.studentmanagementapi.maintenance;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.BaseEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background job that physically removes soft-deleted rows once they are older than the
+ * retention window.
+ *
+ * <p><b>Order:</b> Tables are purged children first (grades, enrollments, then students and
+ * courses). A row is only removed when no remaining row references it, so the job never
+ * violates a foreign key; a parent whose children are still retained waits for a later run.</p>
+ *
+ * <p><b>Locking:</b> Each table is purged in chunks of {@code app.purge.chunk-size} rows.
+ * Every chunk is a separate auto-committed statement, so locks are held for one chunk only
+ * and concurrent writers are never blocked for the length of the whole purge.</p>
+ *
+ * <p><b>Configuration:</b></p>
+ * <ul>
+ *   <li>{@code app.purge.retention} – how long soft-deleted rows are kept (default 30 days).</li>
+ *   <li>{@code app.purge.chunk-size} – rows per {@code DELETE} statement (default 1000).</li>
+ *   <li>{@code app.purge.interval} – delay between runs (default 1 hour).</li>
+ * </ul>
+ *
+ * @see BaseEntity
+ */
+@Slf4j
+@Component
+public class SoftDeletePurgeJob {
+
+    // Children before parents; each statement skips rows that are still referenced.
+    private static final List<Purge> PURGES = List.of(
+            new Purge("grades", """
+                    DELETE FROM grades WHERE id IN (
+                        SELECT g.id FROM grades g WHERE g.deleted_at < ? LIMIT ?)"""),
+            new Purge("enrollments", """
+                    DELETE FROM enrollments WHERE id IN (
+                        SELECT e.id FROM enrollments e WHERE e.deleted_at < ?
+                        AND NOT EXISTS (SELECT 1 FROM grades g WHERE g.enrollment_id = e.id) LIMIT ?)"""),
+            new Purge("students", """
+                    DELETE FROM students WHERE id IN (
+                        SELECT s.id FROM students s WHERE s.deleted_at < ?
+                        AND NOT EXISTS (SELECT 1 FROM enrollments e WHERE e.student_id = s.id) LIMIT ?)"""),
+            new Purge("courses", """
+                    DELETE FROM courses WHERE id IN (
+                        SELECT c.id FROM courses c WHERE c.deleted_at < ?
+                        AND NOT EXISTS (SELECT 1 FROM enrollments e WHERE e.course_id = c.id) LIMIT ?)""")
+    );
+
+    private final JdbcTemplate jdbc;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public SoftDeletePurgeJob(JdbcTemplate jdbc,
+                              @Value("${app.purge.retention:P30D}") Duration retention,
+                              @Value("${app.purge.chunk-size:1000}") int chunkSize) {
+        this.jdbc = jdbc;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Runs one purge pass over all tables.
+     *
+     * @return rows removed per table, in purge order
+     */
+    @Scheduled(fixedDelayString = "${app.purge.interval:PT1H}", initialDelayString = "${app.purge.interval:PT1H}")
+    public Map<String, Integer> purge() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(retention));
+        Map<String, Integer> removed = new LinkedHashMap<>();
+        for (Purge p : PURGES) {
+            removed.put(p.table(), purgeTable(p.sql(), cutoff));
+        }
+
+        if (removed.values().stream().anyMatch(n -> n > 0)) {
+            log.info("Purged soft-deleted rows older than {}: {}", retention, removed);
+        }
+        return removed;
+    }
+
+    private int purgeTable(String sql, Timestamp cutoff) {
+        int total = 0;
+        int n;
+        do {
+            n = jdbc.update(sql, cutoff, chunkSize);
+            total += n;
+        } while (n == chunkSize);
+        return total;
+    }
+
+    private record Purge(String table, String sql) {
+    }
+}
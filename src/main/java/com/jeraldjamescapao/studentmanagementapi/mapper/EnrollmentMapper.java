@@ -19,6 +19,7 @@ import java.util.List;
  *   <li>{@code EnrollmentCreateRequest → Enrollment}</li>
  *   <li>{@code EnrollmentUpdateRequest → Enrollment}</li>
  *   <li>{@code Enrollment → EnrollmentResponse}</li>
+ *   <li>{@code Enrollment → EnrollmentDetailResponse} (student and course must be fetched)</li>
  * </ul>
  *
  * <p>System-managed fields from {@code BaseEntity}
@@ -30,6 +31,7 @@ import java.util.List;
  * @see EnrollmentCreateRequest
  * @see EnrollmentUpdateRequest
  * @see EnrollmentResponse
+ * @see EnrollmentDetailResponse
  * @see Enrollment
  * @see EntityRefFactory
  */
@@ -41,6 +43,15 @@ public interface EnrollmentMapper {
     @Mapping(source = "course.id",  target = "courseId")
     EnrollmentResponse toResponse(Enrollment entity);
 
+    // Entity -> detail DTO; reads the student and course, so both must be loaded
+    @Mapping(source = "student.id", target = "studentId")
+    @Mapping(source = "course.id",  target = "courseId")
+    @Mapping(source = "course.code",  target = "courseCode")
+    @Mapping(source = "course.title", target = "courseTitle")
+    @Mapping(target = "studentName",
+             expression = "java(entity.getStudent().getFirstName() + \" \" + entity.getStudent().getLastName())")
+    EnrollmentDetailResponse toDetail(Enrollment entity);
+
     // MapStruct List mapping
     List<EnrollmentResponse> toResponseList(List<Enrollment> entities);
 
@@ -17,11 +17,13 @@ import java.util.List;
  *   <li>{@code StudentCreateRequest → Student}</li>
  *   <li>{@code StudentUpdateRequest → Student}</li>
  *   <li>{@code Student → StudentResponse}</li>
+ *   <li>{@code Student → StudentSuggestion}</li>
  * </ul>
  *
  * <p>System-managed fields from {@code BaseEntity}
  * — such as {@code id}, {@code createdAt}, {@code updatedAt}, and {@code deletedAt} —
- * are intentionally ignored during DTO-to-entity mapping, since they are handled by JPA.</p>
+ * are intentionally ignored during DTO-to-entity mapping, since they are handled by JPA.
+ * The database-generated {@code liveEmail} is ignored for the same reason.</p>
  *
  * <p>All mappings follow the global rules defined in {@link MapStructConfig}.</p>
  *
@@ -39,12 +41,16 @@ public interface StudentMapper {
     // MapStruct List mapping
     List<StudentResponse> toResponseList(List<Student> entities);
 
+    // Entity -> autocomplete suggestion
+    StudentSuggestion toSuggestion(Student entity);
+
     // Create DTO -> new Entity (ignore BaseEntity fields)
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "liveEmail", ignore = true)
     Student fromCreate(StudentCreateRequest request);
 
     // Update DTO -> update existing Entity in place and ignore BaseEntity fields (PUT-style full update)
@@ -52,5 +58,6 @@ public interface StudentMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "liveEmail", ignore = true)
     void update(@MappingTarget Student target, StudentUpdateRequest request);
 }
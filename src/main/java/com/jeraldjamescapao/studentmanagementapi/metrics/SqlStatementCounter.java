@@ -0,0 +1,49 @@
+package com.jeraldjamescapao.studentmanagementapi.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * <p><b>Wiring:</b> Registers itself as Hibernate's {@link StatementInspector}, so every
+ * statement is seen: JPQL and native queries, inserts, updates and, most importantly, the
+ * hidden selects of lazy loads that turn a listing into N+1 queries. Plain
+ * {@code JdbcTemplate} access does not go through Hibernate and is not counted.</p>
+ *
+ * <p><b>Usage:</b> Callers {@link #reset()} at the start of a unit of work (a request, a test)
+ * and read {@link #count()} at the end. Counting is a thread-local increment and stays on in
+ * every profile; only reporting is opt-in.</p>
+ *
+ * @see com.jeraldjamescapao.studentmanagementapi.web.QueryCountFilter
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /** Starts a new count on the current thread. */
+    public void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /** Statements prepared on the current thread since the last {@link #reset()}. */
+    public int count() {
+        return COUNT.get()[0];
+    }
+}
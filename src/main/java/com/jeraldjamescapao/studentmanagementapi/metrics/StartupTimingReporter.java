@@ -0,0 +1,113 @@
+package com.jeraldjamescapao.studentmanagementapi.metrics;
+
+import com.jeraldjamescapao.studentmanagementapi.config.ScriptLedgerInitializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reports how long the main startup phases took, to catch cold-start regressions.
+ *
+ * <p><b>Phases:</b></p>
+ * <ul>
+ *   <li>{@code context-refresh} – the whole application context refresh;</li>
+ *   <li>{@code datasource} – creating the {@code dataSource} bean;</li>
+ *   <li>{@code scripts} – checking the script ledger and running changed {@code schema.sql} /
+ *       {@code data.sql} ({@link ScriptLedgerInitializer});</li>
+ *   <li>{@code jpa} – building the {@code entityManagerFactory}, excluding the two phases above
+ *       when they happen inside it. The connection pool starts here, when Hibernate reads the
+ *       database metadata.</li>
+ * </ul>
+ *
+ * <p><b>Output:</b> One log line once the application is ready, and the time gauge
+ * {@value #METRIC} tagged with {@code phase}, next to Spring Boot's
+ * {@code application.started.time} and {@code application.ready.time}.</p>
+ *
+ * <p><b>Source:</b> Durations come from the {@link BufferingApplicationStartup} installed in
+ * {@code main}; the raw steps are available at {@code /actuator/startup}. Contexts started
+ * without it (e.g. tests) are not reported.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimingReporter {
+
+    /** Name of the startup phase gauge. */
+    public static final String METRIC = "application.startup.phase";
+
+    private final MeterRegistry registry;
+
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        List<TimelineEvent> events = startup.getBufferedTimeline().getEvents();
+
+        List<TimelineEvent> refresh = matching(events, named("spring.context.refresh"));
+        List<TimelineEvent> dataSource = matching(events, bean("dataSource"));
+        List<TimelineEvent> scripts = matching(events, named("app.sql.init.scripts"));
+        // A factory bean's own instantiation is recorded under its "&" name.
+        List<TimelineEvent> jpa = matching(events, bean("&entityManagerFactory").or(bean("entityManagerFactory")));
+
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        phases.put("context-refresh", sum(refresh));
+        phases.put("datasource", sum(dataSource));
+        phases.put("scripts", sum(scripts));
+        phases.put("jpa", sum(jpa).minus(sum(nestedIn(jpa, List.of(dataSource, scripts)))));
+
+        phases.forEach((phase, duration) -> TimeGauge.builder(METRIC, duration, TimeUnit.MILLISECONDS, Duration::toMillis)
+                .tag("phase", phase)
+                .description("Duration of a startup phase")
+                .register(registry));
+
+        log.info("Startup phases: {}; ready after {} ms",
+                phases.entrySet().stream()
+                        .map(e -> e.getKey() + " " + e.getValue().toMillis() + " ms")
+                        .collect(Collectors.joining(", ")),
+                event.getTimeTaken() == null ? "?" : event.getTimeTaken().toMillis());
+    }
+
+    private static Predicate<StartupStep> named(String name) {
+        return step -> step.getName().equals(name);
+    }
+
+    private static Predicate<StartupStep> bean(String beanName) {
+        return named("spring.beans.instantiate").and(step -> StreamSupport.stream(step.getTags().spliterator(), false)
+                .anyMatch(tag -> tag.getKey().equals("beanName") && tag.getValue().equals(beanName)));
+    }
+
+    private static List<TimelineEvent> matching(List<TimelineEvent> events, Predicate<StartupStep> predicate) {
+        return events.stream().filter(e -> predicate.test(e.getStartupStep())).toList();
+    }
+
+    // Events of the given phases that ran inside one of the outer events. Startup is
+    // single-threaded, so an event within an outer event's interval is nested in it.
+    private static List<TimelineEvent> nestedIn(List<TimelineEvent> outer, List<List<TimelineEvent>> phases) {
+        return phases.stream()
+                .flatMap(List::stream)
+                .filter(e -> outer.stream().anyMatch(o -> !e.getStartTime().isBefore(o.getStartTime())
+                        && !e.getEndTime().isAfter(o.getEndTime())))
+                .toList();
+    }
+
+    private static Duration sum(List<TimelineEvent> events) {
+        return events.stream().map(TimelineEvent::getDuration).reduce(Duration.ZERO, Duration::plus);
+    }
+}
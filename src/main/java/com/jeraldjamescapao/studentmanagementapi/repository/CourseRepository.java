@@ -1,13 +1,25 @@
 package com.jeraldjamescapao.studentmanagementapi.repository;
 
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
 import com.jeraldjamescapao.studentmanagementapi.entity.Course;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for managing {@link Course} entities.
@@ -16,24 +28,64 @@ import java.util.UUID;
  * It leverages indexes and constraints defined in the schema:</p>
  *
  * <ul>
- *   <li>{@code uq_courses_code} — enforces course code uniqueness.</li>
+ *   <li>{@code uq_courses_live_code} — enforces course code uniqueness among live courses.</li>
  *   <li>{@code ix_courses_active} — speeds up lookups by active state.</li>
  * </ul>
  *
+ * <p>{@code findResponse*} methods are read-only constructor projections into
+ * {@link CourseResponse}; they never hydrate managed entities.</p>
+ *
+ * <p>Lookups by code and the active-course listing are served by {@code CourseCatalog},
+ * which is loaded through {@link #findAllResponses()}.</p>
+ *
  * <p>All operations use {@link UUID} as the primary key type.</p>
  */
 @Repository
 public interface CourseRepository extends JpaRepository<Course, UUID> {
 
-    // schema: uq_courses_code
-    Optional<Course> findByCodeIgnoreCase(String code);
-
     boolean existsByCodeIgnoreCase(String code);
 
     // schema: ix_courses_active
-    Page<Course> findByActiveTrue(Pageable pageable);
-
     Page<Course> findByActive(boolean active, Pageable pageable);
 
     Page<Course> findByCodeContainingIgnoreCase(String q, Pageable pageable);
+
+    // ---- read-only projections ----------------------------------------------------
+    // Rows are constructed directly as CourseResponse, bypassing the persistence context.
+
+    String RESPONSE = """
+            select new com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse(
+                c.id, c.code, c.title, c.description, c.credits, c.active, c.createdAt, c.updatedAt)
+            from Course c
+            """;
+
+    @Query(RESPONSE + "where c.id = :id")
+    Optional<CourseResponse> findResponseById(@Param("id") UUID id);
+
+    // whole catalog in one statement; CourseCatalog's load
+    @Query(RESPONSE)
+    List<CourseResponse> findAllResponses();
+
+    @Query(value = RESPONSE, countQuery = "select count(c) from Course c")
+    Page<CourseResponse> findResponses(Pageable pageable);
+
+    // schema: ix_courses_active
+    @Query(value = RESPONSE + "where c.active = :active",
+            countQuery = "select count(c) from Course c where c.active = :active")
+    Page<CourseResponse> findResponsesByActive(@Param("active") boolean active, Pageable pageable);
+
+    // Guarded soft delete, as for students: only live enrollments block.
+    // schema: ix_enrollments_course
+    @Modifying
+    @Query("update Course c set c.deletedAt = :now where c.id = :id and c.deletedAt is null "
+            + "and not exists (select 1 from Enrollment e where e.course.id = c.id and e.deletedAt is null)")
+    int softDeleteIfUnenrolled(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    // full-table export: forward-only cursor in primary-key order, rows fetched in batches
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE + "order by c.id")
+    Stream<CourseResponse> streamResponses();
 }
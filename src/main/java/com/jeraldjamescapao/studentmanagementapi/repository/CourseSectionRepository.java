@@ -0,0 +1,35 @@
+package com.jeraldjamescapao.studentmanagementapi.repository;
+
+import com.jeraldjamescapao.studentmanagementapi.entity.CourseSection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for managing {@link CourseSection} entities.
+ *
+ * <p>Uses the key defined in the schema:</p>
+ *
+ * <ul>
+ *   <li>{@code uq_course_sections} — one capacity per (course_id, term, section).</li>
+ * </ul>
+ *
+ * <p>All operations use {@link UUID} as the primary key type.</p>
+ */
+@Repository
+public interface CourseSectionRepository extends JpaRepository<CourseSection, UUID> {
+
+    // schema: uq_course_sections (course_id, term, section)
+    Optional<CourseSection> findByCourseIdAndTermAndSection(UUID courseId, String term, String section);
+
+    // schema: uq_course_sections; SeatLedger's load, without hydrating the entity
+    @Query("select s.capacity from CourseSection s "
+            + "where s.course.id = :courseId and s.term = :term and s.section = :section")
+    Optional<Integer> findCapacity(@Param("courseId") UUID courseId,
+                                   @Param("term") String term,
+                                   @Param("section") String section);
+}
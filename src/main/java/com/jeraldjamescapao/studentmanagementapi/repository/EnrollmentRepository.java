@@ -1,14 +1,28 @@
 package com.jeraldjamescapao.studentmanagementapi.repository;
 
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
 import com.jeraldjamescapao.studentmanagementapi.entity.Enrollment;
 import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for managing {@link Enrollment} entities.
@@ -17,19 +31,33 @@ import java.util.UUID;
  * keys and indexes defined in the schema:</p>
  *
  * <ul>
- *   <li>{@code uq_enrollments} — ensures one unique enrollment per
+ *   <li>{@code uq_enrollments_live} — ensures one live enrollment per
  *       (student_id, course_id, term, section).</li>
  *   <li>{@code ix_enrollments_student} — optimizes lookups by student ID.</li>
  *   <li>{@code ix_enrollments_course} — optimizes lookups by course ID.</li>
  *   <li>{@code ix_enrollments_status} — speeds up status-based filters.</li>
+ *   <li>{@code ix_enrollments_section} — covers seat counts and the waitlist of one
+ *       (course_id, term, section).</li>
  * </ul>
  *
+ * <p>{@code find*WithStudentAndCourse*} methods carry an entity graph: {@code student} and
+ * {@code course} are joined into the same select, so mapping a page of any size costs the
+ * page query plus its count instead of one lazy load per row. They back every listing; the
+ * count query is derived without the joins.</p>
+ *
+ * <p>Methods returning {@link Slice} fetch one extra row to detect a next page
+ * and never issue a {@code COUNT} query; they back listings requested with
+ * {@code withTotal=false}.</p>
+ *
+ * <p>{@code findResponse*} methods are read-only constructor projections into
+ * {@link EnrollmentResponse}; they never hydrate managed entities.</p>
+ *
  * <p>All operations use {@link UUID} as the primary key type.</p>
  */
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, UUID> {
 
-    // schema: uq_enrollments (student_id, course_id, term, section)
+    // schema: uq_enrollments_live (student_id, course_id, term, section, live)
     Optional<Enrollment> findByStudentIdAndCourseIdAndTermAndSection(
         UUID studentId, UUID courseId, String term, String section
     );
@@ -49,4 +77,100 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, UUID> {
 
     // schema: ix_enrollments_status
     Page<Enrollment> findByStatus(EnrollmentStatus status, Pageable pageable);
+
+    // ---- fetch-planned reads ----------------------------------------------------------
+
+    @EntityGraph(attributePaths = {"student", "course"})
+    Optional<Enrollment> findWithStudentAndCourseById(UUID id);
+
+    @EntityGraph(attributePaths = {"student", "course"})
+    Page<Enrollment> findWithStudentAndCourseBy(Pageable pageable);
+
+    // schema: ix_enrollments_student
+    @EntityGraph(attributePaths = {"student", "course"})
+    Page<Enrollment> findWithStudentAndCourseByStudentId(UUID studentId, Pageable pageable);
+
+    // schema: ix_enrollments_course
+    @EntityGraph(attributePaths = {"student", "course"})
+    Page<Enrollment> findWithStudentAndCourseByCourseId(UUID courseId, Pageable pageable);
+
+    // schema: ix_enrollments_status
+    @EntityGraph(attributePaths = {"student", "course"})
+    Page<Enrollment> findWithStudentAndCourseByStatus(EnrollmentStatus status, Pageable pageable);
+
+    // count-free variants, for withTotal=false
+    @EntityGraph(attributePaths = {"student", "course"})
+    Slice<Enrollment> findSliceWithStudentAndCourseBy(Pageable pageable);
+
+    // schema: ix_enrollments_student
+    @EntityGraph(attributePaths = {"student", "course"})
+    Slice<Enrollment> findSliceWithStudentAndCourseByStudentId(UUID studentId, Pageable pageable);
+
+    // schema: ix_enrollments_course
+    @EntityGraph(attributePaths = {"student", "course"})
+    Slice<Enrollment> findSliceWithStudentAndCourseByCourseId(UUID courseId, Pageable pageable);
+
+    // schema: ix_enrollments_status
+    @EntityGraph(attributePaths = {"student", "course"})
+    Slice<Enrollment> findSliceWithStudentAndCourseByStatus(EnrollmentStatus status, Pageable pageable);
+
+    // Guarded soft delete: 0 when the enrollment is gone or still has live grades.
+    // schema: ix_grades_enrollment
+    @Modifying
+    @Query("update Enrollment e set e.deletedAt = :now where e.id = :id and e.deletedAt is null "
+            + "and not exists (select 1 from Grade g where g.enrollment.id = e.id and g.deletedAt is null)")
+    int softDeleteIfUngraded(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    // ---- seats ---------------------------------------------------------------------
+
+    // schema: ix_enrollments_section; seats taken, see EnrollmentStatus.holdsSeat()
+    long countByCourseIdAndTermAndSectionAndStatusIn(
+        UUID courseId, String term, String section, Collection<EnrollmentStatus> statuses
+    );
+
+    // schema: ix_enrollments_section; head of the waitlist
+    Optional<Enrollment> findFirstByCourseIdAndTermAndSectionAndStatusOrderByCreatedAtAscIdAsc(
+        UUID courseId, String term, String section, EnrollmentStatus status
+    );
+
+    // Guarded promotion: 0 when another transaction already moved the enrollment off the waitlist.
+    @Modifying
+    @Query("update Enrollment e set e.status = com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus.ENROLLED, "
+            + "e.updatedAt = :now where e.id = :id "
+            + "and e.status = com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus.WAITLISTED "
+            + "and e.deletedAt is null")
+    int promoteIfWaitlisted(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    // ---- read-only projections ----------------------------------------------------
+    // Rows are constructed directly as EnrollmentResponse, bypassing the persistence context.
+
+    String RESPONSE = """
+            select new com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse(
+                e.id, e.student.id, e.course.id, e.term, e.section, e.status, e.createdAt, e.updatedAt)
+            from Enrollment e
+            """;
+
+    @Query(RESPONSE + "where e.id = :id")
+    Optional<EnrollmentResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(value = RESPONSE, countQuery = "select count(e) from Enrollment e")
+    Page<EnrollmentResponse> findResponses(Pageable pageable);
+
+    // schema: ix_enrollments_student
+    @Query(value = RESPONSE + "where e.student.id = :studentId",
+            countQuery = "select count(e) from Enrollment e where e.student.id = :studentId")
+    Page<EnrollmentResponse> findResponsesByStudentId(@Param("studentId") UUID studentId, Pageable pageable);
+
+    // schema: ix_enrollments_course
+    @Query(value = RESPONSE + "where e.course.id = :courseId",
+            countQuery = "select count(e) from Enrollment e where e.course.id = :courseId")
+    Page<EnrollmentResponse> findResponsesByCourseId(@Param("courseId") UUID courseId, Pageable pageable);
+
+    // full-table export: forward-only cursor in primary-key order, rows fetched in batches
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE + "order by e.id")
+    Stream<EnrollmentResponse> streamResponses();
 }
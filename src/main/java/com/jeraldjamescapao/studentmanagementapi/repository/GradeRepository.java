@@ -1,13 +1,22 @@
 package com.jeraldjamescapao.studentmanagementapi.repository;
 
+import com.jeraldjamescapao.studentmanagementapi.dto.grade.GradeResponse;
 import com.jeraldjamescapao.studentmanagementapi.entity.Grade;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for managing {@link Grade} entities.
@@ -20,6 +29,9 @@ import java.util.UUID;
  *   <li>{@code ix_grades_letter} — for filtering grades by letter value.</li>
  * </ul>
  *
+ * <p>{@code findResponse*} methods are read-only constructor projections into
+ * {@link GradeResponse}; they never hydrate managed entities.</p>
+ *
  * <p>All operations use {@link UUID} as the primary key type.</p>
  */
 @Repository
@@ -33,4 +45,32 @@ public interface GradeRepository extends JpaRepository<Grade, UUID>{
 
     // optional helper by letter (uses ix_grades_letter)
     Page<Grade> findByLetter(String letter, Pageable pageable);
+
+    // ---- read-only projections ----------------------------------------------------
+    // Rows are constructed directly as GradeResponse, bypassing the persistence context.
+
+    String RESPONSE = """
+            select new com.jeraldjamescapao.studentmanagementapi.dto.grade.GradeResponse(
+                g.id, g.enrollment.id, g.letter, g.points, g.gradedAt, g.createdAt, g.updatedAt, g.notes)
+            from Grade g
+            """;
+
+    @Query(RESPONSE + "where g.id = :id")
+    Optional<GradeResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(value = RESPONSE, countQuery = "select count(g) from Grade g")
+    Page<GradeResponse> findResponses(Pageable pageable);
+
+    // schema: ix_grades_enrollment
+    @Query(value = RESPONSE + "where g.enrollment.id = :enrollmentId",
+            countQuery = "select count(g) from Grade g where g.enrollment.id = :enrollmentId")
+    Page<GradeResponse> findResponsesByEnrollmentId(@Param("enrollmentId") UUID enrollmentId, Pageable pageable);
+
+    // full-table export: forward-only cursor in primary-key order, rows fetched in batches
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE + "order by g.id")
+    Stream<GradeResponse> streamResponses();
 }
@@ -1,14 +1,31 @@
 package com.jeraldjamescapao.studentmanagementapi.repository;
 
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentVersion;
 import com.jeraldjamescapao.studentmanagementapi.entity.Student;
 import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import com.jeraldjamescapao.studentmanagementapi.search.StudentIndexRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository interface for managing {@link Student} entities.
@@ -18,28 +35,77 @@ import java.util.UUID;
  *
  * <p>Queries are aligned with the database schema:
  * <ul>
- *   <li>{@code uq_students_email} — ensures email uniqueness.</li>
+ *   <li>{@code uq_students_live_email} — ensures case-insensitive email
+ *       uniqueness among live students and serves email lookups.</li>
  *   <li>{@code ix_students_status} — optimizes lookups by status.</li>
- *   <li>{@code ix_students_last_first} — improves searches by last name.</li>
+ *   <li>{@code ix_students_last_first} — improves searches by last name and
+ *       serves the keyset (cursor) listing.</li>
  * </ul></p>
  *
+ * <p>Methods returning {@link Slice} fetch one extra row to detect a next page
+ * and never issue a {@code COUNT} query.</p>
+ *
+ * <p>Read paths use {@code findResponse*} constructor projections into
+ * {@link StudentResponse}; entity finders are kept for write paths that need a
+ * managed {@link Student}.</p>
+ *
+ * <p>Entity queries only see live rows ({@code deleted_at IS NULL}, via
+ * {@code @SQLRestriction} on {@link Student}); native queries must filter themselves.</p>
+ *
  * <p>All operations use {@link UUID} as the primary key type.</p>
  */
 @Repository
 public interface StudentRepository extends JpaRepository<Student, UUID> {
 
-    // schema: uq_students_email
-    Optional<Student> findByEmailIgnoreCase(String email);
+    // schema: uq_students_live_email (index seek instead of scanning LOWER(email)).
+    // Uniqueness on create/update is enforced by the index itself, not by a pre-check.
+    @Query("select s from Student s where s.liveEmail = lower(:email)")
+    Optional<Student> findByEmailIgnoreCase(@Param("email") String email);
 
-    boolean existsByEmailIgnoreCase(String email);
-
-    // Check if there’s already another student with the same email,
-    // but not the one with this specific id.
-    boolean existsByEmailIgnoreCaseAndIdNot(String email, UUID id);
+    // Set-based conflict check for batch creation: one round trip for the whole batch.
+    // Callers pass lower-cased emails; the matching normalized emails are returned.
+    // Native reads of live_email only see live rows: it is NULL once a student is soft-deleted.
+    // schema: uq_students_live_email
+    @Query(value = "SELECT live_email FROM students WHERE live_email IN (:emails)", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 
     // schema: ix_students_status
     Page<Student> findByStatus(StudentStatus status, Pageable pageable);
 
+    // Bulk status transitions: resolve the selection to ids, then update in id chunks.
+    // schema: ix_students_status
+    @Query("select s.id from Student s where s.status = :status")
+    List<UUID> findIdsByStatus(@Param("status") StudentStatus status);
+
+    @Query("select s.id from Student s where s.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select s.id from Student s where s.id in :ids and s.status = :status")
+    List<UUID> findIdsByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") StudentStatus status);
+
+    // Set-based update. JPQL bulk statements bypass @UpdateTimestamp and the entity
+    // listener, so updatedAt is passed in; rows already in the target status are skipped.
+    @Modifying
+    @Query("update Student s set s.status = :status, s.updatedAt = :now "
+            + "where s.id in :ids and s.status <> :status")
+    int updateStatus(@Param("ids") Collection<UUID> ids,
+                     @Param("status") StudentStatus status,
+                     @Param("now") OffsetDateTime now);
+
+    // Guarded soft deletes: the enrollment check and the delete are one statement, so no row is
+    // read first and no enrollment can slip in between. Only live enrollments block. Returns the
+    // number of rows marked deleted; physical removal is left to SoftDeletePurgeJob.
+    // schema: ix_enrollments_student
+    @Modifying
+    @Query("update Student s set s.deletedAt = :now where s.id = :id and s.deletedAt is null "
+            + "and not exists (select 1 from Enrollment e where e.student.id = s.id and e.deletedAt is null)")
+    int softDeleteIfUnenrolled(@Param("id") UUID id, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("update Student s set s.deletedAt = :now where s.id in :ids and s.deletedAt is null "
+            + "and not exists (select 1 from Enrollment e where e.student.id = s.id and e.deletedAt is null)")
+    int softDeleteUnenrolled(@Param("ids") Collection<UUID> ids, @Param("now") OffsetDateTime now);
+
     // schema: ix_students_last_first
     Page<Student> findByLastNameStartsWithIgnoreCase(String lastNamePrefix, Pageable pageable);
 
@@ -53,4 +119,87 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
     Page<Student> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
             String first, String last, String email, Pageable pageable
     );
+
+    // version columns only (ETag validators): same pages as the findResponse* search
+    // paths, without building full responses
+    Page<StudentVersion> findVersionsBy(Pageable pageable);
+
+    @Query(value = "select new com.jeraldjamescapao.studentmanagementapi.dto.student.StudentVersion("
+            + "s.id, s.createdAt, s.updatedAt) from Student s " + MATCHING,
+            countQuery = "select count(s) from Student s " + MATCHING)
+    Page<StudentVersion> findVersionsMatching(@Param("pattern") String pattern, Pageable pageable);
+
+    List<StudentVersion> findVersionsByIdIn(Collection<UUID> ids, Pageable pageable);
+
+    // full projection scan used to warm in-memory search structures (no entity hydration)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.jeraldjamescapao.studentmanagementapi.search.StudentIndexRow("
+            + "s.id, s.firstName, s.lastName, s.email) from Student s")
+    Stream<StudentIndexRow> streamIndexRows();
+
+    // ---- read-only projections ----------------------------------------------------
+    // Rows are constructed directly as StudentResponse: nothing is registered in the
+    // persistence context, no dirty-checking snapshot is kept and no mapper copy is made.
+
+    String RESPONSE = """
+            select new com.jeraldjamescapao.studentmanagementapi.dto.student.StudentResponse(
+                s.id, s.firstName, s.lastName, s.email, s.gender, s.birthDate, s.status,
+                s.createdAt, s.updatedAt)
+            from Student s
+            """;
+
+    // Case-insensitive substring match on first name, last name or email. The pattern must
+    // be lower-cased, wrapped in '%' and have LIKE metacharacters escaped with '\'.
+    String MATCHING = """
+            where lower(s.firstName) like :pattern escape '\\'
+               or lower(s.lastName) like :pattern escape '\\'
+               or lower(s.email) like :pattern escape '\\'
+            """;
+
+    @Query(RESPONSE + "where s.id = :id")
+    Optional<StudentResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(value = RESPONSE, countQuery = "select count(s) from Student s")
+    Page<StudentResponse> findResponses(Pageable pageable);
+
+    // count-free variant of findResponses
+    @Query(RESPONSE)
+    Slice<StudentResponse> findResponseSlice(Pageable pageable);
+
+    @Query(value = RESPONSE + MATCHING, countQuery = "select count(s) from Student s " + MATCHING)
+    Page<StudentResponse> findResponsesMatching(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query(RESPONSE + MATCHING)
+    Slice<StudentResponse> findResponseSliceMatching(@Param("pattern") String pattern, Pageable pageable);
+
+    // primary key lookups for ids resolved by the in-memory search index (no count query)
+    @Query(RESPONSE + "where s.id in :ids")
+    List<StudentResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids, Pageable pageable);
+
+    // schema: ix_students_last_first (first keyset page, no OFFSET and no COUNT)
+    @Query(RESPONSE + "order by s.lastName asc, s.firstName asc, s.id asc")
+    List<StudentResponse> findResponsesFirst(Limit limit);
+
+    // schema: ix_students_last_first (keyset seek past the given position).
+    // The leading range predicate lets the index start the scan at the cursor;
+    // the OR branches only break ties within the same last name.
+    @Query(RESPONSE + """
+            where s.lastName >= :lastName
+              and (s.lastName > :lastName
+                   or (s.lastName = :lastName and s.firstName > :firstName)
+                   or (s.lastName = :lastName and s.firstName = :firstName and s.id > :id))
+            order by s.lastName asc, s.firstName asc, s.id asc
+            """)
+    List<StudentResponse> findResponsesAfter(@Param("lastName") String lastName,
+                                             @Param("firstName") String firstName,
+                                             @Param("id") UUID id,
+                                             Limit limit);
+
+    // full-table export: forward-only cursor in primary-key order, rows fetched in batches
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE + "order by s.id")
+    Stream<StudentResponse> streamResponses();
 }
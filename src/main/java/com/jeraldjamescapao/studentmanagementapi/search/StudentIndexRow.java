@@ -0,0 +1,17 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of the searchable {@code Student} columns.
+ *
+ * <p>Used to warm in-memory search structures with a single streaming query
+ * instead of hydrating managed entities.</p>
+ *
+ * @param id the student id
+ * @param firstName the first name
+ * @param lastName the last name
+ * @param email the email address
+ */
+public record StudentIndexRow(UUID id, String firstName, String lastName, String email) {
+}
@@ -0,0 +1,101 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentSuggestion;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory last-name autocomplete for students.
+ *
+ * <p><b>Structure:</b> A sorted, concurrent map keyed by the case-folded
+ * {@code lastName \0 firstName \0 id}. A prefix lookup is a single ordered seek followed by
+ * a forward walk of at most {@code limit} entries, so it costs {@code O(log n + limit)}
+ * regardless of how many students share the prefix.</p>
+ *
+ * <p><b>Concurrency:</b> Reads are lock-free and never block on writers, which keeps tail
+ * latency flat under concurrent type-ahead traffic.</p>
+ *
+ * <p><b>Memory:</b> One key string and one {@link StudentSuggestion} per student. Both are
+ * bounded by the 100-character name columns, so the cost per entry is fixed.</p>
+ *
+ * <p><b>Lifecycle:</b> Populated and kept current by {@link StudentReadModelSync}. While the
+ * warm-up scan is still running, {@link #suggest(String, int)} returns empty so callers fall
+ * back to the database.</p>
+ *
+ * @see StudentReadModelSync
+ */
+@Component
+public class StudentNameSuggester implements StudentReadModel {
+
+    private static final char SEPARATOR = '\0';
+
+    private final ConcurrentSkipListMap<String, StudentSuggestion> byName = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> keyById = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Returns students whose last name starts with {@code prefix} (case-insensitive),
+     * ordered by last name, first name and id.
+     *
+     * @param prefix non-blank last-name prefix
+     * @param limit maximum number of suggestions
+     * @return the suggestions, or empty if the model is still warming up
+     */
+    public Optional<List<StudentSuggestion>> suggest(String prefix, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        String from = fold(prefix);
+        if (from.indexOf(SEPARATOR) >= 0) {
+            return Optional.of(List.of());
+        }
+        ConcurrentNavigableMap<String, StudentSuggestion> tail = byName.tailMap(from, true);
+        List<StudentSuggestion> out = new ArrayList<>(limit);
+        for (Map.Entry<String, StudentSuggestion> e : tail.entrySet()) {
+            if (!e.getKey().startsWith(from)) {
+                break;
+            }
+            out.add(e.getValue());
+            if (out.size() == limit) {
+                break;
+            }
+        }
+        return Optional.of(out);
+    }
+
+    @Override
+    public void put(StudentIndexRow row) {
+        String key = fold(row.lastName()) + SEPARATOR + fold(row.firstName()) + SEPARATOR + row.id();
+        String old = keyById.put(row.id(), key);
+        if (old != null && !old.equals(key)) {
+            byName.remove(old);
+        }
+        byName.put(key, new StudentSuggestion(row.id(), row.firstName(), row.lastName()));
+    }
+
+    @Override
+    public void remove(UUID id) {
+        String old = keyById.remove(id);
+        if (old != null) {
+            byName.remove(old);
+        }
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+
+    private static String fold(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,34 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import java.util.UUID;
+
+/**
+ * In-memory read model derived from the {@code students} table.
+ *
+ * <p><b>Usage:</b> Implementations are Spring beans. {@link StudentReadModelSync} feeds
+ * every implementation from one shared warm-up scan and from committed
+ * {@code StudentChangedEvent}s, so each model only has to maintain its own structure.</p>
+ *
+ * @see StudentReadModelSync
+ */
+public interface StudentReadModel {
+
+    /**
+     * Inserts or replaces the entry for a student.
+     *
+     * @param row the current searchable columns of the student
+     */
+    void put(StudentIndexRow row);
+
+    /**
+     * Removes the entry for a student, if present.
+     *
+     * @param id the student id
+     */
+    void remove(UUID id);
+
+    /**
+     * Signals that the warm-up scan has completed and the model reflects the whole table.
+     */
+    void markReady();
+}
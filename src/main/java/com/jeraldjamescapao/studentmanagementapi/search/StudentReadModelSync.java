@@ -0,0 +1,116 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import com.jeraldjamescapao.studentmanagementapi.event.StudentChangedEvent;
+import com.jeraldjamescapao.studentmanagementapi.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every {@link StudentReadModel} in step with the {@code students} table.
+ *
+ * <p><b>Lifecycle:</b></p>
+ * <ul>
+ *   <li>Warms all models in the background after startup with a single streaming
+ *       projection scan.</li>
+ *   <li>Applies {@link StudentChangedEvent}s once their transaction has committed, so a
+ *       rollback never reaches a model.</li>
+ * </ul>
+ *
+ * <p><b>Warm-up races:</b> Rows changed by an event while the scan is still running are
+ * skipped by the scan, so an older snapshot never overwrites a newer committed change.</p>
+ *
+ * @see StudentReadModel
+ * @see StudentChangedEvent
+ */
+@Slf4j
+@Component
+public class StudentReadModelSync {
+
+    private final StudentRepository studentRepo;
+    private final TransactionTemplate readOnlyTx;
+    private final List<StudentReadModel> models;
+
+    private final Set<UUID> changedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    private final Object monitor = new Object();
+    private boolean warm;
+
+    public StudentReadModelSync(StudentRepository studentRepo,
+                                PlatformTransactionManager txManager,
+                                List<StudentReadModel> models) {
+        this.studentRepo = studentRepo;
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.models = models;
+    }
+
+    /**
+     * Applies a committed student change to all models.
+     */
+    @TransactionalEventListener
+    public void on(StudentChangedEvent e) {
+        synchronized (monitor) {
+            if (!warm) {
+                changedDuringWarmUp.add(e.id());
+            }
+            for (StudentReadModel m : models) {
+                if (e.deleted()) {
+                    m.remove(e.id());
+                } else {
+                    m.put(new StudentIndexRow(e.id(), e.firstName(), e.lastName(), e.email()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the background warm-up once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofVirtual().name("student-read-model-warm-up").start(this::load);
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        long[] count = {0};
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<StudentIndexRow> rows = studentRepo.streamIndexRows()) {
+                    rows.forEach(r -> {
+                        loadRow(r);
+                        count[0]++;
+                    });
+                }
+            });
+            synchronized (monitor) {
+                warm = true;
+                changedDuringWarmUp.clear();
+                models.forEach(StudentReadModel::markReady);
+            }
+            log.info("Student read models warmed with {} students in {} ms",
+                    count[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            log.warn("Student read model warm-up failed; reads will use the database", ex);
+        }
+    }
+
+    private void loadRow(StudentIndexRow r) {
+        synchronized (monitor) {
+            if (!changedDuringWarmUp.contains(r.id())) {
+                models.forEach(m -> m.put(r));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Free-text search over student first name, last name and email backed by a {@link TrigramIndex}.
+ *
+ * <p><b>Purpose:</b> Replaces the three OR'ed {@code LOWER(..) LIKE '%q%'} predicates, which no
+ * index can serve, with an in-memory posting-list intersection that returns matching ids.</p>
+ *
+ * <p><b>Lifecycle:</b> Populated and kept current by {@link StudentReadModelSync}. While the
+ * warm-up scan is still running, {@link #find(String)} returns empty so callers fall back
+ * to the database.</p>
+ *
+ * <p><b>Result cap:</b> The index answers queries with at most
+ * {@code app.search.trigram.max-matches} matches. A broader query is never truncated: the
+ * intersection stops one id past the cap and {@link #find(String)} returns empty, so the
+ * database returns the full match set with a correct total and sort order.</p>
+ *
+ * @see TrigramIndex
+ * @see StudentReadModelSync
+ */
+@Component
+public class StudentSearchIndex implements StudentReadModel {
+
+    private final TrigramIndex index = new TrigramIndex();
+    private final int maxMatches;
+    private volatile boolean ready;
+
+    public StudentSearchIndex(@Value("${app.search.trigram.max-matches:1000}") int maxMatches) {
+        this.maxMatches = maxMatches;
+    }
+
+    /**
+     * Resolves the ids of students whose first name, last name or email contains {@code query}.
+     *
+     * @param query trimmed, non-empty free-text query
+     * @return all matching ids, or empty if the index cannot answer (cold, query shorter
+     *         than a trigram, or more than {@code app.search.trigram.max-matches} hits)
+     */
+    public Optional<List<UUID>> find(String query) {
+        if (!ready || query.length() < TrigramIndex.GRAM) {
+            return Optional.empty();
+        }
+        List<UUID> ids = index.search(query, maxMatches + 1);
+        return ids.size() > maxMatches ? Optional.empty() : Optional.of(ids);
+    }
+
+    @Override
+    public void put(StudentIndexRow row) {
+        index.put(row.id(), row.firstName(), row.lastName(), row.email());
+    }
+
+    @Override
+    public void remove(UUID id) {
+        index.remove(id);
+    }
+
+    @Override
+    public void markReady() {
+        ready = true;
+    }
+}
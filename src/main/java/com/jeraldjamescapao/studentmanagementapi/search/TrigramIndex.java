@@ -0,0 +1,281 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index answering case-insensitive substring queries.
+ *
+ * <p><b>Structure:</b> Every document (a set of text fields keyed by {@link UUID}) is
+ * assigned an integer slot. Each distinct trigram of the case-folded fields maps to a
+ * posting list of slots. Slots are handed out in increasing order, so posting lists stay
+ * sorted by construction and can be intersected with a galloping merge.</p>
+ *
+ * <p><b>Queries:</b> A query of at least {@link #GRAM} characters is split into its
+ * trigrams; the posting lists are intersected starting from the shortest one, and every
+ * candidate is verified against the stored text to drop false positives (trigrams that
+ * occur in the document but not contiguously). The walk stops at the caller's limit, so a
+ * broad query costs no more than a narrow one.</p>
+ *
+ * <p><b>Updates:</b> Replacing or removing a document only tombstones its slot. Dead slots
+ * are skipped during verification and reclaimed by a full compaction once they outnumber
+ * live documents.</p>
+ *
+ * <p><b>Thread safety:</b> Guarded by a read/write lock; searches run concurrently and
+ * writers are exclusive.</p>
+ */
+public final class TrigramIndex {
+
+    /** Length of the n-grams used as index terms. */
+    public static final int GRAM = 3;
+
+    // Joins the fields of a document; never produced by normal text, so no gram spans two fields.
+    private static final char FIELD_SEPARATOR = '\u0001';
+    private static final int COMPACTION_THRESHOLD = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+
+    private UUID[] keys = new UUID[1024];
+    private String[] texts = new String[1024];
+    private int nextSlot;
+    private int live;
+
+    /**
+     * Inserts or replaces the document for the given key.
+     *
+     * @param key document key
+     * @param fields searchable fields; {@code null} values are ignored
+     */
+    public void put(UUID key, String... fields) {
+        String text = fold(fields);
+        lock.writeLock().lock();
+        try {
+            Integer old = slots.get(key);
+            if (old != null) {
+                if (text.equals(texts[old])) {
+                    return;
+                }
+                kill(old);
+            }
+            int slot = allocate(key, text);
+            forEachGram(text, gram -> postings.computeIfAbsent(gram, g -> new PostingList()).add(slot));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the document for the given key, if present.
+     */
+    public void remove(UUID key) {
+        lock.writeLock().lock();
+        try {
+            Integer old = slots.get(key);
+            if (old != null) {
+                kill(old);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of live documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds documents whose fields contain {@code query} (case-insensitive).
+     *
+     * @param query substring to look for; must be at least {@link #GRAM} characters long
+     * @param limit maximum number of keys to return
+     * @return at most {@code limit} matching keys, in slot order
+     * @throws IllegalArgumentException if the query is shorter than {@link #GRAM}
+     */
+    public List<UUID> search(String query, int limit) {
+        if (query.length() < GRAM) {
+            throw new IllegalArgumentException("Query must have at least " + GRAM + " characters");
+        }
+        String q = query.toLowerCase(Locale.ROOT);
+        if (q.indexOf(FIELD_SEPARATOR) >= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            boolean[] missing = {false};
+            forEachGram(q, gram -> {
+                PostingList pl = postings.get(gram);
+                if (pl == null) {
+                    missing[0] = true;
+                } else if (!lists.contains(pl)) {
+                    lists.add(pl);
+                }
+            });
+            if (missing[0]) {
+                return List.of();
+            }
+            lists.sort(Comparator.comparingInt(pl -> pl.size));
+            return intersect(lists, q, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UUID> intersect(List<PostingList> lists, String q, int limit) {
+        PostingList smallest = lists.get(0);
+        int[] cursors = new int[lists.size()];
+        List<UUID> out = new ArrayList<>();
+
+        candidates:
+        for (int i = 0; i < smallest.size; i++) {
+            int slot = smallest.items[i];
+            for (int j = 1; j < lists.size(); j++) {
+                PostingList other = lists.get(j);
+                int pos = other.seek(slot, cursors[j]);
+                if (pos == other.size) {
+                    break candidates;
+                }
+                cursors[j] = pos;
+                if (other.items[pos] != slot) {
+                    continue candidates;
+                }
+            }
+            String text = texts[slot];
+            if (text == null || !text.contains(q)) {
+                continue;
+            }
+            out.add(keys[slot]);
+            if (out.size() == limit) {
+                break;
+            }
+        }
+        return out;
+    }
+
+    private int allocate(UUID key, String text) {
+        if (nextSlot == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            texts = Arrays.copyOf(texts, texts.length * 2);
+        }
+        int slot = nextSlot++;
+        keys[slot] = key;
+        texts[slot] = text;
+        slots.put(key, slot);
+        live++;
+        return slot;
+    }
+
+    private void kill(int slot) {
+        slots.remove(keys[slot]);
+        keys[slot] = null;
+        texts[slot] = null;
+        live--;
+    }
+
+    // Rebuilds all postings from live documents once tombstones dominate.
+    private void compactIfNeeded() {
+        int dead = nextSlot - live;
+        if (dead < COMPACTION_THRESHOLD || dead < live) {
+            return;
+        }
+        UUID[] oldKeys = keys;
+        String[] oldTexts = texts;
+        int oldNext = nextSlot;
+
+        postings.clear();
+        slots.clear();
+        keys = new UUID[Math.max(1024, live * 2)];
+        texts = new String[keys.length];
+        nextSlot = 0;
+        live = 0;
+        for (int s = 0; s < oldNext; s++) {
+            if (oldTexts[s] != null) {
+                int slot = allocate(oldKeys[s], oldTexts[s]);
+                forEachGram(oldTexts[s], gram -> postings.computeIfAbsent(gram, g -> new PostingList()).add(slot));
+            }
+        }
+    }
+
+    private static String fold(String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (String f : fields) {
+            if (f == null) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(FIELD_SEPARATOR);
+            }
+            sb.append(f.toLowerCase(Locale.ROOT));
+        }
+        return sb.toString();
+    }
+
+    private static void forEachGram(String text, GramConsumer consumer) {
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            char a = text.charAt(i);
+            char b = text.charAt(i + 1);
+            char c = text.charAt(i + 2);
+            if (a == FIELD_SEPARATOR || b == FIELD_SEPARATOR || c == FIELD_SEPARATOR) {
+                continue;
+            }
+            consumer.accept(((long) a << 32) | ((long) b << 16) | c);
+        }
+    }
+
+    @FunctionalInterface
+    private interface GramConsumer {
+        void accept(long gram);
+    }
+
+    /**
+     * Growable, sorted array of slots. Appends of an already-present tail are ignored,
+     * which de-duplicates repeated grams within one document.
+     */
+    private static final class PostingList {
+        int[] items = new int[4];
+        int size;
+
+        void add(int slot) {
+            if (size > 0 && items[size - 1] == slot) {
+                return;
+            }
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = slot;
+        }
+
+        // Galloping search: first index >= from whose item is >= value, or size if none.
+        int seek(int value, int from) {
+            int bound = 1;
+            int lo = from;
+            while (lo + bound < size && items[lo + bound] < value) {
+                lo += bound;
+                bound <<= 1;
+            }
+            int hi = Math.min(lo + bound, size);
+            int idx = Arrays.binarySearch(items, lo, hi, value);
+            return idx >= 0 ? idx : -idx - 1;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.jeraldjamescapao.studentmanagementapi.service;
+
+import com.jeraldjamescapao.studentmanagementapi.admission.SeatLedger;
+import com.jeraldjamescapao.studentmanagementapi.catalog.CourseCatalog;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.SectionCapacityRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.SectionSeatsResponse;
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ConflictException;
+import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
+import com.jeraldjamescapao.studentmanagementapi.service.impl.CourseServiceImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * Defines the core contract for all operations involving {@code Course} entities.
+ *
+ * <p><b>Usage:</b> Implemented by {@link CourseServiceImpl} and called by REST controllers
+ * and other services (e.g. registration) that need course details.</p>
+ *
+ * <p><b>Responsibilities:</b></p>
+ * <ul>
+ *   <li>Serve catalog reads from the in-memory {@link CourseCatalog}.</li>
+ *   <li>Create and update courses while enforcing case-insensitive code uniqueness.</li>
+ *   <li>Prevent deletion of courses with live enrollments.</li>
+ *   <li>Manage the seat capacity of course sections.</li>
+ * </ul>
+ *
+ * @see CourseServiceImpl
+ * @see CourseCatalog
+ * @see CourseResponse
+ */
+public interface CourseService {
+
+    /**
+     * Lists courses ordered by code.
+     *
+     * <p><b>Performance:</b> Pages are cut from the catalog snapshot; no query is run, and
+     * the sort of {@code pageable} is ignored.</p>
+     *
+     * @param active optional filter; {@code null} returns active and retired courses
+     * @param pageable page number and size
+     * @return a page of {@link CourseResponse} objects
+     */
+    Page<CourseResponse> list(Boolean active, Pageable pageable);
+
+    /**
+     * Retrieves a course by its unique identifier.
+     *
+     * @param id the course ID
+     * @return the {@link CourseResponse}
+     * @throws NotFoundException
+     *         if the course does not exist
+     */
+    CourseResponse get(UUID id);
+
+    /**
+     * Retrieves a course by its code, ignoring case.
+     *
+     * @param code the course code, e.g. {@code CS101}
+     * @return the {@link CourseResponse}
+     * @throws NotFoundException
+     *         if no course has this code
+     */
+    CourseResponse getByCode(String code);
+
+    /**
+     * Creates a new course; {@code active} defaults to {@code true}.
+     *
+     * @param request the data used to create the course
+     * @return the created {@link CourseResponse}
+     * @throws ConflictException
+     *         if the code is already used by another course
+     */
+    CourseResponse create(CourseCreateRequest request);
+
+    /**
+     * Replaces the fields of an existing course.
+     *
+     * @param id the course ID to update
+     * @param request the new course state
+     * @return the updated {@link CourseResponse}
+     * @throws NotFoundException
+     *         if the course does not exist
+     * @throws ConflictException
+     *         if the new code is already used by another course
+     */
+    CourseResponse update(UUID id, CourseUpdateRequest request);
+
+    /**
+     * Soft-deletes a course.
+     *
+     * <p><b>Validation:</b> Courses with live enrollments cannot be deleted; retire them with
+     * {@code active=false} instead.</p>
+     *
+     * @param id the course ID to delete
+     * @throws NotFoundException
+     *         if the course does not exist
+     * @throws BadRequestException
+     *         if the course still has enrollments
+     */
+    void delete(UUID id);
+
+    /**
+     * Returns the capacity and seats taken of one section.
+     *
+     * <p><b>Performance:</b> Answered from the in-memory {@link SeatLedger} once the section has
+     * seen an admission; otherwise two indexed queries.</p>
+     *
+     * @param courseId the course ID
+     * @param term the academic term, e.g. {@code 2025-FALL}
+     * @param section the section token, e.g. {@code A}
+     * @return the {@link SectionSeatsResponse}
+     * @throws NotFoundException
+     *         if the course does not exist
+     */
+    SectionSeatsResponse getSection(UUID courseId, String term, String section);
+
+    /**
+     * Sets the seat capacity of one section, creating its capacity entry if needed.
+     *
+     * <p><b>Behavior:</b> Raising the capacity promotes waitlisted enrollments, oldest first,
+     * into the new seats. Lowering it below the seats already taken keeps the existing
+     * enrollments; new ones are waitlisted, and freed seats are not handed over, until the
+     * section is back under its capacity.</p>
+     *
+     * @param courseId the course ID
+     * @param term the academic term
+     * @param section the section token
+     * @param request the new capacity
+     * @return the {@link SectionSeatsResponse} with the new capacity and any promotions
+     * @throws NotFoundException
+     *         if the course does not exist
+     * @throws ConflictException
+     *         if the capacity was created concurrently by another request
+     */
+    SectionSeatsResponse setSectionCapacity(UUID courseId, String term, String section,
+                                            SectionCapacityRequest request);
+}
@@ -0,0 +1,178 @@
+package com.jeraldjamescapao.studentmanagementapi.service;
+
+import com.jeraldjamescapao.studentmanagementapi.admission.EnrollmentPipeline;
+import com.jeraldjamescapao.studentmanagementapi.admission.SeatLedger;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentDetailResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ConflictException;
+import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ServiceUnavailableException;
+import com.jeraldjamescapao.studentmanagementapi.service.impl.EnrollmentServiceImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Defines the core contract for all operations involving {@code Enrollment} entities.
+ *
+ * <p><b>Usage:</b> Implemented by {@link EnrollmentServiceImpl} and called by REST controllers.</p>
+ *
+ * <p><b>Responsibilities:</b></p>
+ * <ul>
+ *   <li>Admit students to course sections, as {@code ENROLLED} while seats are free and
+ *       {@code WAITLISTED} once the section is full.</li>
+ *   <li>Keep seat counts in step with status changes, handing freed seats to the waitlist.</li>
+ *   <li>List and read enrollments with their course and student, at a fixed statement cost
+ *       per page.</li>
+ * </ul>
+ *
+ * @see EnrollmentServiceImpl
+ * @see SeatLedger
+ * @see EnrollmentResponse
+ * @see EnrollmentDetailResponse
+ */
+public interface EnrollmentService {
+
+    /**
+     * Enrolls a student in a course section.
+     *
+     * <p><b>Admission:</b> The status of the request is ignored; the enrollment is
+     * {@code ENROLLED} if the section has a free seat and {@code WAITLISTED} otherwise.</p>
+     *
+     * <p><b>Performance:</b> Written asynchronously by the {@link EnrollmentPipeline}, batched
+     * with concurrent requests; the returned future completes once the batch has committed.</p>
+     *
+     * @param request the student, course, term and section
+     * @return the created {@link EnrollmentResponse}, or a future failed with
+     *         {@link NotFoundException} (student or course does not exist),
+     *         {@link BadRequestException} (course is retired),
+     *         {@link ConflictException} (student already enrolled in this section) or
+     *         {@link ServiceUnavailableException} (write queue full)
+     */
+    CompletableFuture<EnrollmentResponse> create(EnrollmentCreateRequest request);
+
+    /**
+     * Enrolls a list of students into one course section, reporting an outcome per student.
+     *
+     * <p><b>Validation:</b> Unknown students, students already in the section and repeats
+     * within the roster are skipped and reported; the rest are enrolled or waitlisted in list
+     * order.</p>
+     *
+     * <p><b>Performance:</b> The roster is a single entry of the {@link EnrollmentPipeline}
+     * and is written in one transaction: one query for the students that exist, one for the
+     * enrollments they already have in the course, then multi-row inserts.</p>
+     *
+     * @param request the section and the student ids, at most
+     *                {@link EnrollmentRosterRequest#MAX_STUDENTS}
+     * @return per-student results in request order, plus totals; or a future failed with
+     *         {@link NotFoundException} (course does not exist),
+     *         {@link BadRequestException} (course is retired) or
+     *         {@link ServiceUnavailableException} (write queue full)
+     */
+    CompletableFuture<EnrollmentRosterResponse> enrollRoster(EnrollmentRosterRequest request);
+
+    /**
+     * Changes the status of an enrollment.
+     *
+     * <p><b>Seats:</b> Moving into a seat-holding status (e.g. {@code WAITLISTED → ENROLLED})
+     * needs a free seat. Moving out of one (e.g. {@code ENROLLED → DROPPED}) gives the seat to
+     * the longest-waiting {@code WAITLISTED} enrollment of the section, or frees it.</p>
+     *
+     * @param id the enrollment ID
+     * @param status the new status
+     * @return the updated {@link EnrollmentResponse}
+     * @throws NotFoundException
+     *         if the enrollment does not exist
+     * @throws ConflictException
+     *         if the new status needs a seat and the section is full
+     */
+    EnrollmentResponse changeStatus(UUID id, EnrollmentStatus status);
+
+    /**
+     * Lists enrollments, optionally filtered by student, course or status.
+     *
+     * <p><b>Filters:</b> At most one filter applies per request; each is served by its own
+     * index ({@code ix_enrollments_student}, {@code ix_enrollments_course},
+     * {@code ix_enrollments_status}).</p>
+     *
+     * <p><b>Performance:</b> Student and course are joined into the page query, so a page
+     * costs two statements (content and count) whatever its size.</p>
+     *
+     * @param studentId optional student filter
+     * @param courseId optional course filter
+     * @param status optional status filter
+     * @param pageable pagination and sorting configuration
+     * @return a page of {@link EnrollmentDetailResponse} objects
+     * @throws BadRequestException
+     *         if more than one filter is given
+     */
+    Page<EnrollmentDetailResponse> list(UUID studentId, UUID courseId, EnrollmentStatus status, Pageable pageable);
+
+    /**
+     * Same as {@link #list(UUID, UUID, EnrollmentStatus, Pageable)} but without a total count.
+     *
+     * <p><b>Performance:</b> Fetches {@code size + 1} rows with student and course joined to
+     * determine whether a next page exists; a page costs one statement.</p>
+     *
+     * @param studentId optional student filter
+     * @param courseId optional course filter
+     * @param status optional status filter
+     * @param pageable pagination and sorting configuration
+     * @return a {@link Slice} of {@link EnrollmentDetailResponse} objects
+     * @throws BadRequestException
+     *         if more than one filter is given
+     */
+    Slice<EnrollmentDetailResponse> listSlice(UUID studentId, UUID courseId, EnrollmentStatus status,
+                                              Pageable pageable);
+
+    /**
+     * Retrieves an enrollment with its course and student in one statement.
+     *
+     * @param id the enrollment ID
+     * @return the matching {@link EnrollmentDetailResponse}
+     * @throws NotFoundException
+     *         if the enrollment does not exist
+     */
+    EnrollmentDetailResponse get(UUID id);
+
+    /**
+     * Replaces the term, section and status of an enrollment.
+     *
+     * <p><b>Seats:</b> A seat-holding enrollment that moves to another section needs a free
+     * seat there, and its old seat goes to the old section's waitlist, as with
+     * {@link #changeStatus(UUID, EnrollmentStatus)}.</p>
+     *
+     * @param id the enrollment ID
+     * @param request the new term, section and status
+     * @return the updated {@link EnrollmentResponse}
+     * @throws NotFoundException
+     *         if the enrollment does not exist
+     * @throws ConflictException
+     *         if the target section is full, or the student is already enrolled in it
+     */
+    EnrollmentResponse update(UUID id, EnrollmentUpdateRequest request);
+
+    /**
+     * Deletes an enrollment entered by mistake; use a status such as {@code DROPPED} for
+     * students leaving a section.
+     *
+     * <p><b>Validation:</b> Prevents deletion while the enrollment has live grades. A held
+     * seat goes to the waitlist.</p>
+     *
+     * @param id the enrollment ID
+     * @throws NotFoundException
+     *         if the enrollment does not exist
+     * @throws BadRequestException
+     *         if the enrollment has grades
+     */
+    void delete(UUID id);
+}
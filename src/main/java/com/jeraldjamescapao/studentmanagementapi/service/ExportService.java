@@ -0,0 +1,61 @@
+package com.jeraldjamescapao.studentmanagementapi.service;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.common.ExportFormat;
+import com.jeraldjamescapao.studentmanagementapi.service.impl.ExportServiceImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Defines full-table exports of students, courses, enrollments and grades.
+ *
+ * <p><b>Usage:</b> Implemented by {@link ExportServiceImpl} and called from
+ * {@code StreamingResponseBody} callbacks, i.e. on an MVC async thread after the
+ * response headers have been sent.</p>
+ *
+ * <p><b>Performance:</b> Each export reads the whole table through a single forward-only
+ * cursor and writes rows to the stream as they arrive. Memory use is bounded by the JDBC
+ * fetch size, not by the table size; there is no paging, {@code OFFSET} or {@code COUNT}.</p>
+ *
+ * <p><b>Ordering:</b> Rows are written in primary-key order.</p>
+ *
+ * @see ExportFormat
+ */
+public interface ExportService {
+
+    /**
+     * Writes every student to {@code out}.
+     *
+     * @param format output format
+     * @param out destination stream; flushed but not closed
+     * @throws IOException if writing to {@code out} fails (e.g. the client disconnected)
+     */
+    void exportStudents(ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Writes every course to {@code out}.
+     *
+     * @param format output format
+     * @param out destination stream; flushed but not closed
+     * @throws IOException if writing to {@code out} fails
+     */
+    void exportCourses(ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Writes every enrollment to {@code out}.
+     *
+     * @param format output format
+     * @param out destination stream; flushed but not closed
+     * @throws IOException if writing to {@code out} fails
+     */
+    void exportEnrollments(ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Writes every grade to {@code out}.
+     *
+     * @param format output format
+     * @param out destination stream; flushed but not closed
+     * @throws IOException if writing to {@code out} fails
+     */
+    void exportGrades(ExportFormat format, OutputStream out) throws IOException;
+}
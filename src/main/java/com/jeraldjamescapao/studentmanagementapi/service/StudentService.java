@@ -1,5 +1,6 @@
 package com.jeraldjamescapao.studentmanagementapi.service;
 
+import com.jeraldjamescapao.studentmanagementapi.dto.common.CursorPageDto;
 import com.jeraldjamescapao.studentmanagementapi.dto.student.*;
 import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
 import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
@@ -8,7 +9,9 @@ import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
 import com.jeraldjamescapao.studentmanagementapi.service.impl.StudentServiceImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -46,6 +49,69 @@ public interface StudentService {
      */
     Page<StudentResponse> search(String q, Pageable pageable);
 
+    /**
+     * Returns the version columns of the page {@link #search(String, Pageable)} would return.
+     *
+     * <p><b>Usage:</b> Lets callers compute an {@code ETag} for a conditional request
+     * without loading full entities. Uses the same query path (search index or {@code LIKE})
+     * and the same pagination, so members and totals line up with {@code search}.</p>
+     *
+     * @param q optional free-text query; if {@code null} or blank, covers all students
+     * @param pageable pagination details (page number, size, sort)
+     * @return a page of {@link StudentVersion} values
+     */
+    Page<StudentVersion> searchVersions(String q, Pageable pageable);
+
+    /**
+     * Loads the members of a page resolved by {@link #searchVersions(String, Pageable)}.
+     *
+     * <p><b>Usage:</b> Completes a conditional request whose tag did not match. Members are
+     * read by primary key in the order of {@code versions} and its total is reused, so the
+     * search predicate and the {@code COUNT} do not run a second time.</p>
+     *
+     * @param versions a page returned by {@code searchVersions}
+     * @return the same page with {@link StudentResponse} members
+     */
+    Page<StudentResponse> loadPage(Page<StudentVersion> versions);
+
+    /**
+     * Same as {@link #search(String, Pageable)} but without a total count.
+     *
+     * <p><b>Performance:</b> Fetches {@code size + 1} rows to determine whether a next
+     * page exists and skips the {@code COUNT} query entirely.</p>
+     *
+     * @param q optional free-text query; if {@code null} or blank, returns all students
+     * @param pageable pagination details (page number, size, sort)
+     * @return a {@link Slice} of {@link StudentResponse} objects
+     */
+    Slice<StudentResponse> searchSlice(String q, Pageable pageable);
+
+    /**
+     * Lists students in {@code (lastName, firstName, id)} order using keyset pagination.
+     *
+     * <p><b>Performance:</b> Seeks past the given cursor instead of skipping rows,
+     * and never issues a count query, so latency stays flat for deep pages.</p>
+     *
+     * @param after opaque cursor returned by the previous page; {@code null} or blank for the first page
+     * @param size requested page size; clamped to the configured maximum
+     * @return a {@link CursorPageDto} of {@link StudentResponse} objects
+     * @throws BadRequestException
+     *         if the cursor is malformed
+     */
+    CursorPageDto<StudentResponse> scroll(String after, int size);
+
+    /**
+     * Suggests students whose last name starts with the given prefix (case-insensitive).
+     *
+     * <p><b>Performance:</b> Served from an in-memory sorted index; the database is only
+     * queried while that index is still warming up after startup.</p>
+     *
+     * @param prefix last-name prefix; blank prefixes yield no suggestions
+     * @param limit maximum number of suggestions; clamped to the configured maximum
+     * @return suggestions ordered by last name, first name and id
+     */
+    List<StudentSuggestion> suggest(String prefix, int limit);
+
     /**
      * Retrieves a single student by its unique ID.
      *
@@ -69,6 +135,25 @@ public interface StudentService {
      */
     StudentResponse create(StudentCreateRequest request);
 
+    /**
+     * Creates many students in one transaction, reporting an outcome per item.
+     *
+     * <p><b>Validation:</b> Each item is validated on its own; invalid items and items whose
+     * email is already taken (by an existing student or an earlier item of the batch) are
+     * skipped and reported, while the rest are inserted.</p>
+     *
+     * <p><b>Performance:</b> Email conflicts for the whole batch are resolved with a single
+     * set-based query, and inserts are sent as JDBC batches of
+     * {@code spring.jpa.properties.hibernate.jdbc.batch_size} rows.</p>
+     *
+     * @param items the students to create, at most {@link StudentBatchCreateRequest#MAX_ITEMS}
+     * @return per-item results in request order, plus totals
+     * @throws ConflictException
+     *         if a concurrent request inserted one of the emails after the check;
+     *         in that case nothing from this batch is persisted
+     */
+    StudentBatchCreateResponse createBatch(List<StudentCreateRequest> items);
+
     /**
      * Updates an existing student record.
      *
@@ -88,8 +173,12 @@ public interface StudentService {
     /**
      * Deletes a student from the system.
      *
-     * <p><b>Validation:</b> Prevents deletion when enrollments exist
-     * for the given student.</p>
+     * <p><b>Validation:</b> Prevents deletion when live enrollments exist
+     * for the given student. The check and the delete are a single statement;
+     * the existence lookup only runs when nothing was deleted.</p>
+     *
+     * <p><b>Soft delete:</b> The row is marked with {@code deleted_at} and disappears
+     * from all reads; it is physically removed after the retention window.</p>
      *
      * @param id the ID of the student to delete
      * @throws NotFoundException
@@ -109,4 +198,32 @@ public interface StudentService {
      *         if the student does not exist
      */
     StudentResponse changeStatus(UUID id, StudentStatus status);
+
+    /**
+     * Moves many students to a new status with set-based updates.
+     *
+     * <p><b>Performance:</b> The selection is resolved to ids with one query (per chunk of
+     * listed ids), then updated with one {@code UPDATE} per chunk. No entity is loaded or
+     * dirty-checked. {@code updatedAt} is set on every changed row and the affected cache
+     * entries are evicted after commit.</p>
+     *
+     * @param request ids and/or a {@code fromStatus} filter, plus the target status
+     * @return how many students were selected and how many actually changed
+     * @throws BadRequestException
+     *         if neither ids nor {@code fromStatus} is given
+     */
+    StudentBulkStatusResponse changeStatusBulk(StudentBulkStatusRequest request);
+
+    /**
+     * Deletes many students, skipping those that still have enrollments.
+     *
+     * <p><b>Performance:</b> One guarded soft-delete {@code UPDATE} per chunk of ids; only
+     * chunks where some rows were kept issue an extra query to find them. Affected cache
+     * entries are evicted and the read models updated after commit.</p>
+     *
+     * @param request the ids to delete
+     * @return how many students were deleted, how many ids did not exist, and which
+     *         students were kept because of enrollments
+     */
+    StudentBulkDeleteResponse deleteBulk(StudentBulkDeleteRequest request);
 }
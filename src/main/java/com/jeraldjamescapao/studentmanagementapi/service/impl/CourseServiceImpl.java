@@ -0,0 +1,208 @@
+package com.jeraldjamescapao.studentmanagementapi.service.impl;
+
+import com.jeraldjamescapao.studentmanagementapi.admission.SeatLedger;
+import com.jeraldjamescapao.studentmanagementapi.admission.SectionKey;
+import com.jeraldjamescapao.studentmanagementapi.admission.Waitlist;
+import com.jeraldjamescapao.studentmanagementapi.catalog.CourseCatalog;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.SectionCapacityRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.SectionSeatsResponse;
+import com.jeraldjamescapao.studentmanagementapi.entity.Course;
+import com.jeraldjamescapao.studentmanagementapi.entity.CourseSection;
+import com.jeraldjamescapao.studentmanagementapi.event.CourseChangedEvent;
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ConflictException;
+import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
+import com.jeraldjamescapao.studentmanagementapi.mapper.CourseMapper;
+import com.jeraldjamescapao.studentmanagementapi.mapper.helper.EntityRefFactory;
+import com.jeraldjamescapao.studentmanagementapi.repository.CourseRepository;
+import com.jeraldjamescapao.studentmanagementapi.repository.CourseSectionRepository;
+import com.jeraldjamescapao.studentmanagementapi.service.CourseService;
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Default implementation of {@link CourseService}.
+ *
+ * <p><b>Reads:</b> Served entirely by {@link CourseCatalog}. Read methods are deliberately
+ * not transactional, so they neither open a transaction nor borrow a connection.</p>
+ *
+ * <p><b>Writes:</b> Run in a transaction against {@link CourseRepository} and publish a
+ * {@link CourseChangedEvent}; the catalog swaps in a new snapshot once the transaction has
+ * committed. Code uniqueness is checked case-insensitively against the catalog, with the
+ * {@code uq_courses_live_code} index as the backstop for concurrent writers.</p>
+ *
+ * <p><b>Sections:</b> Capacities are stored in {@code course_sections}; seat counts come from
+ * {@link SeatLedger}, which also receives every capacity change after commit. Raising a
+ * capacity promotes waitlisted enrollments into the new seats through {@link Waitlist}.</p>
+ *
+ * <p><b>Exception Handling:</b> Throws {@link NotFoundException}, {@link ConflictException}
+ * and {@link BadRequestException}, mapped by {@link GlobalExceptionHandler}.</p>
+ *
+ * @see CourseService
+ * @see CourseCatalog
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseServiceImpl implements CourseService {
+
+    private final CourseRepository courseRepo;
+    private final CourseMapper mapper;
+    private final CourseCatalog catalog;
+    private final CourseSectionRepository sectionRepo;
+    private final SeatLedger ledger;
+    private final Waitlist waitlist;
+    private final ApplicationEventPublisher events;
+
+    @Override
+    public Page<CourseResponse> list(Boolean active, Pageable pageable) {
+        List<CourseResponse> courses;
+        if (active == null) {
+            courses = catalog.all();
+        } else if (active) {
+            courses = catalog.active();
+        } else {
+            courses = catalog.all().stream().filter(c -> !c.isActive()).toList();
+        }
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(courses);
+        }
+        int from = (int) Math.min(pageable.getOffset(), courses.size());
+        int to = Math.min(from + pageable.getPageSize(), courses.size());
+        return new PageImpl<>(courses.subList(from, to), pageable, courses.size());
+    }
+
+    @Override
+    public CourseResponse get(UUID id) {
+        return catalog.findById(id)
+                .orElseThrow(() -> new NotFoundException("Course", id));
+    }
+
+    @Override
+    public CourseResponse getByCode(String code) {
+        return catalog.findByCode(code)
+                .orElseThrow(() -> new NotFoundException("Course", code));
+    }
+
+    @Override
+    @Transactional
+    public CourseResponse create(CourseCreateRequest req) {
+        requireFreeCode(req.getCode(), null);
+        try {
+            Course saved = courseRepo.saveAndFlush(mapper.fromCreate(req));
+            return published(mapper.toResponse(saved));
+        } catch (DataIntegrityViolationException ex) {
+            throw codeConflictOr(ex, req.getCode());
+        }
+    }
+
+    @Override
+    @Transactional
+    public CourseResponse update(UUID id, CourseUpdateRequest req) {
+        Course c = courseRepo.findById(id)
+                .orElseThrow(() -> new NotFoundException("Course", id));
+        requireFreeCode(req.getCode(), id);
+
+        mapper.update(c, req);
+        try {
+            courseRepo.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw codeConflictOr(ex, req.getCode());
+        }
+        return published(mapper.toResponse(c));
+    }
+
+    @Override
+    @Transactional
+    public void delete(UUID id) {
+        if (courseRepo.softDeleteIfUnenrolled(id, OffsetDateTime.now()) == 0) {
+            if (!courseRepo.existsById(id)) {
+                throw new NotFoundException("Course", id);
+            }
+            throw new BadRequestException("Cannot delete course with existing enrollments; set active=false to retire it");
+        }
+        events.publishEvent(CourseChangedEvent.deleted(id));
+    }
+
+    @Override
+    public SectionSeatsResponse getSection(UUID courseId, String term, String section) {
+        get(courseId);
+        SectionKey key = new SectionKey(courseId, term, section);
+        return seats(key, ledger.seats(key));
+    }
+
+    @Override
+    @Transactional
+    public SectionSeatsResponse setSectionCapacity(UUID courseId, String term, String section,
+                                                   SectionCapacityRequest req) {
+        get(courseId);
+        SectionKey key = new SectionKey(courseId, term, section);
+        // Before the capacity is written, so the seats are counted against committed data.
+        waitlist.fill(key, req.getCapacity());
+        CourseSection s = sectionRepo.findByCourseIdAndTermAndSection(courseId, term, section)
+                .orElseGet(() -> CourseSection.builder()
+                        .course(EntityRefFactory.courseRef(courseId))
+                        .term(term)
+                        .section(section)
+                        .build());
+        s.setCapacity(req.getCapacity());
+        try {
+            sectionRepo.saveAndFlush(s);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("Capacity of section " + term + "/" + section + " was changed concurrently");
+        }
+        ledger.capacityChanged(key, req.getCapacity());
+
+        SeatLedger.Seats current = ledger.seats(key);
+        return seats(key, new SeatLedger.Seats(req.getCapacity(), current.taken()));
+    }
+
+    private static SectionSeatsResponse seats(SectionKey key, SeatLedger.Seats seats) {
+        return SectionSeatsResponse.builder()
+                .courseId(key.courseId())
+                .term(key.term())
+                .section(key.section())
+                .capacity(seats.capacity())
+                .taken(seats.taken())
+                .available(seats.available())
+                .build();
+    }
+
+    private CourseResponse published(CourseResponse course) {
+        events.publishEvent(CourseChangedEvent.saved(course));
+        return course;
+    }
+
+    // The unique index is case-sensitive; the catalog catches "cs101" vs "CS101". Both see live
+    // courses only, so a deleted course's code passes here and on insert.
+    private void requireFreeCode(String code, UUID self) {
+        catalog.findByCode(code)
+                .filter(existing -> !existing.getId().equals(self))
+                .ifPresent(existing -> {
+                    throw new ConflictException("Course code already in use: " + code);
+                });
+    }
+
+    private static RuntimeException codeConflictOr(DataIntegrityViolationException ex, String code) {
+        String detail = ex.getMostSpecificCause().getMessage();
+        if (detail != null && detail.toLowerCase(Locale.ROOT).contains("uq_courses_live_code")) {
+            return new ConflictException("Course code already in use: " + code);
+        }
+        return ex;
+    }
+}
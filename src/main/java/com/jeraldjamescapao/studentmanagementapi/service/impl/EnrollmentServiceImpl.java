@@ -0,0 +1,274 @@
+package com.jeraldjamescapao.studentmanagementapi.service.impl;
+
+import com.jeraldjamescapao.studentmanagementapi.admission.EnrollmentPipeline;
+import com.jeraldjamescapao.studentmanagementapi.admission.SeatLedger;
+import com.jeraldjamescapao.studentmanagementapi.admission.SectionKey;
+import com.jeraldjamescapao.studentmanagementapi.admission.Waitlist;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentDetailResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterItemResult;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterItemStatus;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentRosterResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.entity.Enrollment;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ConflictException;
+import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
+import com.jeraldjamescapao.studentmanagementapi.mapper.EnrollmentMapper;
+import com.jeraldjamescapao.studentmanagementapi.repository.EnrollmentRepository;
+import com.jeraldjamescapao.studentmanagementapi.service.EnrollmentService;
+import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * Default implementation of {@link EnrollmentService}.
+ *
+ * <p><b>Admission:</b> New enrollments are handed to the {@link EnrollmentPipeline}, whose
+ * single writer inserts them in batches. Whether an enrollment gets a seat is decided by
+ * {@link SeatLedger} in memory, without locking the section in the database.</p>
+ *
+ * <p><b>Waitlist:</b> A seat freed by a status change passes to the oldest {@code WAITLISTED}
+ * enrollment of the section in the same transaction, so the seat count does not change; it is
+ * given back to the ledger when nobody is waiting or the section is over its capacity (see
+ * {@link Waitlist}).</p>
+ *
+ * <p><b>Reads:</b> Every listing goes through an entity-graph query of
+ * {@link EnrollmentRepository} that joins {@code student} and {@code course}, so
+ * {@link EnrollmentMapper#toDetail} never triggers a lazy load.</p>
+ *
+ * <p><b>Exception Handling:</b> Throws {@link NotFoundException}, {@link ConflictException}
+ * and {@link BadRequestException}, mapped by {@link GlobalExceptionHandler}.</p>
+ *
+ * @see EnrollmentService
+ * @see SeatLedger
+ * @see EnrollmentPipeline
+ * @see Waitlist
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EnrollmentServiceImpl implements EnrollmentService {
+
+    private final EnrollmentRepository enrollmentRepo;
+    private final EnrollmentMapper mapper;
+    private final EnrollmentPipeline pipeline;
+    private final SeatLedger ledger;
+    private final Waitlist waitlist;
+
+    // No transaction here: the pipeline's writer opens one per batch.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<EnrollmentResponse> create(EnrollmentCreateRequest req) {
+        return pipeline.submit(req);
+    }
+
+    // Repeats are settled here so only distinct students reach the pipeline.
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<EnrollmentRosterResponse> enrollRoster(EnrollmentRosterRequest req) {
+        List<UUID> studentIds = req.getStudentIds();
+        EnrollmentRosterItemResult[] results = new EnrollmentRosterItemResult[studentIds.size()];
+        List<Integer> submitted = new ArrayList<>(studentIds.size());
+        List<EnrollmentCreateRequest> reqs = new ArrayList<>(studentIds.size());
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < studentIds.size(); i++) {
+            UUID studentId = studentIds.get(i);
+            if (!seen.add(studentId)) {
+                results[i] = rosterResult(i, studentId, EnrollmentRosterItemStatus.CONFLICT, null,
+                        "Duplicate student in roster: " + studentId);
+                continue;
+            }
+            submitted.add(i);
+            reqs.add(EnrollmentCreateRequest.builder()
+                    .studentId(studentId)
+                    .courseId(req.getCourseId())
+                    .term(req.getTerm())
+                    .section(req.getSection())
+                    .build());
+        }
+        return pipeline.submitAll(reqs).thenApply(outcomes -> {
+            for (int j = 0; j < outcomes.size(); j++) {
+                int i = submitted.get(j);
+                results[i] = rosterResult(i, studentIds.get(i), outcomes.get(j));
+            }
+            return rosterResponse(List.of(results));
+        });
+    }
+
+    @Override
+    public Page<EnrollmentDetailResponse> list(UUID studentId, UUID courseId, EnrollmentStatus status,
+                                               Pageable pageable) {
+        requireSingleFilter(studentId, courseId, status);
+        Page<Enrollment> page;
+        if (studentId != null) {
+            page = enrollmentRepo.findWithStudentAndCourseByStudentId(studentId, pageable);
+        } else if (courseId != null) {
+            page = enrollmentRepo.findWithStudentAndCourseByCourseId(courseId, pageable);
+        } else if (status != null) {
+            page = enrollmentRepo.findWithStudentAndCourseByStatus(status, pageable);
+        } else {
+            page = enrollmentRepo.findWithStudentAndCourseBy(pageable);
+        }
+        return page.map(mapper::toDetail);
+    }
+
+    @Override
+    public Slice<EnrollmentDetailResponse> listSlice(UUID studentId, UUID courseId, EnrollmentStatus status,
+                                                     Pageable pageable) {
+        requireSingleFilter(studentId, courseId, status);
+        Slice<Enrollment> slice;
+        if (studentId != null) {
+            slice = enrollmentRepo.findSliceWithStudentAndCourseByStudentId(studentId, pageable);
+        } else if (courseId != null) {
+            slice = enrollmentRepo.findSliceWithStudentAndCourseByCourseId(courseId, pageable);
+        } else if (status != null) {
+            slice = enrollmentRepo.findSliceWithStudentAndCourseByStatus(status, pageable);
+        } else {
+            slice = enrollmentRepo.findSliceWithStudentAndCourseBy(pageable);
+        }
+        return slice.map(mapper::toDetail);
+    }
+
+    // Each filter has its own index; combinations would need composite ones.
+    private static void requireSingleFilter(Object... filters) {
+        if (Stream.of(filters).filter(Objects::nonNull).count() > 1) {
+            throw new BadRequestException("Filter by at most one of studentId, courseId and status");
+        }
+    }
+
+    @Override
+    public EnrollmentDetailResponse get(UUID id) {
+        return enrollmentRepo.findWithStudentAndCourseById(id)
+                .map(mapper::toDetail)
+                .orElseThrow(() -> new NotFoundException("Enrollment", id));
+    }
+
+    @Override
+    @Transactional
+    public EnrollmentResponse changeStatus(UUID id, EnrollmentStatus status) {
+        Enrollment e = find(id);
+        SectionKey key = SectionKey.of(e);
+        return apply(e, key, status, () -> e.setStatus(status));
+    }
+
+    @Override
+    @Transactional
+    public EnrollmentResponse update(UUID id, EnrollmentUpdateRequest req) {
+        Enrollment e = find(id);
+        SectionKey to = new SectionKey(e.getCourse().getId(), req.getTerm(), req.getSection());
+        return apply(e, to, req.getStatus(), () -> mapper.update(e, req));
+    }
+
+    @Override
+    @Transactional
+    public void delete(UUID id) {
+        Enrollment e = find(id);
+        if (enrollmentRepo.softDeleteIfUngraded(id, OffsetDateTime.now()) == 0) {
+            throw new BadRequestException("Cannot delete enrollment with existing grades; change its status instead");
+        }
+        if (e.getStatus().holdsSeat()) {
+            waitlist.handOver(SectionKey.of(e));
+        }
+    }
+
+    private Enrollment find(UUID id) {
+        return enrollmentRepo.findById(id)
+                .orElseThrow(() -> new NotFoundException("Enrollment", id));
+    }
+
+    // Moves an enrollment to a section and status: a seat in the target section is taken
+    // before anything is written, and a seat left behind is handed over after.
+    private EnrollmentResponse apply(Enrollment e, SectionKey to, EnrollmentStatus status, Runnable change) {
+        SectionKey from = SectionKey.of(e);
+        boolean moved = !from.equals(to);
+        boolean held = e.getStatus().holdsSeat();
+        boolean holds = status.holdsSeat();
+
+        if (holds && (!held || moved) && !ledger.tryAdmit(to)) {
+            throw new ConflictException("Section " + to.term() + "/" + to.section() + " is full");
+        }
+        change.run();
+        if (moved) {
+            try {
+                enrollmentRepo.flush();
+            } catch (DataIntegrityViolationException ex) {
+                throw duplicateOr(ex, to);
+            }
+        }
+        if (held && (!holds || moved)) {
+            // After the change, so the flush before the promotion writes it first.
+            waitlist.handOver(from);
+        }
+        return mapper.toResponse(e);
+    }
+
+    private static EnrollmentRosterItemResult rosterResult(int index, UUID studentId, EnrollmentPipeline.Outcome outcome) {
+        if (outcome.enrollment() != null) {
+            EnrollmentRosterItemStatus status = outcome.enrollment().getStatus() == EnrollmentStatus.WAITLISTED
+                    ? EnrollmentRosterItemStatus.WAITLISTED
+                    : EnrollmentRosterItemStatus.ENROLLED;
+            return rosterResult(index, studentId, status, outcome.enrollment().getId(), null);
+        }
+        RuntimeException error = outcome.error();
+        EnrollmentRosterItemStatus status = error instanceof NotFoundException ? EnrollmentRosterItemStatus.NOT_FOUND
+                : error instanceof ConflictException ? EnrollmentRosterItemStatus.CONFLICT
+                : EnrollmentRosterItemStatus.FAILED;
+        return rosterResult(index, studentId, status, null, error.getMessage());
+    }
+
+    private static EnrollmentRosterItemResult rosterResult(int index, UUID studentId, EnrollmentRosterItemStatus status,
+                                                           UUID enrollmentId, String message) {
+        return EnrollmentRosterItemResult.builder()
+                .index(index)
+                .studentId(studentId)
+                .status(status)
+                .enrollmentId(enrollmentId)
+                .message(message)
+                .build();
+    }
+
+    private static EnrollmentRosterResponse rosterResponse(List<EnrollmentRosterItemResult> items) {
+        return EnrollmentRosterResponse.builder()
+                .enrolled(count(items, EnrollmentRosterItemStatus.ENROLLED))
+                .waitlisted(count(items, EnrollmentRosterItemStatus.WAITLISTED))
+                .conflicts(count(items, EnrollmentRosterItemStatus.CONFLICT))
+                .notFound(count(items, EnrollmentRosterItemStatus.NOT_FOUND))
+                .failed(count(items, EnrollmentRosterItemStatus.FAILED))
+                .items(items)
+                .build();
+    }
+
+    private static int count(List<EnrollmentRosterItemResult> results, EnrollmentRosterItemStatus status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
+
+    private static RuntimeException duplicateOr(DataIntegrityViolationException ex, SectionKey key) {
+        String detail = ex.getMostSpecificCause().getMessage();
+        if (detail != null && detail.toLowerCase(Locale.ROOT).contains("uq_enrollments_live")) {
+            return new ConflictException("Student is already enrolled in section " + key.term() + "/" + key.section());
+        }
+        return ex;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.jeraldjamescapao.studentmanagementapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.jeraldjamescapao.studentmanagementapi.dto.common.ExportFormat;
+import com.jeraldjamescapao.studentmanagementapi.dto.course.CourseResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.grade.GradeResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentResponse;
+import com.jeraldjamescapao.studentmanagementapi.repository.CourseRepository;
+import com.jeraldjamescapao.studentmanagementapi.repository.EnrollmentRepository;
+import com.jeraldjamescapao.studentmanagementapi.repository.GradeRepository;
+import com.jeraldjamescapao.studentmanagementapi.repository.StudentRepository;
+import com.jeraldjamescapao.studentmanagementapi.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Default implementation of {@link ExportService}.
+ *
+ * <p><b>Read path:</b> Each export consumes a repository {@code streamResponses()} query:
+ * a JPQL constructor projection executed as a forward-only cursor with a JDBC fetch size.
+ * Rows are built directly as response DTOs, so nothing is attached to the persistence
+ * context and each row becomes garbage as soon as it has been written.</p>
+ *
+ * <p><b>Writing:</b> Rows go through a Jackson {@link SequenceWriter}. NDJSON uses the
+ * application's {@link ObjectMapper}, so field names and date formats match the regular
+ * API; CSV uses a {@link CsvMapper} with a header row derived from the DTO.</p>
+ *
+ * <p><b>Transaction Management:</b> Runs in a read-only transaction that spans the whole
+ * export, opened on the calling (async) thread.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .findAndAddModules()
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY) // keep DTO declaration order
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final StudentRepository studentRepo;
+    private final CourseRepository courseRepo;
+    private final EnrollmentRepository enrollmentRepo;
+    private final GradeRepository gradeRepo;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void exportStudents(ExportFormat format, OutputStream out) throws IOException {
+        write(studentRepo.streamResponses(), StudentResponse.class, format, out);
+    }
+
+    @Override
+    public void exportCourses(ExportFormat format, OutputStream out) throws IOException {
+        write(courseRepo.streamResponses(), CourseResponse.class, format, out);
+    }
+
+    @Override
+    public void exportEnrollments(ExportFormat format, OutputStream out) throws IOException {
+        write(enrollmentRepo.streamResponses(), EnrollmentResponse.class, format, out);
+    }
+
+    @Override
+    public void exportGrades(ExportFormat format, OutputStream out) throws IOException {
+        write(gradeRepo.streamResponses(), GradeResponse.class, format, out);
+    }
+
+    private <T> void write(Stream<T> rows, Class<T> type, ExportFormat format, OutputStream out) throws IOException {
+        boolean any = false;
+        try (rows; SequenceWriter writer = writerFor(type, format).writeValues(out)) {
+            Iterator<T> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.write(it.next());
+                any = true;
+            }
+        }
+        if (format == ExportFormat.NDJSON && any) {
+            // SequenceWriter only separates values; NDJSON also terminates the last line.
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private ObjectWriter writerFor(Class<?> type, ExportFormat format) {
+        ObjectWriter writer = switch (format) {
+            case NDJSON -> objectMapper.writerFor(type)
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .withRootValueSeparator("\n");
+            case CSV -> CSV_MAPPER.writerFor(type)
+                    .with(CSV_MAPPER.schemaFor(type).withHeader());
+        };
+        // The servlet stream belongs to the container; leave it open.
+        return writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
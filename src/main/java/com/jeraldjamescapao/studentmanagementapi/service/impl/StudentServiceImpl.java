@@ -1,21 +1,52 @@
 package com.jeraldjamescapao.studentmanagementapi.service.impl;
 
+import com.jeraldjamescapao.studentmanagementapi.config.CacheConfig;
+import com.jeraldjamescapao.studentmanagementapi.dto.common.CursorPageDto;
 import com.jeraldjamescapao.studentmanagementapi.dto.student.*;
 import com.jeraldjamescapao.studentmanagementapi.entity.Student;
 import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import com.jeraldjamescapao.studentmanagementapi.event.StudentChangedEvent;
 import com.jeraldjamescapao.studentmanagementapi.exception.*;
 import com.jeraldjamescapao.studentmanagementapi.mapper.StudentMapper;
-import com.jeraldjamescapao.studentmanagementapi.repository.EnrollmentRepository;
 import com.jeraldjamescapao.studentmanagementapi.repository.StudentRepository;
+import com.jeraldjamescapao.studentmanagementapi.search.StudentNameSuggester;
+import com.jeraldjamescapao.studentmanagementapi.search.StudentSearchIndex;
 import com.jeraldjamescapao.studentmanagementapi.service.StudentService;
 import com.jeraldjamescapao.studentmanagementapi.web.GlobalExceptionHandler;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Default implementation of {@link StudentService} providing all
@@ -25,11 +56,25 @@ import java.util.UUID;
  * logic, including:</p>
  * <ul>
  *   <li>Validating unique student emails during create and update operations.</li>
- *   <li>Handling pagination and free-text search queries.</li>
- *   <li>Preventing deletion of students with active enrollments.</li>
+ *   <li>Creating students in batches with a single set-based email check and JDBC batching.</li>
+ *   <li>Changing the status of many students with chunked set-based updates.</li>
+ *   <li>Handling pagination, keyset (cursor) listing and free-text search queries.</li>
+ *   <li>Resolving free-text matches through {@link StudentSearchIndex} when it is warm.</li>
+ *   <li>Serving last-name autocomplete from {@link StudentNameSuggester}.</li>
+ *   <li>Preventing deletion of students with active enrollments, with guarded single-statement
+ *       soft deletes (also in bulk).</li>
  *   <li>Mapping between entities and DTOs using {@link StudentMapper}.</li>
+ *   <li>Reading through {@code StudentRepository} constructor projections, so read-only
+ *       traffic never hydrates or snapshots managed entities.</li>
  * </ul>
  *
+ * <p><b>Caching:</b> {@link #get(UUID)} reads through the {@link CacheConfig#STUDENTS} cache.
+ * {@code update}, {@code changeStatus}, {@code changeStatusBulk}, {@code delete} and
+ * {@code deleteBulk} evict the
+ * affected entries; the cache is transaction-aware, so the eviction happens only once the
+ * change has committed. Loads are synchronized, so a read racing a write cannot put the
+ * old row back after the eviction (see {@link CacheConfig}).</p>
+ *
  * <p><b>Transaction Management:</b> Uses
  * {@link Transactional @Transactional}
  * for write operations, and read-only transactions for queries.</p>
@@ -47,80 +92,292 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class StudentServiceImpl implements StudentService {
 
+    // Mirrors spring.data.web.pageable.max-page-size for the cursor listing.
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    // Ids per IN-list of a bulk statement; keeps statements within driver/database parameter limits.
+    private static final int UPDATE_CHUNK = 1000;
+
     private final StudentRepository studentRepo;
-    private final EnrollmentRepository enrollmentRepo;
     private final StudentMapper mapper;
+    private final StudentSearchIndex searchIndex;
+    private final StudentNameSuggester nameSuggester;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher events;
+
+    // Rows per JDBC batch; also the flush/clear interval of createBatch.
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     /**
      * Searches for students by free-text query on name or email.
      * If no query is given, returns all students.
+     *
+     * <p>Matches are resolved by the trigram index when possible; the page is then sorted
+     * and loaded by primary key within the complete id set. The {@code LIKE} query is used
+     * while the index is warming up, for queries shorter than three characters, and for
+     * queries matching more than {@code app.search.trigram.max-matches} students.
+     * Rows are read as {@link StudentResponse} projections, never as managed entities.</p>
      */
     @Override
     public Page<StudentResponse> search(String q, Pageable pageable) {
         String query = (q == null) ? null : q.trim();
-        Page<Student> page = (query == null || query.isEmpty())
-                ? studentRepo.findAll(pageable)
-                : studentRepo.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
-                query, query, query, pageable);
-        return page.map(mapper::toResponse);
+        if (query == null || query.isEmpty()) {
+            return studentRepo.findResponses(pageable);
+        }
+
+        Optional<List<UUID>> ids = searchIndex.find(query);
+        if (ids.isPresent()) {
+            List<StudentResponse> content = ids.get().isEmpty()
+                    ? List.of()
+                    : studentRepo.findResponsesByIdIn(ids.get(), pageable);
+            return new PageImpl<>(content, pageable, ids.get().size());
+        }
+        return studentRepo.findResponsesMatching(likePattern(query), pageable);
+    }
+
+    /**
+     * Mirrors {@link #search(String, Pageable)} with version-column projections.
+     */
+    @Override
+    public Page<StudentVersion> searchVersions(String q, Pageable pageable) {
+        String query = (q == null) ? null : q.trim();
+        if (query == null || query.isEmpty()) {
+            return studentRepo.findVersionsBy(pageable);
+        }
+
+        Optional<List<UUID>> ids = searchIndex.find(query);
+        if (ids.isPresent()) {
+            List<StudentVersion> content = ids.get().isEmpty()
+                    ? List.of()
+                    : studentRepo.findVersionsByIdIn(ids.get(), pageable);
+            return new PageImpl<>(content, pageable, ids.get().size());
+        }
+        return studentRepo.findVersionsMatching(likePattern(query), pageable);
+    }
+
+    /**
+     * Reads the members of a version page by primary key, keeping its order and total.
+     * A member deleted since the version query is left out.
+     */
+    @Override
+    public Page<StudentResponse> loadPage(Page<StudentVersion> versions) {
+        List<UUID> ids = versions.map(StudentVersion::id).getContent();
+        List<StudentResponse> content = List.of();
+        if (!ids.isEmpty()) {
+            Map<UUID, StudentResponse> byId = studentRepo.findResponsesByIdIn(ids, Pageable.unpaged()).stream()
+                    .collect(Collectors.toMap(StudentResponse::getId, r -> r));
+            content = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+        return new PageImpl<>(content, versions.getPageable(), versions.getTotalElements());
+    }
+
+    /**
+     * Count-free variant of {@link #search(String, Pageable)}.
+     */
+    @Override
+    public Slice<StudentResponse> searchSlice(String q, Pageable pageable) {
+        String query = (q == null) ? null : q.trim();
+        if (query == null || query.isEmpty()) {
+            return studentRepo.findResponseSlice(pageable);
+        }
+
+        Optional<List<UUID>> ids = searchIndex.find(query);
+        if (ids.isPresent()) {
+            List<StudentResponse> content = ids.get().isEmpty()
+                    ? List.of()
+                    : studentRepo.findResponsesByIdIn(ids.get(), pageable);
+            boolean hasNext = pageable.isPaged() && pageable.getOffset() + content.size() < ids.get().size();
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        return studentRepo.findResponseSliceMatching(likePattern(query), pageable);
+    }
+
+    /**
+     * Lists students by keyset; fetches one extra row to detect the next page.
+     */
+    @Override
+    public CursorPageDto<StudentResponse> scroll(String after, int size) {
+        int limit = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        List<StudentResponse> rows;
+        if (after == null || after.isBlank()) {
+            rows = studentRepo.findResponsesFirst(Limit.of(limit + 1));
+        } else {
+            StudentCursor c = StudentCursor.decode(after);
+            rows = studentRepo.findResponsesAfter(c.lastName(), c.firstName(), c.id(), Limit.of(limit + 1));
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<StudentResponse> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? StudentCursor.of(content.get(limit - 1)).encode() : null;
+        return new CursorPageDto<>(content, limit, nextCursor, hasNext);
+    }
+
+    /**
+     * Suggests students by last-name prefix from memory, falling back to
+     * {@code ix_students_last_first} while the suggester is warming up.
+     */
+    @Override
+    public List<StudentSuggestion> suggest(String prefix, int limit) {
+        String p = (prefix == null) ? "" : prefix.trim();
+        if (p.isEmpty()) {
+            return List.of();
+        }
+        int n = Math.clamp(limit, 1, MAX_SUGGESTIONS);
+        return nameSuggester.suggest(p, n).orElseGet(() -> studentRepo
+                .findByLastNameStartsWithIgnoreCase(p, PageRequest.of(0, n, Sort.by("lastName", "firstName", "id")))
+                .map(mapper::toSuggestion)
+                .getContent());
     }
 
     /**
      * Retrieves a student by ID or throws {@link NotFoundException}.
+     * Served from the student cache when present, otherwise read as a projection.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, key = "#id", sync = true)
     public StudentResponse get(UUID id) {
-        Student s = studentRepo.findById(id)
+        return studentRepo.findResponseById(id)
                 .orElseThrow(() -> new NotFoundException("Student", id));
-        return mapper.toResponse(s);
     }
 
     /**
-     * Creates a new student after validating email uniqueness.
+     * Creates a new student in a single round trip; email uniqueness is enforced by
+     * {@code uq_students_live_email} and a violation becomes {@link ConflictException}.
      */
     @Override
     @Transactional
     public StudentResponse create(StudentCreateRequest req) {
-        if (studentRepo.existsByEmailIgnoreCase(req.getEmail())) {
-            throw new ConflictException("Email already in use: " + req.getEmail());
+        try {
+            Student saved = studentRepo.saveAndFlush(newStudent(req));
+            return mapper.toResponse(saved);
+        } catch (DataIntegrityViolationException ex) {
+            throw emailConflictOr(ex, "Email already in use: " + req.getEmail());
         }
-        Student entity = mapper.fromCreate(req);
-        Student saved = studentRepo.save(entity);
-        return mapper.toResponse(saved);
     }
 
     /**
-     * Updates an existing student, enforcing unique email constraint.
+     * Creates a batch of students: per-item validation, one set-based email check,
+     * then JDBC-batched inserts flushed and cleared every {@code batchSize} rows.
+     */
+    @Override
+    @Transactional
+    public StudentBatchCreateResponse createBatch(List<StudentCreateRequest> items) {
+        StudentBatchItemResult[] results = new StudentBatchItemResult[items.size()];
+
+        // normalized email -> index of the first valid item using it
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            StudentCreateRequest req = items.get(i);
+            String violations = violations(req);
+            if (violations != null) {
+                results[i] = itemResult(i, StudentBatchItemStatus.INVALID, null, violations);
+            } else if (candidates.putIfAbsent(normalizeEmail(req.getEmail()), i) != null) {
+                results[i] = itemResult(i, StudentBatchItemStatus.CONFLICT, null,
+                        "Duplicate email in batch: " + req.getEmail());
+            }
+        }
+
+        Set<String> taken = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(studentRepo.findExistingEmails(candidates.keySet()));
+
+        int pending = 0;
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int i = candidate.getValue();
+            StudentCreateRequest req = items.get(i);
+            if (taken.contains(candidate.getKey())) {
+                results[i] = itemResult(i, StudentBatchItemStatus.CONFLICT, null,
+                        "Email already in use: " + req.getEmail());
+                continue;
+            }
+            Student saved = studentRepo.save(newStudent(req));
+            results[i] = itemResult(i, StudentBatchItemStatus.CREATED, saved.getId(), null);
+            if (++pending == batchSize) {
+                flushAndClear();
+                pending = 0;
+            }
+        }
+        flushAndClear();
+
+        List<StudentBatchItemResult> itemResults = List.of(results);
+        return StudentBatchCreateResponse.builder()
+                .created(count(itemResults, StudentBatchItemStatus.CREATED))
+                .conflicts(count(itemResults, StudentBatchItemStatus.CONFLICT))
+                .invalid(count(itemResults, StudentBatchItemStatus.INVALID))
+                .items(itemResults)
+                .build();
+    }
+
+    /**
+     * Updates an existing student. The change is flushed immediately so that a clash on
+     * {@code uq_students_live_email} surfaces as {@link ConflictException}.
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
     public StudentResponse update(UUID id, StudentUpdateRequest req) {
         Student s = studentRepo.findById(id)
                 .orElseThrow(() -> new NotFoundException("Student", id));
 
-        if (req.getEmail() != null &&
-                studentRepo.existsByEmailIgnoreCaseAndIdNot(req.getEmail(), id)) {
-            throw new ConflictException("Email already in use: " + req.getEmail());
-        }
-
         mapper.update(s, req);
+        try {
+            studentRepo.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw emailConflictOr(ex, "Email already in use: " + req.getEmail());
+        }
         return mapper.toResponse(s);
     }
 
     /**
-     * Deletes a student if no linked enrollments exist.
+     * Soft-deletes a student with one guarded {@code UPDATE}. Only when nothing was deleted
+     * does a second query tell a missing student apart from one that still has enrollments.
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
     public void delete(UUID id) {
-        Student s = studentRepo.findById(id)
-                .orElseThrow(() -> new NotFoundException("Student", id));
-
-        boolean hasEnrollments = enrollmentRepo.existsByStudentId(id);
-        if (hasEnrollments) {
+        if (studentRepo.softDeleteIfUnenrolled(id, OffsetDateTime.now()) == 0) {
+            if (!studentRepo.existsById(id)) {
+                throw new NotFoundException("Student", id);
+            }
             throw new BadRequestException("Cannot delete student with existing enrollments");
         }
-        studentRepo.delete(s);
+        // JPQL bulk statements bypass the entity listener; keep the read models in sync explicitly.
+        events.publishEvent(StudentChangedEvent.deleted(id));
+    }
+
+    /**
+     * Runs one guarded soft-delete {@code UPDATE} per {@value #UPDATE_CHUNK} ids. A chunk that
+     * deleted fewer rows than it listed is followed by one query for the surviving (blocked) ids.
+     */
+    @Override
+    @Transactional
+    public StudentBulkDeleteResponse deleteBulk(StudentBulkDeleteRequest req) {
+        List<UUID> ids = req.getIds().stream().distinct().toList();
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int deleted = 0;
+        List<UUID> blocked = new ArrayList<>();
+        for (List<UUID> chunk : chunks(ids)) {
+            int n = studentRepo.softDeleteUnenrolled(chunk, now);
+            deleted += n;
+            Set<UUID> kept = (n == chunk.size()) ? Set.of() : new HashSet<>(studentRepo.findExistingIds(chunk));
+            blocked.addAll(kept);
+            // Ids that were never there get a redundant eviction/removal; both are no-ops.
+            for (UUID id : chunk) {
+                if (!kept.contains(id)) {
+                    if (cache != null) {
+                        cache.evict(id);
+                    }
+                    events.publishEvent(StudentChangedEvent.deleted(id));
+                }
+            }
+        }
+        return new StudentBulkDeleteResponse(deleted, ids.size() - deleted - blocked.size(), blocked);
     }
 
     /**
@@ -128,10 +385,122 @@ public class StudentServiceImpl implements StudentService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
     public StudentResponse changeStatus(UUID id, StudentStatus status) {
         Student s = studentRepo.findById(id)
                 .orElseThrow(() -> new NotFoundException("Student", id));
         s.setStatus(status);
         return mapper.toResponse(s);
     }
+
+    /**
+     * Resolves the selection to ids, then runs one chunked {@code UPDATE} per
+     * {@value #UPDATE_CHUNK} ids and evicts the affected cache entries.
+     */
+    @Override
+    @Transactional
+    public StudentBulkStatusResponse changeStatusBulk(StudentBulkStatusRequest req) {
+        List<UUID> requested = (req.getIds() == null) ? List.of() : req.getIds().stream().distinct().toList();
+        if (requested.isEmpty() && req.getFromStatus() == null) {
+            throw new BadRequestException("Either ids or fromStatus is required");
+        }
+
+        List<UUID> ids;
+        if (requested.isEmpty()) {
+            ids = studentRepo.findIdsByStatus(req.getFromStatus());
+        } else {
+            ids = new ArrayList<>(requested.size());
+            for (List<UUID> chunk : chunks(requested)) {
+                ids.addAll(req.getFromStatus() == null
+                        ? studentRepo.findExistingIds(chunk)
+                        : studentRepo.findIdsByIdInAndStatus(chunk, req.getFromStatus()));
+            }
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        int updated = 0;
+        for (List<UUID> chunk : chunks(ids)) {
+            updated += studentRepo.updateStatus(chunk, req.getStatus(), now);
+        }
+
+        // Transaction-aware cache: evictions are applied after commit.
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS);
+        if (cache != null && updated > 0) {
+            ids.forEach(cache::evict);
+        }
+        return new StudentBulkStatusResponse(req.getStatus(), ids.size(), updated);
+    }
+
+    // Maps a create request to a new entity, applying the documented default status.
+    private Student newStudent(StudentCreateRequest req) {
+        Student entity = mapper.fromCreate(req);
+        if (entity.getStatus() == null) {
+            entity.setStatus(StudentStatus.APPLIED);
+        }
+        return entity;
+    }
+
+    // Sends the pending JDBC batch and detaches the inserted entities.
+    private void flushAndClear() {
+        try {
+            studentRepo.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw emailConflictOr(ex, "Email already in use by a concurrently created student; batch rolled back");
+        }
+        entityManager.clear();
+    }
+
+    // Translates a violation of the email unique index into a 409; anything else is rethrown as is.
+    private static RuntimeException emailConflictOr(DataIntegrityViolationException ex, String message) {
+        String detail = ex.getMostSpecificCause().getMessage();
+        if (detail != null && detail.toLowerCase(Locale.ROOT).contains("uq_students_live_email")) {
+            return new ConflictException(message);
+        }
+        return ex;
+    }
+
+    // Bean validation messages as "field: message; ...", or null when the item is valid.
+    private String violations(StudentCreateRequest req) {
+        if (req == null) {
+            return "item must not be null";
+        }
+        Set<ConstraintViolation<StudentCreateRequest>> violations = validator.validate(req);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String normalizeEmail(String email) {
+        // Same as the generated column LOWER(email); @Email already rejects surrounding whitespace.
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> List<List<T>> chunks(List<T> list) {
+        List<List<T>> chunks = new ArrayList<>((list.size() + UPDATE_CHUNK - 1) / UPDATE_CHUNK);
+        for (int from = 0; from < list.size(); from += UPDATE_CHUNK) {
+            chunks.add(list.subList(from, Math.min(from + UPDATE_CHUNK, list.size())));
+        }
+        return chunks;
+    }
+
+    private static StudentBatchItemResult itemResult(int index, StudentBatchItemStatus status, UUID id, String message) {
+        return new StudentBatchItemResult(index, status, id, message);
+    }
+
+    private static int count(List<StudentBatchItemResult> results, StudentBatchItemStatus status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
+
+    // Lower-cased, '%'-wrapped LIKE pattern with metacharacters escaped by '\'.
+    private static String likePattern(String q) {
+        String escaped = q.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
 }
@@ -0,0 +1,98 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentVersion;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+/**
+ * Builds and compares strong HTTP entity tags for API resources.
+ *
+ * <p><b>Single resources:</b> The tag is derived from the id and the last modification
+ * time ({@code updatedAt}, falling back to {@code createdAt}).</p>
+ *
+ * <p><b>Pages:</b> The tag is a digest of the page coordinates, the total count, and the
+ * id and version of every member, in order. Any insert, delete, update or reordering
+ * that affects the page changes the tag.</p>
+ *
+ * <p><b>Precision:</b> Timestamps are truncated to microseconds, the precision of the
+ * {@code TIMESTAMP WITH TIME ZONE} columns, so tags computed from freshly written entities
+ * and from values read back from the database agree.</p>
+ */
+public final class ETags {
+    private ETags() {}
+
+    /**
+     * Returns the strong entity tag of a single student.
+     */
+    public static String of(StudentVersion v) {
+        return "\"" + v.id() + "-" + Long.toHexString(versionMicros(v)) + "\"";
+    }
+
+    /**
+     * Returns the strong entity tag of a page of students.
+     */
+    public static String ofPage(Page<StudentVersion> page) {
+        MessageDigest md = sha256();
+        update(md, page.getNumber() + ":" + page.getSize() + ":" + page.getTotalElements() + ":" + page.getSort());
+        for (StudentVersion v : page) {
+            update(md, "|" + v.id() + "@" + versionMicros(v));
+        }
+        return "\"p-" + HexFormat.of().formatHex(md.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header value against the current tag.
+     *
+     * <p>Uses the weak comparison required for {@code If-None-Match}: a {@code W/} prefix
+     * on the client's tags is ignored, and {@code *} matches any current representation.</p>
+     *
+     * @param ifNoneMatch the raw header value (may list several tags)
+     * @param current the current strong tag, including quotes
+     * @return {@code true} if the client's copy is still current
+     */
+    public static boolean matches(String ifNoneMatch, String current) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long versionMicros(StudentVersion v) {
+        OffsetDateTime ts = (v.updatedAt() != null) ? v.updatedAt() : v.createdAt();
+        if (ts == null) {
+            return 0L;
+        }
+        return ChronoUnit.MICROS.between(Instant.EPOCH, ts.toInstant());
+    }
+
+    private static void update(MessageDigest md, String s) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.jeraldjamescapao.studentmanagementapi.web;
 
 import com.jeraldjamescapao.studentmanagementapi.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
  *   <li>{@link NotFoundException} → 404 Not Found</li>
  *   <li>{@link ConflictException} → 409 Conflict</li>
  *   <li>{@link BadRequestException} → 400 Bad Request</li>
+ *   <li>{@link ServiceUnavailableException} → 503 Service Unavailable, with {@code Retry-After}</li>
  *   <li>{@link MethodArgumentNotValidException} → 400 Bad Request (validation errors)</li>
  * </ul>
  *
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.*;
  * @see NotFoundException
  * @see ConflictException
  * @see BadRequestException
+ * @see ServiceUnavailableException
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -61,6 +65,17 @@ public class GlobalExceptionHandler {
         return ErrorResponse.of(400, "Bad Request", ex.getMessage(), req.getRequestURI());
     }
 
+    /**
+     * Map ServiceUnavailableException to 503; clients may retry after a second.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleUnavailable(ServiceUnavailableException ex, HttpServletRequest req,
+                                           HttpServletResponse res) {
+        res.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return ErrorResponse.of(503, "Service Unavailable", ex.getMessage(), req.getRequestURI());
+    }
+
     /**
      * Map bean validation errors to 400.
      * Report the first field error.
@@ -0,0 +1,81 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jeraldjamescapao.studentmanagementapi.metrics.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Development filter that reports how many SQL statements a request executed.
+ *
+ * <p><b>Header:</b> {@value #HEADER} is set just before the response body is written (or,
+ * for responses without a body, when the request completes), so it covers all statements
+ * issued by the controller, services and mappers.</p>
+ *
+ * <p><b>Scope:</b> Active only in the {@code dev} profile. Async work such as streaming
+ * exports runs on another thread and is not included.</p>
+ *
+ * @see SqlStatementCounter
+ */
+@Component
+@Profile("dev")
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    /** Response header carrying the per-request statement count. */
+    public static final String HEADER = "X-Query-Count";
+
+    private final SqlStatementCounter counter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.reset();
+        CountingResponse wrapped = new CountingResponse(response);
+        chain.doFilter(request, wrapped);
+        wrapped.stamp();
+    }
+
+    // Stamps the header on the request thread before the response can be committed.
+    private final class CountingResponse extends HttpServletResponseWrapper {
+        private final Thread owner = Thread.currentThread();
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        void stamp() {
+            if (Thread.currentThread() == owner && !isCommitted()) {
+                setHeader(HEADER, Integer.toString(counter.count()));
+            }
+        }
+    }
+}
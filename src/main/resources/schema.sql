@@ -15,7 +15,7 @@ CREATE TABLE IF NOT EXISTS students (
     created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at  TIMESTAMP WITH TIME ZONE NULL,
     deleted_at  TIMESTAMP WITH TIME ZONE NULL, -- soft delete
-    CONSTRAINT  uq_students_email UNIQUE (email),
+    live_email  VARCHAR(320) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN LOWER(email) END), -- case-insensitive identity of live rows
     CONSTRAINT  ck_students_status CHECK (status IN (
         'APPLIED','ADMITTED','ENROLLED','ON_LEAVE',
         'SUSPENDED','WITHDRAWN','GRADUATED','INACTIVE'
@@ -23,8 +23,22 @@ CREATE TABLE IF NOT EXISTS students (
     CONSTRAINT ck_students_gender CHECK (gender IN ('MALE','FEMALE','OTHER'))
 );
 
+-- Databases created before live_email existed get the column here.
+ALTER TABLE students ADD COLUMN IF NOT EXISTS live_email VARCHAR(320) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN LOWER(email) END);
+-- Case-insensitive uniqueness among live students; lookups and conflict checks hit this index.
+-- H2 has no partial indexes: soft-deleted rows are NULL in live_email, and NULLs never collide,
+-- so a deleted student's email can be reused at once.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_students_live_email ON students(live_email);
+-- Superseded by uq_students_live_email; both also covered soft-deleted rows.
+ALTER TABLE students DROP CONSTRAINT IF EXISTS uq_students_email;
+DROP INDEX IF EXISTS uq_students_email_normalized;
+ALTER TABLE students DROP COLUMN IF EXISTS email_normalized;
+
 CREATE INDEX IF NOT EXISTS ix_students_last_first ON students(last_name, first_name);
 CREATE INDEX IF NOT EXISTS ix_students_status ON students(status);
+-- Soft delete: drives the purge scan (deleted_at < cutoff). Live reads filter deleted_at IS NULL;
+-- the purge keeps deleted rows a small fraction of each table, so existing indexes stay selective.
+CREATE INDEX IF NOT EXISTS ix_students_deleted_at ON students(deleted_at);
 
 -- Courses
 CREATE TABLE IF NOT EXISTS courses (
@@ -37,10 +51,16 @@ CREATE TABLE IF NOT EXISTS courses (
     created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at  TIMESTAMP WITH TIME ZONE NULL,
     deleted_at  TIMESTAMP WITH TIME ZONE NULL, -- soft delete
-    CONSTRAINT  uq_courses_code UNIQUE (code)
+    live_code   VARCHAR(32) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN code END) -- code of live rows
 );
 
+-- Code uniqueness among live courses, as for students: a deleted course's code can be reused at once.
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS live_code VARCHAR(32) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN code END);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_courses_live_code ON courses(live_code);
+ALTER TABLE courses DROP CONSTRAINT IF EXISTS uq_courses_code;
+
 CREATE INDEX IF NOT EXISTS ix_courses_active ON courses(active);
+CREATE INDEX IF NOT EXISTS ix_courses_deleted_at ON courses(deleted_at);
 
 -- Enrollments
 CREATE TABLE IF NOT EXISTS enrollments (
@@ -53,20 +73,44 @@ CREATE TABLE IF NOT EXISTS enrollments (
     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE NULL,
     deleted_at  TIMESTAMP WITH TIME ZONE NULL, -- soft delete
+    live       BOOLEAN GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN TRUE END), -- NULL once deleted
     CONSTRAINT fk_enrollments_student
       FOREIGN KEY (student_id) REFERENCES students(id),
     CONSTRAINT fk_enrollments_course
       FOREIGN KEY (course_id)  REFERENCES courses(id),
-    CONSTRAINT uq_enrollments UNIQUE (student_id, course_id, term, section),
     CONSTRAINT ck_enrollments_status CHECK (status IN (
         'REGISTERED','ENROLLED','WAITLISTED','DROPPED',
         'WITHDRAWN','COMPLETED','FAILED','INCOMPLETE','CANCELLED'
     ))
 );
 
+-- One live enrollment per (student, course, term, section); a deleted one leaves live NULL and
+-- no longer collides, so the student can enroll in the section again.
+ALTER TABLE enrollments ADD COLUMN IF NOT EXISTS live BOOLEAN GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN TRUE END);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_enrollments_live ON enrollments(student_id, course_id, term, section, live);
+ALTER TABLE enrollments DROP CONSTRAINT IF EXISTS uq_enrollments;
+
 CREATE INDEX IF NOT EXISTS ix_enrollments_student ON enrollments(student_id);
 CREATE INDEX IF NOT EXISTS ix_enrollments_course  ON enrollments(course_id);
 CREATE INDEX IF NOT EXISTS ix_enrollments_status  ON enrollments(status);
+CREATE INDEX IF NOT EXISTS ix_enrollments_deleted_at ON enrollments(deleted_at);
+-- Seats taken per section: SeatLedger counts (course_id, term, section, status) when it loads or reconciles.
+CREATE INDEX IF NOT EXISTS ix_enrollments_section ON enrollments(course_id, term, section, status);
+
+-- Section capacity: one row per limited (course, term, section); sections without a row are unlimited.
+CREATE TABLE IF NOT EXISTS course_sections (
+    id UUID     PRIMARY KEY,
+    course_id   UUID NOT NULL,
+    term        VARCHAR(20) NOT NULL,
+    section     VARCHAR(10) NOT NULL,
+    capacity    INT NOT NULL CHECK (capacity >= 0),
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at  TIMESTAMP WITH TIME ZONE NULL,
+    deleted_at  TIMESTAMP WITH TIME ZONE NULL, -- soft delete
+    CONSTRAINT fk_course_sections_course
+      FOREIGN KEY (course_id) REFERENCES courses(id) ON DELETE CASCADE, -- purged with the course
+    CONSTRAINT uq_course_sections UNIQUE (course_id, term, section)
+);
 
 -- Grades
 CREATE TABLE IF NOT EXISTS grades (
@@ -84,4 +128,5 @@ CREATE TABLE IF NOT EXISTS grades (
 );
 
 CREATE INDEX IF NOT EXISTS ix_grades_enrollment ON grades(enrollment_id);
-CREATE INDEX IF NOT EXISTS ix_grades_letter     ON grades(letter);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS ix_grades_letter     ON grades(letter);
+CREATE INDEX IF NOT EXISTS ix_grades_deleted_at ON grades(deleted_at);
\ No newline at end of file
@@ -0,0 +1,234 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.catalog.CourseCatalog;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.exception.ConflictException;
+import com.jeraldjamescapao.studentmanagementapi.exception.NotFoundException;
+import com.jeraldjamescapao.studentmanagementapi.exception.ServiceUnavailableException;
+import com.jeraldjamescapao.studentmanagementapi.repository.StudentRepository;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Courses;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Batching, per-request outcomes, retries and shutdown of {@link EnrollmentPipeline}.
+ *
+ * <p>Outcomes are checked against the application's pipeline. Batching, retries and shutdown
+ * use a pipeline of their own whose student lookup can hold the writer inside a batch or
+ * report a student that does not exist, so the queue fills up and batches fail on demand.</p>
+ */
+@ApiTest
+class EnrollmentPipelineTests {
+
+    private static final String TERM = "2025-FALL";
+    private static final String SECTION = "P";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private EnrollmentPipeline pipeline;
+    @Autowired
+    private CourseCatalog catalog;
+    @Autowired
+    private SeatLedger ledger;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    // Hold the writer of an own pipeline inside its first batch.
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<EnrollmentPipeline> started = new ArrayList<>();
+
+    @AfterEach
+    void stopOwnPipelines() {
+        release.countDown();
+        started.forEach(EnrollmentPipeline::stop);
+    }
+
+    @Test
+    void settlesEveryRequestOnItsOwn() throws Exception {
+        String course = Courses.create(mvc, "PIPE");
+        Courses.capacity(mvc, course, TERM, SECTION, 1).andExpect(status().isOk());
+        List<String> students = Students.createMany(mvc, "pipe-outcome", 3);
+        assertThat(pipeline.submit(request(students.get(0), course)).get(10, TimeUnit.SECONDS).getStatus())
+                .isEqualTo(EnrollmentStatus.ENROLLED);
+
+        List<EnrollmentPipeline.Outcome> outcomes = pipeline.submitAll(List.of(
+                request(students.get(1), course),
+                request(UUID.randomUUID().toString(), course),
+                request(students.get(0), course),
+                request(students.get(2), course),
+                request(students.get(2), course))).get(10, TimeUnit.SECONDS);
+
+        assertThat(outcomes).hasSize(5);
+        assertThat(outcomes.get(0).enrollment().getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+        assertThat(outcomes.get(1).error()).isInstanceOf(NotFoundException.class);
+        assertThat(outcomes.get(2).error()).isInstanceOf(ConflictException.class);
+        assertThat(outcomes.get(3).enrollment().getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+        assertThat(outcomes.get(4).error()).isInstanceOf(ConflictException.class);
+        assertThat(ledger.seats(section(course)).taken()).isEqualTo(1);
+    }
+
+    @Test
+    void deletedEnrollmentDoesNotBlockEnrollingAgain() throws Exception {
+        String course = Courses.create(mvc, "PIPE");
+        String student = Students.createMany(mvc, "pipe-again", 1).get(0);
+        EnrollmentResponse first = pipeline.submit(request(student, course)).get(10, TimeUnit.SECONDS);
+        mvc.perform(delete("/api/v1/enrollments/" + first.getId())).andExpect(status().isNoContent());
+
+        EnrollmentResponse second = pipeline.submit(request(student, course)).get(10, TimeUnit.SECONDS);
+
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(second.getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThatThrownBy(() -> pipeline.submit(request(student, course)).get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void batchesWhatQueuesUpWhileWriting() throws Exception {
+        String course = Courses.create(mvc, "PIPE");
+        List<String> students = Students.createMany(mvc, "pipe-batch", 4);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        EnrollmentPipeline own = start(heldStudentLookup(), registry);
+
+        CompletableFuture<EnrollmentResponse> first = own.submit(request(students.get(0), course));
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<EnrollmentResponse>> queued = new ArrayList<>();
+        for (String student : students.subList(1, 4)) {
+            queued.add(own.submit(request(student, course)));
+        }
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        for (CompletableFuture<EnrollmentResponse> f : queued) {
+            assertThat(f.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        }
+        DistributionSummary batches = registry.get("enrollment.pipeline.batch.size").summary();
+        assertThat(batches.count()).isEqualTo(2);
+        assertThat(batches.max()).isEqualTo(3);
+    }
+
+    @Test
+    void retriesEachRequestAfterAFailedBatch() throws Exception {
+        String course = Courses.create(mvc, "PIPE");
+        Courses.capacity(mvc, course, TERM, SECTION, 2).andExpect(status().isOk());
+        List<String> students = Students.createMany(mvc, "pipe-retry", 2);
+        UUID phantom = UUID.randomUUID();
+        // Reports a student that does not exist, so the batch insert fails on its foreign key.
+        StudentRepository lying = mock(StudentRepository.class);
+        when(lying.findExistingIds(any())).thenAnswer(invocation -> {
+            List<UUID> ids = new ArrayList<>(studentRepo.findExistingIds(invocation.<Collection<UUID>>getArgument(0)));
+            ids.add(phantom);
+            return ids;
+        });
+        EnrollmentPipeline own = start(lying, new SimpleMeterRegistry());
+
+        List<EnrollmentPipeline.Outcome> outcomes = own.submitAll(List.of(
+                request(students.get(0), course),
+                request(phantom.toString(), course),
+                request(students.get(1), course))).get(10, TimeUnit.SECONDS);
+
+        // The failed batch gave its seats back, so both retried students still get one.
+        assertThat(outcomes.get(0).enrollment().getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThat(outcomes.get(1).error()).isInstanceOf(NotFoundException.class).hasMessageContaining("Student");
+        assertThat(outcomes.get(2).enrollment().getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThat(ledger.seats(section(course)).taken()).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM enrollments WHERE course_id = ?", Integer.class,
+                UUID.fromString(course))).isEqualTo(2);
+    }
+
+    @Test
+    void drainsTheQueueOnShutdown() throws Exception {
+        String course = Courses.create(mvc, "PIPE");
+        List<String> students = Students.createMany(mvc, "pipe-drain", 5);
+        EnrollmentPipeline own = start(heldStudentLookup(), new SimpleMeterRegistry());
+
+        CompletableFuture<EnrollmentResponse> first = own.submit(request(students.get(0), course));
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<EnrollmentResponse>> queued = new ArrayList<>();
+        for (String student : students.subList(1, 4)) {
+            queued.add(own.submit(request(student, course)));
+        }
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(own::stop);
+        while (own.isRunning()) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> own.submit(request(students.get(4), course)).get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+        stopping.get(10, TimeUnit.SECONDS);
+
+        assertThat(first).isCompleted();
+        assertThat(first.get().getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        for (CompletableFuture<EnrollmentResponse> f : queued) {
+            assertThat(f).isCompleted();
+            assertThat(f.get().getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        }
+    }
+
+    private EnrollmentPipeline start(StudentRepository students, MeterRegistry registry) {
+        EnrollmentPipeline own = new EnrollmentPipeline(catalog, ledger, students, jdbc, txManager, registry, 100, 256);
+        own.start();
+        started.add(own);
+        return own;
+    }
+
+    // The first lookup waits for release; later ones go straight to the database.
+    private StudentRepository heldStudentLookup() {
+        StudentRepository held = mock(StudentRepository.class);
+        Answer<List<UUID>> answer = invocation -> {
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return studentRepo.findExistingIds(invocation.getArgument(0));
+        };
+        when(held.findExistingIds(any())).thenAnswer(answer);
+        return held;
+    }
+
+    private static SectionKey section(String courseId) {
+        return new SectionKey(UUID.fromString(courseId), TERM, SECTION);
+    }
+
+    private static EnrollmentCreateRequest request(String studentId, String courseId) {
+        return EnrollmentCreateRequest.builder()
+                .studentId(UUID.fromString(studentId))
+                .courseId(UUID.fromString(courseId))
+                .term(TERM)
+                .section(SECTION)
+                .build();
+    }
+}
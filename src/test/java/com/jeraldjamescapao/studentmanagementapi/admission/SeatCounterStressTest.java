@@ -0,0 +1,188 @@
+package com.jeraldjamescapao.studentmanagementapi.admission;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency checks for {@link SeatCounter}, the admission path of {@link SeatLedger}.
+ *
+ * <p>{@code neverOverbooksUnderContention} runs with the regular tests: many threads rush one
+ * section while a reconciler keeps resetting the counter from a simulated database count, and
+ * the committed seats must never exceed the capacity.</p>
+ *
+ * <p>{@code throughputScalesWithThreads} is a benchmark comparing admissions per second across
+ * thread counts with a single global lock; run it with
+ * {@code ./mvnw test -Pbenchmark -Dtest=SeatCounterStressTest}. It only asserts scaling on
+ * machines with at least two cores.</p>
+ */
+class SeatCounterStressTest {
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Test
+    void neverOverbooksUnderContention() throws Exception {
+        int capacity = 200;
+        int threads = Math.max(8, 2 * CORES);
+        int attempts = 20_000;
+
+        SeatCounter counter = new SeatCounter(capacity, 0);
+        // Stands in for the committed seat-holding rows in the database.
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger maxCommitted = new AtomicInteger();
+        LongAdder rejected = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reconciled = new LongAdder();
+
+        Thread reconciler = new Thread(() -> {
+            while (running.get()) {
+                if (counter.reconcile(committed::get) != null) {
+                    reconciled.increment();
+                }
+                Thread.onSpinWait();
+            }
+        });
+        reconciler.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                int held = 0;
+                for (int i = 0; i < attempts; i++) {
+                    if (held > 0 && rnd.nextInt(4) == 0) {
+                        // drop: the row change commits first, the seat is released after commit
+                        counter.begin();
+                        committed.decrementAndGet();
+                        counter.release();
+                        counter.end();
+                        held--;
+                        continue;
+                    }
+                    counter.begin();
+                    if (!counter.tryAcquire()) {
+                        rejected.increment();
+                    } else if (rnd.nextInt(5) == 0) {
+                        counter.release(); // rolled back
+                    } else {
+                        int now = committed.incrementAndGet();
+                        maxCommitted.accumulateAndGet(now, Math::max);
+                        held++;
+                    }
+                    counter.end();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : workers) {
+            f.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+        running.set(false);
+        reconciler.join();
+
+        assertThat(rejected.sum()).as("the section was oversubscribed").isPositive();
+        assertThat(maxCommitted.get()).as("committed seats").isLessThanOrEqualTo(capacity);
+        assertThat(counter.taken()).isEqualTo(committed.get());
+        assertThat(counter.reconcile(committed::get)).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void throughputScalesWithThreads() throws Exception {
+        int sections = 1024;
+        long millis = Long.getLong("seats.millis", 2000);
+
+        System.out.printf("%n%d cores, %d sections, %d ms per run%n%8s %16s %16s%n",
+                CORES, sections, millis, "threads", "ledger ops/s", "global lock ops/s");
+        double single = 0;
+        double atCores = 0;
+        for (int threads = 1; threads <= Math.max(2 * CORES, 2); threads *= 2) {
+            double lockFree = run(threads, millis, counters(sections), false);
+            double locked = run(threads, millis, counters(sections), true);
+            System.out.printf("%8d %16.0f %16.0f%n", threads, lockFree, locked);
+            if (threads == 1) {
+                single = lockFree;
+            }
+            if (threads <= CORES) {
+                atCores = lockFree;
+            }
+        }
+        if (CORES >= 2) {
+            assertThat(atCores).as("throughput at %d threads", CORES).isGreaterThan(1.5 * single);
+        }
+    }
+
+    private static SeatCounter[] counters(int sections) {
+        SeatCounter[] counters = new SeatCounter[sections];
+        for (int i = 0; i < sections; i++) {
+            counters[i] = new SeatCounter(1_000, 0);
+        }
+        return counters;
+    }
+
+    // Admission plus rollback on random sections; one "op" is an admission attempt.
+    private static double run(int threads, long millis, SeatCounter[] counters, boolean globalLock) throws Exception {
+        Object lock = new Object();
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder ops = new LongAdder();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                long n = 0;
+                while (running.get()) {
+                    SeatCounter c = counters[rnd.nextInt(counters.length)];
+                    if (globalLock) {
+                        synchronized (lock) {
+                            admitAndRollBack(c);
+                        }
+                    } else {
+                        admitAndRollBack(c);
+                    }
+                    n++;
+                }
+                ops.add(n);
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(millis);
+        running.set(false);
+        for (Future<?> f : workers) {
+            f.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        return ops.sum() * 1e9 / elapsed;
+    }
+
+    private static void admitAndRollBack(SeatCounter c) {
+        c.begin();
+        if (c.tryAcquire()) {
+            c.release();
+        }
+        c.end();
+    }
+}
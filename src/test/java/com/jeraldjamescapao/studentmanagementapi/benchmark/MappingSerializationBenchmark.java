@@ -0,0 +1,192 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jeraldjamescapao.studentmanagementapi.dto.common.PageDto;
+import com.jeraldjamescapao.studentmanagementapi.dto.enrollment.EnrollmentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.grade.GradeResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentResponse;
+import com.jeraldjamescapao.studentmanagementapi.entity.Course;
+import com.jeraldjamescapao.studentmanagementapi.entity.Enrollment;
+import com.jeraldjamescapao.studentmanagementapi.entity.Grade;
+import com.jeraldjamescapao.studentmanagementapi.entity.Student;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.EnrollmentStatus;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.Gender;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import com.jeraldjamescapao.studentmanagementapi.mapper.EnrollmentMapper;
+import com.jeraldjamescapao.studentmanagementapi.mapper.EnrollmentMapperImpl;
+import com.jeraldjamescapao.studentmanagementapi.mapper.GradeMapper;
+import com.jeraldjamescapao.studentmanagementapi.mapper.GradeMapperImpl;
+import com.jeraldjamescapao.studentmanagementapi.mapper.StudentMapper;
+import com.jeraldjamescapao.studentmanagementapi.mapper.StudentMapperImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH micro-benchmarks for the mapping and serialization hot paths of every response.
+ *
+ * <p>Covers the MapStruct mappers ({@code StudentMapper.toResponse}/{@code toResponseList},
+ * {@code EnrollmentMapper}, {@code GradeMapper}), {@link PageDto#from(Page)} and Jackson
+ * serialization of {@link StudentResponse} and {@link PageDto} with the {@code @JsonFormat}
+ * patterns from {@code ApiDateFormats}. Results are reported in ops/s together with the
+ * {@code gc.alloc.rate.norm} (bytes allocated per op) column of JMH's GC profiler, and written
+ * to {@code target/jmh/mapping-serialization.json} to serve as a baseline.</p>
+ *
+ * <p>The JUnit test only launches JMH, which forks its own JVM. Tune with
+ * {@code -Djmh.include=<regex>}, {@code -Djmh.forks}, {@code -Djmh.warmup},
+ * {@code -Djmh.iterations} and {@code -Djmh.time} (seconds per iteration).</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=MappingSerializationBenchmark}.</p>
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MappingSerializationBenchmark {
+
+    private static final int LIST_SIZE = 100;
+    private static final int PAGE_SIZE = 20;
+
+    private final StudentMapper studentMapper = new StudentMapperImpl();
+    private final EnrollmentMapper enrollmentMapper = new EnrollmentMapperImpl();
+    private final GradeMapper gradeMapper = new GradeMapperImpl();
+
+    // Spring's builder with the settings the application relies on for responses.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private Student student;
+    private List<Student> students;
+    private Enrollment enrollment;
+    private Grade grade;
+    private StudentResponse studentResponse;
+    private Page<StudentResponse> page;
+    private PageDto<StudentResponse> pageDto;
+
+    @Setup
+    public void setUp() {
+        students = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            students.add(student(i));
+        }
+        student = students.get(0);
+
+        Course course = Course.builder()
+                .id(UUID.randomUUID()).code("CS101").title("Intro to Computing").credits(6).active(true)
+                .build();
+        enrollment = Enrollment.builder()
+                .id(UUID.randomUUID()).student(student).course(course)
+                .term("2025-FALL").section("A").status(EnrollmentStatus.ENROLLED)
+                .createdAt(timestamp(1)).updatedAt(timestamp(2))
+                .build();
+        grade = Grade.builder()
+                .id(UUID.randomUUID()).enrollment(enrollment).letter("A-").points(new BigDecimal("3.70"))
+                .gradedAt(timestamp(3)).notes("Solid final project").createdAt(timestamp(3))
+                .build();
+
+        studentResponse = studentMapper.toResponse(student);
+        List<StudentResponse> content = studentMapper.toResponseList(students.subList(0, PAGE_SIZE));
+        page = new PageImpl<>(content, PageRequest.of(3, PAGE_SIZE, Sort.by("lastName", "firstName")), 20_000);
+        pageDto = PageDto.from(page);
+    }
+
+    @Benchmark
+    public StudentResponse studentToResponse() {
+        return studentMapper.toResponse(student);
+    }
+
+    @Benchmark
+    public List<StudentResponse> studentToResponseList() {
+        return studentMapper.toResponseList(students);
+    }
+
+    @Benchmark
+    public EnrollmentResponse enrollmentToResponse() {
+        return enrollmentMapper.toResponse(enrollment);
+    }
+
+    @Benchmark
+    public GradeResponse gradeToResponse() {
+        return gradeMapper.toResponse(grade);
+    }
+
+    @Benchmark
+    public PageDto<StudentResponse> pageDtoFrom() {
+        return PageDto.from(page);
+    }
+
+    @Benchmark
+    public byte[] serializeStudentResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(studentResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePageDto() throws Exception {
+        return objectMapper.writeValueAsBytes(pageDto);
+    }
+
+    @Test
+    void runJmh() throws Exception {
+        File result = new File("target/jmh/mapping-serialization.json");
+        result.getParentFile().mkdirs();
+        Options options = new OptionsBuilder()
+                .include(MappingSerializationBenchmark.class.getName() + "." + System.getProperty("jmh.include", ".*"))
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmup", 3))
+                .warmupTime(TimeValue.seconds(Integer.getInteger("jmh.time", 1)))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(Integer.getInteger("jmh.time", 1)))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.getPath())
+                .build();
+        new Runner(options).run();
+    }
+
+    private static Student student(int i) {
+        return Student.builder()
+                .id(UUID.nameUUIDFromBytes(("student-" + i).getBytes()))
+                .firstName("First" + i)
+                .lastName("Last" + (i % 97))
+                .email("student" + i + "@example.edu")
+                .gender(Gender.values()[i % Gender.values().length])
+                .birthDate(LocalDate.of(2000, 1, 1).plusDays(i))
+                .status(StudentStatus.ENROLLED)
+                .createdAt(timestamp(i))
+                .updatedAt(timestamp(i + 1))
+                .build();
+    }
+
+    private static OffsetDateTime timestamp(int seconds) {
+        return OffsetDateTime.of(2025, 9, 1, 8, 0, 0, 0, ZoneOffset.UTC).plusSeconds(seconds);
+    }
+}
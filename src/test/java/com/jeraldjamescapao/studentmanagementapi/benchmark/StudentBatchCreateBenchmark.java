@@ -0,0 +1,111 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBatchCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBatchCreateResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.Gender;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares creating students one by one through {@code POST /api/v1/students} against
+ * {@code POST /api/v1/students:batch}, over HTTP against the same H2 file database.
+ *
+ * <p>Throughput is reported in rows per second. The required speed-up defaults to 10x and
+ * can be overridden with {@code -Dbulk.min.speedup=...}.</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=StudentBatchCreateBenchmark}.</p>
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/benchmark/batch-create;MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class StudentBatchCreateBenchmark {
+
+    private static final int SINGLE_ROWS = 2_000;
+    private static final int BATCH_ROWS = 20_000;
+    private static final int WARM_UP_ROWS = 1_000;
+
+    @LocalServerPort
+    private int port;
+
+    // Emails must be unique across runs because the database file is reused.
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private int sequence;
+
+    @Test
+    void batchEndpointIsAnOrderOfMagnitudeFaster() {
+        double minSpeedup = Double.parseDouble(System.getProperty("bulk.min.speedup", "10"));
+        RestClient client = RestClient.create("http://localhost:" + port + "/api/v1");
+
+        createSingly(client, WARM_UP_ROWS);
+        createInBatches(client, WARM_UP_ROWS);
+
+        long start = System.nanoTime();
+        createSingly(client, SINGLE_ROWS);
+        double singleRate = SINGLE_ROWS / seconds(start);
+
+        start = System.nanoTime();
+        createInBatches(client, BATCH_ROWS);
+        double batchRate = BATCH_ROWS / seconds(start);
+
+        System.out.printf("%nsingle: %,.0f rows/s (%,d rows)%nbatch:  %,.0f rows/s (%,d rows, %d per request)%nspeed-up: %.1fx%n",
+                singleRate, SINGLE_ROWS, batchRate, BATCH_ROWS, StudentBatchCreateRequest.MAX_ITEMS, batchRate / singleRate);
+        assertThat(batchRate / singleRate).isGreaterThanOrEqualTo(minSpeedup);
+    }
+
+    private void createSingly(RestClient client, int rows) {
+        for (int i = 0; i < rows; i++) {
+            client.post().uri("/students")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(nextStudent())
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+
+    private void createInBatches(RestClient client, int rows) {
+        for (int done = 0; done < rows; done += StudentBatchCreateRequest.MAX_ITEMS) {
+            int n = Math.min(StudentBatchCreateRequest.MAX_ITEMS, rows - done);
+            List<StudentCreateRequest> items = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                items.add(nextStudent());
+            }
+            StudentBatchCreateResponse response = client.post().uri("/students:batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new StudentBatchCreateRequest(items))
+                    .retrieve()
+                    .body(StudentBatchCreateResponse.class);
+            assertThat(response).isNotNull();
+            assertThat(response.getCreated()).isEqualTo(n);
+        }
+    }
+
+    private StudentCreateRequest nextStudent() {
+        int i = sequence++;
+        return StudentCreateRequest.builder()
+                .firstName("First" + i)
+                .lastName("Last" + (i % 997))
+                .email("bulk-" + run + "-" + i + "@example.edu")
+                .gender(Gender.OTHER)
+                .birthDate(LocalDate.of(2000, 1, 1).plusDays(i % 3650))
+                .status(StudentStatus.ADMITTED)
+                .build();
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1e9;
+    }
+}
@@ -0,0 +1,131 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.common.ExportFormat;
+import com.jeraldjamescapao.studentmanagementapi.service.ExportService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports 1M students through {@link ExportService} and checks that the live heap stays flat.
+ *
+ * <p>The output stream counts lines and, every {@value #SAMPLE_EVERY} rows, forces a GC and
+ * samples the used heap, compared against a post-GC baseline taken before the export.
+ * A streaming export keeps the post-GC heap level; one that buffers rows (or a persistence
+ * context that keeps them) grows with every sample.</p>
+ *
+ * <p>H2 runs with {@code LAZY_QUERY_EXECUTION} so the in-memory database itself streams the
+ * result instead of materializing it. The growth budget defaults to 32 MB and can be
+ * overridden with {@code -Dexport.heap.growth.mb=...}.</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=StudentExportBenchmark}.</p>
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export;MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class StudentExportBenchmark {
+
+    private static final int STUDENTS = 1_000_000;
+    private static final int BATCH = 10_000;
+    private static final int SAMPLE_EVERY = 100_000;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void seed() {
+        Random rnd = new Random(42);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < STUDENTS; i++) {
+            rows.add(new Object[]{
+                    new UUID(rnd.nextLong(), rnd.nextLong()), "First" + i, "Last" + (i % 997),
+                    "export" + i + "@example.edu", "OTHER", Date.valueOf(LocalDate.of(2000, 1, 1).plusDays(i % 3650)),
+                    "ENROLLED"});
+            if (rows.size() == BATCH) {
+                insert(rows);
+            }
+        }
+        insert(rows);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(ExportFormat.class)
+    void exportStreamsInConstantMemory(ExportFormat format) throws Exception {
+        long budgetMb = Long.getLong("export.heap.growth.mb", 32);
+        SamplingOutputStream out = new SamplingOutputStream();
+        long baselineMb = out.liveHeap() >> 20;
+
+        long start = System.nanoTime();
+        exportService.exportStudents(format, out);
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long expectedLines = jdbc.queryForObject("SELECT COUNT(*) FROM students", Long.class)
+                + (format == ExportFormat.CSV ? 1 : 0);
+        List<Long> samplesMb = out.samples.stream().map(b -> b >> 20).toList();
+        long maxMb = samplesMb.stream().mapToLong(Long::longValue).max().orElse(baselineMb);
+        System.out.printf("%n%s export: %,d lines, %,d MB in %,d ms; live heap baseline %d MB, samples %s%n",
+                format, out.lines, out.bytes >> 20, millis, baselineMb, samplesMb);
+
+        assertThat(out.lines).isEqualTo(expectedLines);
+        assertThat(maxMb - baselineMb).as("live heap growth during export (MB)").isLessThanOrEqualTo(budgetMb);
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbc.batchUpdate("INSERT INTO students (id, first_name, last_name, email, gender, birth_date, status) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    // Discards output; counts lines and samples the post-GC heap at fixed row intervals.
+    private static final class SamplingOutputStream extends OutputStream {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final List<Long> samples = new ArrayList<>();
+        private long lines;
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % SAMPLE_EVERY == 0) {
+                samples.add(liveHeap());
+            }
+        }
+
+        long liveHeap() {
+            System.gc();
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
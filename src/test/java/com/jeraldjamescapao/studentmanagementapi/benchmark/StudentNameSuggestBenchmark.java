@@ -0,0 +1,106 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.jeraldjamescapao.studentmanagementapi.search.StudentIndexRow;
+import com.jeraldjamescapao.studentmanagementapi.search.StudentNameSuggester;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures last-name autocomplete latency under concurrent load, with writers
+ * updating the suggester at the same time as readers query it.
+ *
+ * <p>The p99 budget defaults to 1 ms and can be overridden with
+ * {@code -Dsuggest.p99.micros=...}.</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=StudentNameSuggestBenchmark}.</p>
+ */
+@Tag("benchmark")
+class StudentNameSuggestBenchmark {
+
+    private static final int STUDENTS = 1_000_000;
+    private static final int LOOKUPS_PER_THREAD = 200_000;
+    private static final int LIMIT = 10;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    @Test
+    void p99StaysWithinBudgetUnderConcurrentLoad() throws Exception {
+        long budgetMicros = Long.getLong("suggest.p99.micros", 1_000);
+        StudentNameSuggester suggester = new StudentNameSuggester();
+        Random seed = new Random(42);
+        List<UUID> ids = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            UUID id = new UUID(seed.nextLong(), seed.nextLong());
+            ids.add(id);
+            suggester.put(new StudentIndexRow(id, randomName(seed, 6), randomName(seed, 8), null));
+        }
+        suggester.markReady();
+
+        int readers = Math.max(4, Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(readers + 1);
+        try {
+            Future<?> writer = pool.submit(() -> {
+                Random rnd = new Random(7);
+                for (int i = 0; i < LOOKUPS_PER_THREAD / 10; i++) {
+                    UUID id = ids.get(rnd.nextInt(STUDENTS));
+                    suggester.put(new StudentIndexRow(id, randomName(rnd, 6), randomName(rnd, 8), null));
+                }
+            });
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int t = 0; t < readers; t++) {
+                long threadSeed = t;
+                results.add(pool.submit(() -> lookups(suggester, new Random(threadSeed))));
+            }
+
+            long[] all = new long[readers * LOOKUPS_PER_THREAD];
+            int pos = 0;
+            for (Future<long[]> f : results) {
+                long[] samples = f.get();
+                System.arraycopy(samples, 0, all, pos, samples.length);
+                pos += samples.length;
+            }
+            writer.get();
+            Arrays.sort(all);
+
+            long p50 = TimeUnit.NANOSECONDS.toMicros(all[all.length / 2]);
+            long p99 = TimeUnit.NANOSECONDS.toMicros(all[(int) (all.length * 0.99)]);
+            long max = TimeUnit.NANOSECONDS.toMicros(all[all.length - 1]);
+            System.out.printf("%nsuggest: %,d students, %d reader threads, p50=%dus p99=%dus max=%dus%n",
+                    STUDENTS, readers, p50, p99, max);
+            assertThat(p99).as("p99 latency in microseconds").isLessThanOrEqualTo(budgetMicros);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static long[] lookups(StudentNameSuggester suggester, Random rnd) {
+        long[] samples = new long[LOOKUPS_PER_THREAD];
+        for (int i = 0; i < LOOKUPS_PER_THREAD; i++) {
+            String prefix = randomName(rnd, 1 + rnd.nextInt(3));
+            long t = System.nanoTime();
+            suggester.suggest(prefix, LIMIT);
+            samples[i] = System.nanoTime() - t;
+        }
+        return samples;
+    }
+
+    private static String randomName(Random rnd, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(Character.toUpperCase(ALPHABET.charAt(rnd.nextInt(ALPHABET.length()))));
+        for (int i = 1; i < length; i++) {
+            sb.append(ALPHABET.charAt(rnd.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,129 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentResponse;
+import com.jeraldjamescapao.studentmanagementapi.mapper.StudentMapper;
+import com.jeraldjamescapao.studentmanagementapi.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares reading a page of 100 students as managed entities (then mapped by
+ * {@link StudentMapper}) against reading it as {@link StudentResponse} constructor projections.
+ *
+ * <p>Both sides run in a read-only transaction, like the service layer, and include the
+ * count query. Pages are ordered by primary key so H2's own sort does not drown out the
+ * difference. Allocation is measured per page on the calling thread via
+ * {@code com.sun.management.ThreadMXBean}; latency is the mean wall time per page.</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=StudentReadPathBenchmark}.</p>
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:read-path;MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class StudentReadPathBenchmark {
+
+    private static final int STUDENTS = 20_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARM_UP = 300;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private StudentRepository studentRepo;
+
+    @Autowired
+    private StudentMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    void seed() {
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+
+        Random rnd = new Random(42);
+        List<Object[]> rows = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            rows.add(new Object[]{
+                    new UUID(rnd.nextLong(), rnd.nextLong()), "First" + i, "Last" + (i % 997),
+                    "bench" + i + "@example.edu", "OTHER", Date.valueOf(LocalDate.of(2000, 1, 1).plusDays(i % 3650)),
+                    "ENROLLED"});
+        }
+        jdbc.batchUpdate("INSERT INTO students (id, first_name, last_name, email, gender, birth_date, status) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void projectionReadsAllocateLessThanEntityReads() {
+        Function<Pageable, Page<StudentResponse>> entities =
+                p -> studentRepo.findAll(p).map(mapper::toResponse);
+        Function<Pageable, Page<StudentResponse>> projections = studentRepo::findResponses;
+
+        Result entity = measure(entities);
+        Result projection = measure(projections);
+
+        System.out.printf("%npage of %d from %,d students (%,d pages)%n%-12s %14s %12s%n",
+                PAGE_SIZE, STUDENTS, ITERATIONS, "path", "bytes/page", "us/page");
+        System.out.printf("%-12s %,14d %12d%n", "entity", entity.bytesPerPage, entity.microsPerPage);
+        System.out.printf("%-12s %,14d %12d%n", "projection", projection.bytesPerPage, projection.microsPerPage);
+
+        assertThat(projection.bytesPerPage).isLessThan(entity.bytesPerPage);
+    }
+
+    private Result measure(Function<Pageable, Page<StudentResponse>> read) {
+        int pages = STUDENTS / PAGE_SIZE;
+        Random rnd = new Random(7);
+        for (int i = 0; i < WARM_UP; i++) {
+            readPage(read, rnd.nextInt(pages));
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytes = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            readPage(read, rnd.nextInt(pages));
+        }
+        long elapsed = System.nanoTime() - start;
+        bytes = threads.getCurrentThreadAllocatedBytes() - bytes;
+        return new Result(bytes / ITERATIONS, elapsed / ITERATIONS / 1_000);
+    }
+
+    private void readPage(Function<Pageable, Page<StudentResponse>> read, int page) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id"));
+        Page<StudentResponse> result = readOnly.execute(status -> read.apply(pageable));
+        assertThat(result.getContent()).hasSize(PAGE_SIZE);
+    }
+
+    private record Result(long bytesPerPage, long microsPerPage) {}
+}
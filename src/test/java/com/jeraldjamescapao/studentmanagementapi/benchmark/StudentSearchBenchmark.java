@@ -0,0 +1,175 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.jeraldjamescapao.studentmanagementapi.search.TrigramIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares free-text student search through {@link TrigramIndex} against the
+ * {@code LOWER(..) LIKE '%q%'} query used by the database fallback.
+ *
+ * <p>Both sides produce the same thing the API returns: the first page of 10 rows
+ * plus the total number of matches. The database side runs the page query and the
+ * {@code COUNT(*)}; the index side intersects posting lists and loads the page by id.</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=StudentSearchBenchmark}.</p>
+ */
+@Tag("benchmark")
+class StudentSearchBenchmark {
+
+    private static final String[] FIRST = {
+            "Ada", "Albert", "Charles", "Grace", "Alan", "Marie", "Isaac", "Emmy", "Niels", "Rosalind",
+            "Katherine", "Edsger", "Barbara", "Donald", "Frances", "John", "Hedy", "Tim", "Linus", "Margaret"};
+    private static final String[] LAST = {
+            "Lovelace", "Einstein", "Babbage", "Hopper", "Turing", "Curie", "Newton", "Noether", "Bohr",
+            "Franklin", "Johnson", "Dijkstra", "Liskov", "Knuth", "Allen", "McCarthy", "Lamarr", "Berners",
+            "Torvalds", "Hamilton", "Ritchie", "Thompson", "Kernighan", "Wirth", "Hoare", "Backus"};
+    private static final String[] QUERIES = {"lovelace12", "dijkstra7777", "hedy.ritchie99", "noether4242", "nobody"};
+
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_MATCHES = 1000;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String LIKE_WHERE =
+            " WHERE LOWER(first_name) LIKE ? OR LOWER(last_name) LIKE ? OR LOWER(email) LIKE ?";
+
+    @ParameterizedTest(name = "{0} students")
+    @ValueSource(ints = {100_000, 1_000_000})
+    void trigramIndexVersusLikeQuery(int students) throws SQLException {
+        try (Connection c = DriverManager.getConnection(
+                "jdbc:h2:mem:search" + students + ";MODE=PostgreSQL;DATABASE_TO_UPPER=false")) {
+            TrigramIndex index = seed(c, students);
+
+            System.out.printf("%n%,d students%n%-14s %12s %12s %10s%n",
+                    students, "query", "like (us)", "index (us)", "matches");
+            for (String q : QUERIES) {
+                long like = timeLike(c, q);
+                long trigram = timeIndex(c, index, q);
+                List<UUID> hits = index.search(q, MAX_MATCHES + 1);
+                assertThat(hits).as("query '%s' exceeds %d matches", q, MAX_MATCHES).hasSizeLessThanOrEqualTo(MAX_MATCHES);
+                assertThat(hits).hasSize((int) countLike(c, q));
+                System.out.printf("%-14s %12d %12d %10d%n", q, like, trigram, hits.size());
+            }
+        }
+    }
+
+    private static TrigramIndex seed(Connection c, int students) throws SQLException {
+        try (Statement st = c.createStatement()) {
+            st.execute("CREATE TABLE students (id UUID PRIMARY KEY, first_name VARCHAR(100), "
+                    + "last_name VARCHAR(100), email VARCHAR(320))");
+        }
+        TrigramIndex index = new TrigramIndex();
+        Random rnd = new Random(42);
+        try (PreparedStatement ps = c.prepareStatement("INSERT INTO students VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < students; i++) {
+                UUID id = new UUID(rnd.nextLong(), rnd.nextLong());
+                String first = FIRST[rnd.nextInt(FIRST.length)];
+                String last = LAST[rnd.nextInt(LAST.length)];
+                String email = (first + "." + last + i + "@example.edu").toLowerCase();
+                ps.setObject(1, id);
+                ps.setString(2, first);
+                ps.setString(3, last);
+                ps.setString(4, email);
+                ps.addBatch();
+                if (i % 1000 == 999) {
+                    ps.executeBatch();
+                }
+                index.put(id, first, last, email);
+            }
+            ps.executeBatch();
+        }
+        return index;
+    }
+
+    private static long timeLike(Connection c, String q) throws SQLException {
+        for (int i = 0; i < WARM_UP; i++) {
+            likePage(c, q);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long t = System.nanoTime();
+            likePage(c, q);
+            samples[i] = System.nanoTime() - t;
+        }
+        return median(samples);
+    }
+
+    private static long timeIndex(Connection c, TrigramIndex index, String q) throws SQLException {
+        for (int i = 0; i < WARM_UP; i++) {
+            indexPage(c, index, q);
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long t = System.nanoTime();
+            indexPage(c, index, q);
+            samples[i] = System.nanoTime() - t;
+        }
+        return median(samples);
+    }
+
+    private static void likePage(Connection c, String q) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement("SELECT * FROM students" + LIKE_WHERE + " LIMIT " + PAGE_SIZE)) {
+            bindLike(ps, q);
+            drain(ps);
+        }
+        countLike(c, q);
+    }
+
+    private static long countLike(Connection c, String q) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement("SELECT COUNT(*) FROM students" + LIKE_WHERE)) {
+            bindLike(ps, q);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static void indexPage(Connection c, TrigramIndex index, String q) throws SQLException {
+        List<UUID> hits = index.search(q, MAX_MATCHES);
+        List<UUID> page = new ArrayList<>(hits.subList(0, Math.min(PAGE_SIZE, hits.size())));
+        if (page.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement ps = c.prepareStatement("SELECT * FROM students WHERE id = ANY(?)")) {
+            ps.setObject(1, page.toArray(new UUID[0]));
+            drain(ps);
+        }
+    }
+
+    private static void bindLike(PreparedStatement ps, String q) throws SQLException {
+        String pattern = "%" + q.toLowerCase() + "%";
+        ps.setString(1, pattern);
+        ps.setString(2, pattern);
+        ps.setString(3, pattern);
+    }
+
+    private static void drain(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getObject(1);
+            }
+        }
+    }
+
+    private static long median(long[] nanos) {
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1_000;
+    }
+}
@@ -0,0 +1,201 @@
+package com.jeraldjamescapao.studentmanagementapi.benchmark;
+
+import com.jeraldjamescapao.studentmanagementapi.StudentManagementApiApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput and tail latency of {@code StudentController} endpoints on Tomcat's
+ * platform-thread pool and with the {@code virtual} profile.
+ *
+ * <p>Each mode boots its own application on a random port against its own in-memory H2
+ * database seeded with the same {@value #STUDENTS} students (fixed seed). Closed-loop clients
+ * then issue a fixed mix of list, slice, cursor, by-id and create requests for a warm-up and a
+ * measured phase.</p>
+ *
+ * <p>Load can be tuned with {@code -Dload.clients=...} (default 400, i.e. more than Tomcat's
+ * 200 worker threads), {@code -Dload.warmup.seconds=...} (default 5) and
+ * {@code -Dload.seconds=...} (default 15). Results are printed; the test only fails on errors.</p>
+ *
+ * <p>Run with {@code ./mvnw test -Pbenchmark -Dtest=StudentThreadingBenchmark}.</p>
+ */
+@Tag("benchmark")
+class StudentThreadingBenchmark {
+
+    private static final int STUDENTS = 20_000;
+    private static final int BATCH = 5_000;
+
+    private final int clients = Integer.getInteger("load.clients", 400);
+    private final Duration warmUp = Duration.ofSeconds(Integer.getInteger("load.warmup.seconds", 5));
+    private final Duration measure = Duration.ofSeconds(Integer.getInteger("load.seconds", 15));
+
+    @Test
+    void compareThreadingModes() throws Exception {
+        Result platform = run("platform", null);
+        Result virtual = run("virtual", "virtual");
+
+        System.out.printf("%n%d clients, %ds measured%n%-9s %12s %10s %10s %10s%n",
+                clients, measure.toSeconds(), "mode", "req/s", "p50 ms", "p99 ms", "errors");
+        for (Result r : List.of(platform, virtual)) {
+            System.out.printf("%-9s %,12.0f %10.2f %10.2f %10d%n",
+                    r.mode, r.throughput, r.percentileMillis(50), r.percentileMillis(99), r.errors);
+        }
+        System.out.printf("virtual/platform: throughput %.2fx, p99 %.2fx%n",
+                virtual.throughput / platform.throughput,
+                virtual.percentileMillis(99) / platform.percentileMillis(99));
+
+        assertThat(platform.errors).isZero();
+        assertThat(virtual.errors).isZero();
+    }
+
+    private Result run(String mode, String profile) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(StudentManagementApiApplication.class);
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+        // Command-line arguments, so they take precedence over application.yaml.
+        try (ConfigurableApplicationContext ctx = builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:threading-" + mode
+                        + ";MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1",
+                "--logging.level.root=warn")) {
+            List<UUID> ids = seed(ctx.getBean(JdbcTemplate.class));
+            String base = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port") + "/api/v1/students";
+
+            load(mode, base, ids, warmUp);
+            return load(mode, base, ids, measure);
+        }
+    }
+
+    private Result load(String mode, String base, List<UUID> ids, Duration duration) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong sequence = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                futures.add(clientThreads.submit(() -> {
+                    LongList latencies = new LongList();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = nextRequest(base, ids, sequence.incrementAndGet());
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return latencies.toArray();
+                }));
+            }
+        }
+
+        long[] all = futures.stream().map(Future::resultNow).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(mode, all, all.length / (duration.toNanos() / 1e9), errors.get());
+    }
+
+    // Mix: 35% page with total, 20% slice, 15% cursor, 20% by id, 10% create.
+    private static HttpRequest nextRequest(String base, List<UUID> ids, long n) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int pick = rnd.nextInt(100);
+        String uri;
+        if (pick < 35) {
+            uri = base + "?page=" + rnd.nextInt(100) + "&size=20&sort=lastName";
+        } else if (pick < 55) {
+            uri = base + "?withTotal=false&page=" + rnd.nextInt(100) + "&size=20";
+        } else if (pick < 70) {
+            uri = base + "/scroll?size=20";
+        } else if (pick < 90) {
+            uri = base + "/" + ids.get(rnd.nextInt(ids.size()));
+        } else {
+            String body = """
+                    {"firstName":"Load","lastName":"Test%d","email":"load-%s-%d@example.edu",
+                     "gender":"OTHER","birthDate":"2001-02-03","status":"APPLIED"}"""
+                    .formatted(n % 997, Long.toString(System.nanoTime(), 36), n);
+            return HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static List<UUID> seed(JdbcTemplate jdbc) {
+        Random rnd = new Random(42);
+        List<UUID> ids = new ArrayList<>(STUDENTS);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < STUDENTS; i++) {
+            UUID id = new UUID(rnd.nextLong(), rnd.nextLong());
+            ids.add(id);
+            rows.add(new Object[]{
+                    id, "First" + i, "Last" + (i % 997), "threading" + i + "@example.edu", "OTHER",
+                    Date.valueOf(LocalDate.of(2000, 1, 1).plusDays(i % 3650)), "ENROLLED"});
+            if (rows.size() == BATCH) {
+                jdbc.batchUpdate("INSERT INTO students (id, first_name, last_name, email, gender, birth_date, status) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        return ids;
+    }
+
+    private record Result(String mode, long[] sortedNanos, double throughput, long errors) {
+
+        double percentileMillis(double p) {
+            if (sortedNanos.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(p / 100 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    // Growable primitive buffer, so recording latencies does not box.
+    private static final class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
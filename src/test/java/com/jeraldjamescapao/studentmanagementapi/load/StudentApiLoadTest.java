@@ -0,0 +1,314 @@
+package com.jeraldjamescapao.studentmanagementapi.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Open-loop HTTP load test of the student API with per-endpoint latency budgets.
+ *
+ * <p><b>Setup:</b> Boots the application against the H2 file {@code ./target/load/schooldb}.
+ * On the first run it is seeded with {@value #SEED_STUDENTS} students through
+ * {@code POST /students:batch}, so the search index sees them like production data;
+ * later runs reuse the file.</p>
+ *
+ * <p><b>Traffic:</b> Requests are dispatched at a fixed arrival rate regardless of how fast
+ * responses come back (open loop), with at most {@code load.concurrency} in flight. Latency
+ * is measured from each request's intended start time, so queueing delay is included and
+ * coordinated omission does not hide stalls. The mix is 40% search, 30% get, 10% create,
+ * 10% update and 10% status change.</p>
+ *
+ * <p><b>Report:</b> Count, throughput, p50/p95/p99/max and errors per endpoint, recorded with
+ * HdrHistogram. Full percentile distributions are written to {@code target/load/*.hgrm}.</p>
+ *
+ * <p><b>Configuration</b> (system properties):</p>
+ * <ul>
+ *   <li>{@code load.rate} – requests per second (default 50);</li>
+ *   <li>{@code load.concurrency} – maximum in-flight requests (default 64);</li>
+ *   <li>{@code load.warmup.seconds} / {@code load.seconds} – phase lengths (default 10 / 30);</li>
+ *   <li>{@code load.budget.<endpoint>.p95} / {@code .p99} – budgets in ms, e.g.
+ *       {@code -Dload.budget.search.p99=150}; p99 defaults to 1000 ms for every endpoint;</li>
+ *   <li>{@code load.max.errors} – tolerated failed requests (default 0).</li>
+ * </ul>
+ *
+ * <p>Run with {@code ./mvnw test -Pload}.</p>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/load/schooldb;MODE=PostgreSQL;DATABASE_TO_UPPER=false;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=warn"
+})
+class StudentApiLoadTest {
+
+    private static final int SEED_STUDENTS = 10_000;
+    private static final int SEED_BATCH = 1_000;
+    private static final long DEFAULT_P99_BUDGET_MS = 1_000;
+
+    enum Endpoint { SEARCH, GET, CREATE, UPDATE, CHANGE_STATUS }
+
+    private static final String[] STATUSES = {"ADMITTED", "ENROLLED", "ON_LEAVE", "SUSPENDED"};
+
+    private final double rate = Double.parseDouble(System.getProperty("load.rate", "50"));
+    private final int concurrency = Integer.getInteger("load.concurrency", 64);
+    private final Duration warmUp = Duration.ofSeconds(Integer.getInteger("load.warmup.seconds", 10));
+    private final Duration measure = Duration.ofSeconds(Integer.getInteger("load.seconds", 30));
+    private final long maxErrors = Long.getLong("load.max.errors", 0);
+
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String base;
+    private List<UUID> ids;
+
+    @Test
+    void studentApiMeetsLatencyBudgets() throws Exception {
+        base = "http://localhost:" + port + "/api/v1";
+        seedIfEmpty();
+        ids = loadIds();
+
+        drive(warmUp);
+        Phase result = drive(measure);
+
+        List<String> violations = report(result);
+        assertThat(result.totalErrors()).as("failed requests").isLessThanOrEqualTo(maxErrors);
+        assertThat(violations).as("latency budget violations").isEmpty();
+    }
+
+    // ---- traffic -----------------------------------------------------------------
+
+    private Phase drive(Duration duration) throws InterruptedException {
+        Phase phase = new Phase();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * interval;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = pick();
+                workers.submit(() -> {
+                    boolean ok = false;
+                    try {
+                        inFlight.acquire();
+                        try {
+                            ok = send(endpoint);
+                        } finally {
+                            inFlight.release();
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        phase.record(endpoint, System.nanoTime() - intended, ok);
+                    }
+                });
+            }
+        }
+        phase.elapsedNanos = System.nanoTime() - start;
+        return phase;
+    }
+
+    private static Endpoint pick() {
+        int n = ThreadLocalRandom.current().nextInt(100);
+        if (n < 40) return Endpoint.SEARCH;
+        if (n < 70) return Endpoint.GET;
+        if (n < 80) return Endpoint.CREATE;
+        if (n < 90) return Endpoint.UPDATE;
+        return Endpoint.CHANGE_STATUS;
+    }
+
+    private boolean send(Endpoint endpoint) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        UUID id = ids.get(rnd.nextInt(ids.size()));
+        HttpRequest request = switch (endpoint) {
+            case SEARCH -> get("/students?q=last" + rnd.nextInt(997) + "&size=20");
+            case GET -> get("/students/" + id);
+            case CREATE -> json("POST", "/students", student("load-" + run + "-" + sequence.incrementAndGet()));
+            // Each student owns a stable email, so concurrent updates never collide.
+            case UPDATE -> json("PUT", "/students/" + id, student("load-" + id));
+            case CHANGE_STATUS -> HttpRequest.newBuilder(URI.create(base + "/students/" + id
+                            + "/status?status=" + STATUSES[rnd.nextInt(STATUSES.length)]))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        };
+        try {
+            int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 400;
+        } catch (IOException | InterruptedException ex) {
+            return false;
+        }
+    }
+
+    // ---- setup -------------------------------------------------------------------
+
+    private void seedIfEmpty() throws Exception {
+        JsonNode page = objectMapper.readTree(http.send(get("/students?size=1&q=load-seed"),
+                HttpResponse.BodyHandlers.ofString()).body());
+        long existing = page.path("totalElements").asLong();
+        for (long done = existing; done < SEED_STUDENTS; done += SEED_BATCH) {
+            List<String> items = new ArrayList<>(SEED_BATCH);
+            for (int i = 0; i < SEED_BATCH; i++) {
+                items.add(student("load-seed-" + (done + i)));
+            }
+            HttpResponse<String> response = http.send(
+                    json("POST", "/students:batch", "{\"items\":[" + String.join(",", items) + "]}"),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).as("seed batch").isEqualTo(200);
+        }
+    }
+
+    // Streams every student id through the NDJSON export.
+    private List<UUID> loadIds() throws Exception {
+        List<UUID> result = new ArrayList<>();
+        http.send(get("/exports/students"), HttpResponse.BodyHandlers.ofLines()).body()
+                .forEach(line -> {
+                    try {
+                        result.add(UUID.fromString(objectMapper.readTree(line).get("id").asText()));
+                    } catch (IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+        assertThat(result).as("students to drive load against").isNotEmpty();
+        return result;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).GET().build();
+    }
+
+    private HttpRequest json(String method, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(base + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String student(String emailLocalPart) {
+        int n = Math.floorMod(emailLocalPart.hashCode(), 997);
+        return """
+                {"firstName":"Load%d","lastName":"Last%d","email":"%s@example.edu",
+                 "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}"""
+                .formatted(n, n, emailLocalPart);
+    }
+
+    // ---- reporting ---------------------------------------------------------------
+
+    private List<String> report(Phase phase) throws IOException {
+        File dir = new File("target/load");
+        dir.mkdirs();
+        double seconds = phase.elapsedNanos / 1e9;
+        List<String> violations = new ArrayList<>();
+
+        System.out.printf("%nOpen loop: %.0f req/s target, %d max in flight, %ds measured, %d students%n",
+                rate, concurrency, measure.toSeconds(), ids.size());
+        System.out.printf("%-14s %8s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors");
+        for (Endpoint e : Endpoint.values()) {
+            Histogram h = phase.latencies.get(e);
+            long errors = phase.errors.get(e).get();
+            System.out.printf("%-14s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    budgetName(e), h.getTotalCount(), h.getTotalCount() / seconds,
+                    millis(h, 50), millis(h, 95), millis(h, 99), h.getMaxValue() / 1e3, errors);
+
+            try (PrintStream out = new PrintStream(new File(dir, budgetName(e) + ".hgrm"))) {
+                h.outputPercentileDistribution(out, 1e3); // microseconds -> milliseconds
+            }
+            check(e, "p95", millis(h, 95), null, violations);
+            check(e, "p99", millis(h, 99), DEFAULT_P99_BUDGET_MS, violations);
+        }
+        return violations;
+    }
+
+    private static void check(Endpoint e, String percentile, double actualMs, Long defaultMs, List<String> violations) {
+        String key = "load.budget." + budgetName(e) + "." + percentile;
+        Long budget = Long.getLong(key, defaultMs);
+        if (budget != null && actualMs > budget) {
+            violations.add("%s %s = %.1f ms > %d ms (%s)".formatted(budgetName(e), percentile, actualMs, budget, key));
+        }
+    }
+
+    // SEARCH -> search, CHANGE_STATUS -> changeStatus
+    private static String budgetName(Endpoint e) {
+        String[] parts = e.name().toLowerCase().split("_");
+        StringBuilder name = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            name.append(Character.toUpperCase(parts[i].charAt(0))).append(parts[i].substring(1));
+        }
+        return name.toString();
+    }
+
+    private static double millis(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1e3;
+    }
+
+    // Latencies (microseconds) and error counts of one phase, per endpoint.
+    private static final class Phase {
+        private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+        private long elapsedNanos;
+
+        Phase() {
+            for (Endpoint e : Endpoint.values()) {
+                latencies.put(e, new ConcurrentHistogram(3));
+                errors.put(e, new AtomicLong());
+            }
+        }
+
+        void record(Endpoint e, long nanos, boolean ok) {
+            latencies.get(e).recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+            if (!ok) {
+                errors.get(e).incrementAndGet();
+            }
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+    }
+}
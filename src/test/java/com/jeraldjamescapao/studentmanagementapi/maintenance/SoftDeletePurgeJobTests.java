@@ -0,0 +1,181 @@
+package com.jeraldjamescapao.studentmanagementapi.maintenance;
+
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Which soft-deleted rows {@link SoftDeletePurgeJob} removes: only rows past the retention
+ * cutoff, children before parents in one pass, never a row something still references, and
+ * every chunk until a short one ends the loop.
+ *
+ * <p>Rows are inserted with SQL so {@code deleted_at} can lie on either side of the cutoff.
+ * Each test removes what it inserted, so purge counts only ever see its own rows.</p>
+ */
+@ApiTest
+class SoftDeletePurgeJobTests {
+
+    private static final Duration RETENTION = Duration.ofDays(30);
+    private static final Timestamp EXPIRED = daysAgo(31);
+    private static final Timestamp RETAINED = daysAgo(29);
+
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private DataSource dataSource;
+
+    // Inserted ids per table; removed children first after each test.
+    private final Map<String, List<UUID>> inserted = new HashMap<>();
+    private final List<String> statements = new ArrayList<>();
+
+    @AfterEach
+    void removeInsertedRows() {
+        for (String table : List.of("grades", "enrollments", "students", "courses")) {
+            for (UUID id : inserted.getOrDefault(table, List.of())) {
+                jdbc.update("DELETE FROM " + table + " WHERE id = ?", id);
+            }
+        }
+    }
+
+    @Test
+    void purgesOnlyRowsPastTheCutoffChildrenFirst() {
+        UUID student = student(EXPIRED);
+        UUID course = course(EXPIRED);
+        UUID enrollment = enrollment(student, course, EXPIRED);
+        UUID grade = grade(enrollment, EXPIRED);
+        UUID retainedStudent = student(RETAINED);
+        UUID retainedCourse = course(RETAINED);
+        UUID liveStudent = student(null);
+
+        Map<String, Integer> removed = job(1000).purge();
+
+        assertThat(removed).containsExactly(
+                Map.entry("grades", 1), Map.entry("enrollments", 1),
+                Map.entry("students", 1), Map.entry("courses", 1));
+        assertThat(exists("grades", grade)).isFalse();
+        assertThat(exists("enrollments", enrollment)).isFalse();
+        assertThat(exists("students", student)).isFalse();
+        assertThat(exists("courses", course)).isFalse();
+        assertThat(exists("students", retainedStudent)).isTrue();
+        assertThat(exists("courses", retainedCourse)).isTrue();
+        assertThat(exists("students", liveStudent)).isTrue();
+    }
+
+    @Test
+    void keepsExpiredRowsThatAreStillReferenced() {
+        UUID liveCourse = course(null);
+        UUID referencedStudent = student(EXPIRED);
+        UUID liveEnrollment = enrollment(referencedStudent, liveCourse, null);
+        UUID gradedEnrollment = enrollment(student(null), liveCourse, EXPIRED);
+        UUID liveGrade = grade(gradedEnrollment, null);
+        UUID referencedCourse = course(EXPIRED);
+        UUID retainedEnrollment = enrollment(student(null), referencedCourse, RETAINED);
+
+        Map<String, Integer> removed = job(1000).purge();
+
+        assertThat(removed).containsOnly(
+                Map.entry("grades", 0), Map.entry("enrollments", 0),
+                Map.entry("students", 0), Map.entry("courses", 0));
+        assertThat(exists("students", referencedStudent)).isTrue();
+        assertThat(exists("enrollments", gradedEnrollment)).isTrue();
+        assertThat(exists("grades", liveGrade)).isTrue();
+        assertThat(exists("courses", referencedCourse)).isTrue();
+        assertThat(exists("enrollments", retainedEnrollment)).isTrue();
+
+        // Once the last reference is gone, a later run removes the parent.
+        jdbc.update("DELETE FROM enrollments WHERE id = ?", liveEnrollment);
+        assertThat(job(1000).purge()).containsEntry("students", 1);
+        assertThat(exists("students", referencedStudent)).isFalse();
+    }
+
+    @Test
+    void deletesInChunksUntilAShortChunk() {
+        for (int i = 0; i < 5; i++) {
+            student(EXPIRED);
+        }
+        for (int i = 0; i < 4; i++) {
+            course(EXPIRED);
+        }
+
+        Map<String, Integer> removed = job(2).purge();
+
+        assertThat(removed).containsEntry("students", 5).containsEntry("courses", 4);
+        // 2 + 2 + 1 ends on the short chunk; 2 + 2 needs one empty chunk to see the end.
+        assertThat(statementsOn("students")).isEqualTo(3);
+        assertThat(statementsOn("courses")).isEqualTo(3);
+        assertThat(statementsOn("grades")).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM students WHERE deleted_at IS NOT NULL", Integer.class))
+                .isZero();
+    }
+
+    private SoftDeletePurgeJob job(int chunkSize) {
+        JdbcTemplate recording = new JdbcTemplate(dataSource) {
+            @Override
+            public int update(String sql, Object... args) {
+                statements.add(sql);
+                return super.update(sql, args);
+            }
+        };
+        return new SoftDeletePurgeJob(recording, RETENTION, chunkSize);
+    }
+
+    private long statementsOn(String table) {
+        return statements.stream().filter(sql -> sql.startsWith("DELETE FROM " + table + " ")).count();
+    }
+
+    private UUID student(Timestamp deletedAt) {
+        UUID id = insert("students", UUID.randomUUID());
+        jdbc.update("INSERT INTO students (id, first_name, last_name, email, gender, birth_date, status, deleted_at) "
+                + "VALUES (?, 'Purge', 'Tests', ?, 'OTHER', DATE '2001-02-03', 'ENROLLED', ?)",
+                id, "purge-" + id + "@example.edu", deletedAt);
+        return id;
+    }
+
+    private UUID course(Timestamp deletedAt) {
+        UUID id = insert("courses", UUID.randomUUID());
+        jdbc.update("INSERT INTO courses (id, code, title, credits, deleted_at) VALUES (?, ?, 'Purge Tests', 3, ?)",
+                id, "PG" + id.toString().substring(0, 8).toUpperCase(), deletedAt);
+        return id;
+    }
+
+    private UUID enrollment(UUID student, UUID course, Timestamp deletedAt) {
+        UUID id = insert("enrollments", UUID.randomUUID());
+        jdbc.update("INSERT INTO enrollments (id, student_id, course_id, term, section, status, deleted_at) "
+                + "VALUES (?, ?, ?, '2025-FALL', 'A', 'ENROLLED', ?)", id, student, course, deletedAt);
+        return id;
+    }
+
+    private UUID grade(UUID enrollment, Timestamp deletedAt) {
+        UUID id = insert("grades", UUID.randomUUID());
+        jdbc.update("INSERT INTO grades (id, enrollment_id, letter, points, deleted_at) VALUES (?, ?, 'A', 4.00, ?)",
+                id, enrollment, deletedAt);
+        return id;
+    }
+
+    private UUID insert(String table, UUID id) {
+        inserted.computeIfAbsent(table, t -> new ArrayList<>()).add(id);
+        return id;
+    }
+
+    private boolean exists(String table, UUID id) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id) == 1;
+    }
+
+    private static Timestamp daysAgo(int days) {
+        return Timestamp.from(Instant.now().minus(Duration.ofDays(days)));
+    }
+}
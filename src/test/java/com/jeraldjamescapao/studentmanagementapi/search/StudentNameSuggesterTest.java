@@ -0,0 +1,74 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behavior of {@link StudentNameSuggester}: prefix ordering and how renames and deletes reach it.
+ */
+class StudentNameSuggesterTest {
+
+    private final StudentNameSuggester suggester = new StudentNameSuggester();
+
+    @Test
+    void staysSilentUntilReady() {
+        suggester.put(row(UUID.randomUUID(), "Ada", "Lovelace"));
+
+        assertThat(suggester.suggest("Lov", 10)).isEmpty();
+    }
+
+    @Test
+    void ordersByLastNameThenFirstNameThenId() {
+        UUID low = new UUID(0L, 1L);
+        UUID high = new UUID(0L, 2L);
+        suggester.put(row(high, "Ada", "Hopper"));
+        suggester.put(row(UUID.randomUUID(), "Grace", "Hopper"));
+        suggester.put(row(low, "Ada", "hopper"));
+        suggester.put(row(UUID.randomUUID(), "Alan", "Hoare"));
+        suggester.put(row(UUID.randomUUID(), "Tony", "Hopkins"));
+        suggester.put(row(UUID.randomUUID(), "Ken", "Thompson"));
+        suggester.markReady();
+
+        assertThat(names(suggester.suggest("HOP", 10).orElseThrow()))
+                .containsExactly("Hopkins Tony", "hopper Ada", "Hopper Ada", "Hopper Grace");
+        assertThat(suggester.suggest("hopper", 10).orElseThrow())
+                .extracting(StudentSuggestion::getId).startsWith(low, high);
+        assertThat(suggester.suggest("ho", 2).orElseThrow()).hasSize(2);
+        assertThat(suggester.suggest("Zz", 10).orElseThrow()).isEmpty();
+    }
+
+    @Test
+    void renamesDropTheOldName() {
+        UUID id = UUID.randomUUID();
+        suggester.markReady();
+        suggester.put(row(id, "Grace", "Murray"));
+        suggester.put(row(id, "Grace", "Hopper"));
+
+        assertThat(suggester.suggest("Murray", 10).orElseThrow()).isEmpty();
+        assertThat(names(suggester.suggest("Hopper", 10).orElseThrow())).containsExactly("Hopper Grace");
+    }
+
+    @Test
+    void deletesRemoveTheStudent() {
+        UUID id = UUID.randomUUID();
+        suggester.markReady();
+        suggester.put(row(id, "Edsger", "Dijkstra"));
+        suggester.remove(id);
+        suggester.remove(UUID.randomUUID());
+
+        assertThat(suggester.suggest("Dijk", 10).orElseThrow()).isEmpty();
+    }
+
+    private static StudentIndexRow row(UUID id, String firstName, String lastName) {
+        return new StudentIndexRow(id, firstName, lastName, firstName.toLowerCase() + "@example.edu");
+    }
+
+    private static List<String> names(List<StudentSuggestion> suggestions) {
+        return suggestions.stream().map(s -> s.getLastName() + " " + s.getFirstName()).toList();
+    }
+}
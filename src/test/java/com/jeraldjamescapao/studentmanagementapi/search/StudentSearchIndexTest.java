@@ -0,0 +1,60 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behavior of {@link StudentSearchIndex}: when it answers, and which queries it leaves to the database.
+ */
+class StudentSearchIndexTest {
+
+    private final StudentSearchIndex index = new StudentSearchIndex(5);
+
+    @Test
+    void staysSilentUntilReady() {
+        index.put(new StudentIndexRow(UUID.randomUUID(), "Ada", "Lovelace", "ada@example.edu"));
+
+        assertThat(index.find("lovelace")).isEmpty();
+
+        index.markReady();
+        assertThat(index.find("lovelace")).hasValueSatisfying(ids -> assertThat(ids).hasSize(1));
+    }
+
+    @Test
+    void leavesShortQueriesToTheDatabase() {
+        index.put(new StudentIndexRow(UUID.randomUUID(), "Al", "Li", "al@example.edu"));
+        index.markReady();
+
+        assertThat(index.find("al")).isEmpty();
+    }
+
+    @Test
+    void followsUpdatesAndRemovals() {
+        UUID id = UUID.randomUUID();
+        index.markReady();
+        index.put(new StudentIndexRow(id, "Grace", "Murray", "grace@example.edu"));
+        index.put(new StudentIndexRow(id, "Grace", "Hopper", "grace@example.edu"));
+
+        assertThat(index.find("murray")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.find("hopper")).hasValueSatisfying(ids -> assertThat(ids).containsExactly(id));
+
+        index.remove(id);
+        assertThat(index.find("hopper")).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    void leavesQueriesOverTheCapToTheDatabase() {
+        index.markReady();
+        for (int i = 0; i < 6; i++) {
+            index.put(new StudentIndexRow(UUID.randomUUID(), "Student", "Number" + i, "s" + i + "@example.edu"));
+        }
+
+        assertThat(index.find("example.edu")).isEmpty();
+
+        index.remove(index.find("number5").orElseThrow().get(0));
+        assertThat(index.find("example.edu")).hasValueSatisfying(ids -> assertThat(ids).hasSize(5));
+    }
+}
@@ -0,0 +1,101 @@
+package com.jeraldjamescapao.studentmanagementapi.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behavior of {@link TrigramIndex}: case-insensitive substring matching, updates through
+ * tombstones and compaction, and the result limit.
+ */
+class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    void findsSubstringsOfAnyFieldIgnoringCase() {
+        UUID ada = UUID.randomUUID();
+        UUID alan = UUID.randomUUID();
+        index.put(ada, "Ada", "Lovelace", "ada@example.edu");
+        index.put(alan, "Alan", "Turing", "alan@example.edu");
+
+        assertThat(index.search("LOVE", 10)).containsExactly(ada);
+        assertThat(index.search("example.edu", 10)).containsExactly(ada, alan);
+        assertThat(index.search("uring", 10)).containsExactly(alan);
+        assertThat(index.search("nobody", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsCandidatesWhoseTrigramsAreNotContiguous() {
+        UUID id = UUID.randomUUID();
+        // Holds every trigram of "abcdef" ("abc", "bcd", "cde", "def") but never the whole string.
+        index.put(id, "abcd", "bcdef");
+
+        assertThat(index.search("abcdef", 10)).isEmpty();
+        assertThat(index.search("bcdef", 10)).containsExactly(id);
+    }
+
+    @Test
+    void neverMatchesAcrossTwoFields() {
+        index.put(UUID.randomUUID(), "Ada", "Lovelace");
+
+        assertThat(index.search("adalove", 10)).isEmpty();
+        assertThat(index.search("da\u0001lo", 10)).isEmpty();
+    }
+
+    @Test
+    void updatesReplaceTheOldText() {
+        UUID id = UUID.randomUUID();
+        index.put(id, "Grace", "Murray");
+        index.put(id, "Grace", "Hopper");
+
+        assertThat(index.search("murray", 10)).isEmpty();
+        assertThat(index.search("hopper", 10)).containsExactly(id);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removedDocumentsNoLongerMatch() {
+        UUID id = UUID.randomUUID();
+        index.put(id, "Edsger", "Dijkstra");
+        index.remove(id);
+        index.remove(UUID.randomUUID());
+
+        assertThat(index.search("dijkstra", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void survivesCompactionAfterManyUpdates() {
+        UUID id = UUID.randomUUID();
+        for (int i = 0; i < 5_000; i++) {
+            index.put(id, "Barbara", "Liskov" + i);
+        }
+
+        assertThat(index.search("liskov4999", 10)).containsExactly(id);
+        assertThat(index.search("liskov4998", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsQueriesShorterThanATrigram() {
+        assertThatThrownBy(() -> index.search("ab", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void stopsAtTheLimit() {
+        for (int i = 0; i < 25; i++) {
+            index.put(UUID.randomUUID(), "Common", "Name" + i);
+        }
+
+        List<UUID> hits = index.search("common", 10);
+
+        assertThat(hits).hasSize(10).doesNotHaveDuplicates();
+        assertThat(index.search("common", 100)).hasSize(25);
+    }
+}
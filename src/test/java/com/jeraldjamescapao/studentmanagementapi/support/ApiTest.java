@@ -0,0 +1,34 @@
+package com.jeraldjamescapao.studentmanagementapi.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test class against the full application with {@code MockMvc} and the seed data of the
+ * {@code dev} profile.
+ *
+ * <p><b>Isolation:</b> Every class gets a database of its own: the in-memory database is named
+ * by a random UUID when the context starts, and the context is closed after the class, which
+ * drops the database with its last connection. Nothing a class writes is visible to another,
+ * so counts and "any row" lookups do not depend on test order. Tests within one class still
+ * share the database and should use unique values (see {@link Students#uniqueEmail}).</p>
+ *
+ * <p><b>Cost:</b> One application start per class, a few seconds with the seed data.</p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=PostgreSQL;DATABASE_TO_UPPER=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@DirtiesContext
+public @interface ApiTest {
+}
@@ -0,0 +1,43 @@
+package com.jeraldjamescapao.studentmanagementapi.support;
+
+import com.jayway.jsonpath.JsonPath;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Setup helpers for tests that need their own course and sections.
+ *
+ * <p>Codes carry a random tag, so tests sharing one database never collide.</p>
+ */
+public final class Courses {
+
+    private static final String COURSES = "/api/v1/courses";
+
+    private Courses() {
+    }
+
+    /** Creates an active course with a code no other test uses and returns its id. */
+    public static String create(MockMvc mvc, String prefix) throws Exception {
+        String code = prefix + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String body = mvc.perform(post(COURSES).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"" + code + "\",\"title\":\"Seat Tests\",\"credits\":3}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
+    /** Sets the capacity of a section of the course. */
+    public static ResultActions capacity(MockMvc mvc, String courseId, String term, String section, int capacity)
+            throws Exception {
+        return mvc.perform(put(COURSES + "/" + courseId + "/sections/" + term + "/" + section)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"capacity\":" + capacity + "}"));
+    }
+}
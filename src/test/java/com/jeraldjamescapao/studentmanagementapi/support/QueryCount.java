@@ -0,0 +1,38 @@
+package com.jeraldjamescapao.studentmanagementapi.support;
+
+import com.jeraldjamescapao.studentmanagementapi.web.QueryCountFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers on the number of SQL statements a request executed.
+ *
+ * <p>Reads the {@value QueryCountFilter#HEADER} header, so the test must run with the
+ * {@code dev} profile active. Typical use:</p>
+ *
+ * <pre>{@code
+ * mvc.perform(get("/api/v1/students")).andExpect(QueryCount.atMost(2));
+ * }</pre>
+ *
+ * <p>A lazy association touched in a mapper or serializer adds one statement per row and
+ * fails the assertion.</p>
+ */
+public final class QueryCount {
+
+    private QueryCount() {
+    }
+
+    /** Passes when the request executed at most {@code max} SQL statements. */
+    public static ResultMatcher atMost(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountFilter.HEADER);
+            assertThat(header)
+                    .as("%s header missing; is the 'dev' profile active?", QueryCountFilter.HEADER)
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(max);
+        };
+    }
+}
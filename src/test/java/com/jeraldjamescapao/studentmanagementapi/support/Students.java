@@ -0,0 +1,62 @@
+package com.jeraldjamescapao.studentmanagementapi.support;
+
+import com.jayway.jsonpath.JsonPath;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Request bodies and setup helpers for tests that write students through the API.
+ *
+ * <p>Emails carry a random tag, so tests sharing one database never collide.</p>
+ */
+public final class Students {
+
+    private static final String BATCH = "/api/v1/students:batch";
+
+    private Students() {
+    }
+
+    /** Returns an email that no other test uses. */
+    public static String uniqueEmail(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8) + "@example.edu";
+    }
+
+    /** Returns a valid create or update body for the given email. */
+    public static String json(String email) {
+        return """
+                {"firstName":"Bulk","lastName":"Tests","email":"%s",
+                 "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}""".formatted(email);
+    }
+
+    /** Wraps item bodies into a {@code :batch} request. */
+    public static String batch(List<String> items) {
+        return "{\"items\":[" + String.join(",", items) + "]}";
+    }
+
+    /** Creates {@code n} students through {@code :batch}, 1000 per request, and returns their ids. */
+    public static List<String> createMany(MockMvc mvc, String prefix, int n) throws Exception {
+        String tag = uniqueEmail(prefix).replace("@example.edu", "");
+        List<String> ids = new ArrayList<>(n);
+        for (int from = 0; from < n; from += 1000) {
+            List<String> items = IntStream.range(from, Math.min(n, from + 1000))
+                    .mapToObj(i -> json(tag + "-" + i + "@example.edu"))
+                    .collect(Collectors.toList());
+            String body = mvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content(batch(items)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            ids.addAll(JsonPath.read(body, "$.items[*].id"));
+        }
+        assertThat(ids).hasSize(n).doesNotContainNull();
+        return ids;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Courses;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-student results and seat counts of {@code POST /enrollments:roster}.
+ */
+@ApiTest
+class EnrollmentRosterTests {
+
+    private static final String ROSTER = "/api/v1/enrollments:roster";
+    private static final String TERM = "2025-FALL";
+    private static final String SECTION = "R";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void reportsAnOutcomePerStudent() throws Exception {
+        String course = Courses.create(mvc, "ROST");
+        Courses.capacity(mvc, course, TERM, SECTION, 2).andExpect(status().isOk());
+        List<String> students = Students.createMany(mvc, "roster-mixed", 4);
+        String enrolled = students.get(0);
+        roster(course, List.of(enrolled)).andExpect(jsonPath("$.enrolled").value(1));
+        String unknown = UUID.randomUUID().toString();
+
+        String body = roster(course, List.of(
+                        students.get(1),
+                        students.get(2),
+                        students.get(1),
+                        unknown,
+                        enrolled,
+                        students.get(3)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrolled").value(1))
+                .andExpect(jsonPath("$.waitlisted").value(2))
+                .andExpect(jsonPath("$.conflicts").value(2))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.items[2].message").value("Duplicate student in roster: " + students.get(1)))
+                .andExpect(jsonPath("$.items[4].message").value("Student is already enrolled in section " + TERM + "/" + SECTION))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Integer> indexes = JsonPath.read(body, "$.items[*].index");
+        List<String> studentIds = JsonPath.read(body, "$.items[*].studentId");
+        List<String> statuses = JsonPath.read(body, "$.items[*].status");
+        List<String> enrollmentIds = JsonPath.read(body, "$.items[*].enrollmentId");
+        assertThat(indexes).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(studentIds).containsExactly(
+                students.get(1), students.get(2), students.get(1), unknown, enrolled, students.get(3));
+        assertThat(statuses).containsExactly("ENROLLED", "WAITLISTED", "CONFLICT", "NOT_FOUND", "CONFLICT", "WAITLISTED");
+        assertThat(enrollmentIds.get(0)).isNotNull();
+        assertThat(enrollmentIds.get(1)).isNotNull();
+        assertThat(enrollmentIds.get(5)).isNotNull();
+        assertThat(enrollmentIds.get(2)).isNull();
+        assertThat(enrollmentIds.get(3)).isNull();
+        assertThat(enrollmentIds.get(4)).isNull();
+
+        mvc.perform(get("/api/v1/courses/" + course + "/sections/" + TERM + "/" + SECTION))
+                .andExpect(jsonPath("$.capacity").value(2))
+                .andExpect(jsonPath("$.taken").value(2))
+                .andExpect(jsonPath("$.available").value(0));
+        mvc.perform(get("/api/v1/enrollments/" + enrollmentIds.get(1)))
+                .andExpect(jsonPath("$.status").value("WAITLISTED"));
+    }
+
+    @Test
+    void rejectsAnUnknownCourseAsAWhole() throws Exception {
+        List<String> students = Students.createMany(mvc, "roster-course", 1);
+
+        roster(UUID.randomUUID().toString(), students).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void requiresStudents() throws Exception {
+        String course = Courses.create(mvc, "ROST");
+
+        rosterRequest(course, List.of()).andExpect(status().isBadRequest());
+    }
+
+    // Answered asynchronously once the pipeline has committed the roster.
+    private ResultActions roster(String courseId, List<String> studentIds) throws Exception {
+        MvcResult pending = rosterRequest(courseId, studentIds)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(pending));
+    }
+
+    private ResultActions rosterRequest(String courseId, List<String> studentIds) throws Exception {
+        String ids = studentIds.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+        return mvc.perform(post(ROSTER).contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"courseId":"%s","term":"%s","section":"%s","studentIds":[%s]}"""
+                        .formatted(courseId, TERM, SECTION, ids)));
+    }
+}
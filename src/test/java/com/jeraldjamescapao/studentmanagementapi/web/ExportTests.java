@@ -0,0 +1,213 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Courses;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streamed bodies of the export endpoints in both formats: NDJSON line framing, CSV header,
+ * column order and quoting, format negotiation, and that soft-deleted rows stay out.
+ *
+ * <p>Every test adds a student, course, enrollment and grade whose text fields hold commas,
+ * quotes and line breaks, plus a soft-deleted row of each kind. Exports are compared with the
+ * live ids in the database, so the seed data and rows of earlier tests are covered as well.</p>
+ */
+@ApiTest
+class ExportTests {
+
+    private static final String EXPORTS = "/api/v1/exports/";
+    private static final String AWKWARD = "Smith, \"Jr.\"\nof Line Two";
+    private static final CsvMapper CSV = CsvMapper.builder().enable(CsvParser.Feature.WRAP_AS_ARRAY).build();
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String student;
+    private String course;
+    private String enrollment;
+    private String grade;
+
+    @BeforeEach
+    void createRowsOfEveryKind() throws Exception {
+        student = idOf(mvc.perform(post("/api/v1/students").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"firstName":%s,"lastName":"Export","email":"%s",
+                         "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}"""
+                        .formatted(objectMapper.writeValueAsString(AWKWARD), Students.uniqueEmail("export"))))
+                .andExpect(status().isCreated()).andReturn());
+        String deletedStudent = Students.createMany(mvc, "export-deleted", 1).get(0);
+
+        course = idOf(mvc.perform(post("/api/v1/courses").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"code":"EX%s","title":%s,"credits":3}"""
+                        .formatted(UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
+                                objectMapper.writeValueAsString(AWKWARD))))
+                .andExpect(status().isCreated()).andReturn());
+        mvc.perform(delete("/api/v1/courses/" + Courses.create(mvc, "EXDEL"))).andExpect(status().isNoContent());
+
+        enrollment = enroll(student);
+        String deletedEnrollment = enroll(deletedStudent);
+        mvc.perform(delete("/api/v1/enrollments/" + deletedEnrollment)).andExpect(status().isNoContent());
+        mvc.perform(delete("/api/v1/students/" + deletedStudent)).andExpect(status().isNoContent());
+
+        grade = UUID.randomUUID().toString();
+        jdbc.update("INSERT INTO grades (id, enrollment_id, letter, points, notes) VALUES (?, ?, 'B+', 3.30, ?)",
+                UUID.fromString(grade), UUID.fromString(enrollment), AWKWARD);
+        jdbc.update("INSERT INTO grades (id, enrollment_id, letter, points, deleted_at) "
+                + "VALUES (?, ?, 'F', 0, CURRENT_TIMESTAMP)", UUID.randomUUID(), UUID.fromString(enrollment));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "students    | id,firstName,lastName,email,gender,birthDate,status,createdAt,updatedAt",
+            "courses     | id,code,title,description,credits,active,createdAt,updatedAt",
+            "enrollments | id,studentId,courseId,term,section,status,createdAt,updatedAt",
+            "grades      | id,enrollmentId,letter,points,gradedAt,createdAt,updatedAt,notes"
+    })
+    void csvHasAHeaderAndOneRecordPerLiveRow(String resource, String header) throws Exception {
+        MvcResult result = export(get(EXPORTS + resource).param("format", "CSV"))
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + resource + ".csv\""))
+                .andReturn();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).startsWith(header + "\n").endsWith("\n");
+        List<String[]> records = CSV.readerFor(String[].class).<String[]>readValues(body).readAll();
+        assertThat(records.get(0)).containsExactly(header.split(","));
+        assertThat(records.subList(1, records.size()))
+                .allSatisfy(r -> assertThat(r).hasSameSizeAs(records.get(0)))
+                .extracting(r -> r[0])
+                .containsExactlyElementsOf(liveIds(resource));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({"students", "courses", "enrollments", "grades"})
+    void ndjsonHasOneObjectPerLiveRowAndLine(String resource) throws Exception {
+        MvcResult result = export(get(EXPORTS + resource).param("format", "NDJSON"))
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + resource + ".ndjson\""))
+                .andReturn();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).endsWith("}\n").doesNotContain("\n\n");
+        List<String> lines = Arrays.asList(body.split("\n"));
+        for (String line : lines) {
+            assertThat(objectMapper.readTree(line).isObject()).as(line).isTrue();
+        }
+        assertThat(lines).extracting(line -> objectMapper.readTree(line).get("id").asText())
+                .containsExactlyElementsOf(liveIds(resource));
+    }
+
+    @Test
+    void csvQuotesCommasQuotesAndLineBreaks() throws Exception {
+        String students = csv("students");
+        String courses = csv("courses");
+        String grades = csv("grades");
+
+        String quoted = "\"Smith, \"\"Jr.\"\"\nof Line Two\"";
+        // Ids and emails may be quoted as well; the awkward value must be, with inner quotes doubled.
+        assertThat(students).contains("," + quoted + ",Export,");
+        assertThat(courses).contains("," + quoted + ",,3,true,");
+        assertThat(grades).contains("," + quoted + "\n");
+
+        assertThat(field(students, student, 1)).isEqualTo(AWKWARD);
+        assertThat(field(courses, course, 2)).isEqualTo(AWKWARD);
+        assertThat(field(grades, grade, 7)).isEqualTo(AWKWARD);
+        assertThat(field(grades, grade, 1)).isEqualTo(enrollment);
+        assertThat(field(grades, grade, 3)).isEqualTo("3.30");
+    }
+
+    @Test
+    void ndjsonKeepsLineBreaksInsideTheirObject() throws Exception {
+        String body = export(get(EXPORTS + "students"))
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String line = body.lines().filter(l -> l.contains(student)).findFirst().orElseThrow();
+        JsonNode row = objectMapper.readTree(line);
+        assertThat(row.get("firstName").asText()).isEqualTo(AWKWARD);
+        assertThat(row.get("lastName").asText()).isEqualTo("Export");
+        assertThat(row.get("birthDate").asText()).isEqualTo("2001-02-03");
+    }
+
+    @Test
+    void unknownFormatIsRejectedBeforeStreaming() throws Exception {
+        mvc.perform(get(EXPORTS + "students").param("format", "XML"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions export(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult pending = mvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mvc.perform(asyncDispatch(pending)).andExpect(status().isOk());
+    }
+
+    private String csv(String resource) throws Exception {
+        return export(get(EXPORTS + resource).param("format", "CSV"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    // Column of the CSV record whose first column is the given id.
+    private static String field(String csv, String id, int column) throws Exception {
+        return CSV.readerFor(String[].class).<String[]>readValues(csv).readAll().stream()
+                .filter(r -> r[0].equals(id))
+                .findFirst().orElseThrow()[column];
+    }
+
+    // Ids of the rows an export must contain, in the primary-key order exports are written in.
+    private List<String> liveIds(String table) {
+        return jdbc.queryForList("SELECT id FROM " + table + " WHERE deleted_at IS NULL ORDER BY id", UUID.class)
+                .stream().map(UUID::toString).toList();
+    }
+
+    private String enroll(String studentId) throws Exception {
+        MvcResult pending = mvc.perform(post("/api/v1/enrollments").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentId":"%s","courseId":"%s","term":"2025-FALL","section":"A"}"""
+                                .formatted(studentId, course)))
+                .andReturn();
+        return idOf(mvc.perform(asyncDispatch(pending)).andExpect(status().isCreated()).andReturn());
+    }
+
+    private static String idOf(MvcResult result) throws Exception {
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+    }
+}
@@ -0,0 +1,122 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.QueryCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of SQL statements per endpoint, so N+1 regressions fail the build.
+ *
+ * <p>Runs against the seed data of {@code data.sql} in its own in-memory database. Limits
+ * are exact budgets for the current query plans; raise one only together with the change
+ * that legitimately needs another statement.</p>
+ */
+@ApiTest
+class QueryCountTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+    private static final String COURSES = "/api/v1/courses";
+    private static final String ENROLLMENTS = "/api/v1/enrollments";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void studentReads() throws Exception {
+        // content + count
+        mvc.perform(get(STUDENTS).param("size", "2")).andExpect(status().isOk()).andExpect(QueryCount.atMost(2));
+        mvc.perform(get(STUDENTS).param("size", "2").param("withTotal", "false"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(1));
+        mvc.perform(get(STUDENTS + "/scroll").param("size", "2")).andExpect(status().isOk()).andExpect(QueryCount.atMost(1));
+        mvc.perform(get(STUDENTS + "/" + anyStudentId())).andExpect(status().isOk()).andExpect(QueryCount.atMost(1));
+    }
+
+    @Test
+    void conditionalStudentSearchRunsThePageQueryOnce() throws Exception {
+        String tag = mvc.perform(get(STUDENTS).param("size", "2"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // version columns + count
+        mvc.perform(get(STUDENTS).param("size", "2").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified()).andExpect(QueryCount.atMost(2));
+        // version columns + count + members by primary key
+        mvc.perform(get(STUDENTS).param("size", "2").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(3));
+    }
+
+    @Test
+    void studentWrites() throws Exception {
+        String created = mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content(student("qc-one")))
+                .andExpect(status().isCreated())
+                .andExpect(QueryCount.atMost(1))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(created, "$.id");
+
+        // select + update
+        mvc.perform(put(STUDENTS + "/" + id).contentType(MediaType.APPLICATION_JSON).content(student("qc-two")))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(2));
+        mvc.perform(delete(STUDENTS + "/" + id)).andExpect(status().isNoContent()).andExpect(QueryCount.atMost(1));
+    }
+
+    @Test
+    void batchCreateDoesNotQueryPerItem() throws Exception {
+        String items = String.join(",", student("qc-b1"), student("qc-b2"), student("qc-b3"));
+        // existing-email check + one batched insert
+        mvc.perform(post(STUDENTS + ":batch").contentType(MediaType.APPLICATION_JSON).content("{\"items\":[" + items + "]}"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(2));
+    }
+
+    @Test
+    void courseReadsAreServedFromTheCatalog() throws Exception {
+        String page = mvc.perform(get(COURSES).param("active", "true"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(0))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(page, "$.content[0].id");
+
+        mvc.perform(get(COURSES + "/" + id)).andExpect(status().isOk()).andExpect(QueryCount.atMost(0));
+        mvc.perform(get(COURSES + "/by-code/cs101")).andExpect(status().isOk()).andExpect(QueryCount.atMost(0));
+    }
+
+    @Test
+    void enrollmentReadsFetchStudentAndCourseWithThePage() throws Exception {
+        // content with student and course joined + count, for any number of rows
+        String page = mvc.perform(get(ENROLLMENTS).param("size", "100"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(2))
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(page, "$.content[0].id");
+        String studentId = JsonPath.read(page, "$.content[0].studentId");
+        String courseId = JsonPath.read(page, "$.content[0].courseId");
+
+        mvc.perform(get(ENROLLMENTS).param("studentId", studentId).param("size", "100"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(2));
+        mvc.perform(get(ENROLLMENTS).param("status", "ENROLLED").param("size", "100"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(2));
+        // content only, with the joins kept
+        mvc.perform(get(ENROLLMENTS).param("size", "100").param("withTotal", "false"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(1));
+        mvc.perform(get(ENROLLMENTS).param("courseId", courseId).param("size", "100").param("withTotal", "false"))
+                .andExpect(status().isOk()).andExpect(QueryCount.atMost(1));
+        mvc.perform(get(ENROLLMENTS + "/" + id)).andExpect(status().isOk()).andExpect(QueryCount.atMost(1));
+    }
+
+    private String anyStudentId() throws Exception {
+        String page = mvc.perform(get(STUDENTS).param("size", "1")).andReturn().getResponse().getContentAsString();
+        return JsonPath.read(page, "$.content[0].id");
+    }
+
+    private static String student(String emailPrefix) {
+        return """
+                {"firstName":"Query","lastName":"Count","email":"%s@example.edu",
+                 "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}""".formatted(emailPrefix);
+    }
+}
@@ -0,0 +1,122 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Courses;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Seats of a section across capacity changes: a raise promotes the waitlist, and a freed seat
+ * only passes to the waitlist while the section is under its capacity.
+ */
+@ApiTest
+class SectionSeatsTests {
+
+    private static final String ENROLLMENTS = "/api/v1/enrollments";
+    private static final String TERM = "2025-FALL";
+    private static final String SECTION = "A";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void raisingTheCapacityPromotesTheWaitlistInOrder() throws Exception {
+        String course = Courses.create(mvc, "SEAT");
+        Courses.capacity(mvc, course, TERM, SECTION, 1).andExpect(status().isOk());
+        List<String> students = Students.createMany(mvc, "seat-raise", 4);
+        String first = enroll(students.get(0), course, "ENROLLED");
+        String second = enroll(students.get(1), course, "WAITLISTED");
+        String third = enroll(students.get(2), course, "WAITLISTED");
+        String fourth = enroll(students.get(3), course, "WAITLISTED");
+
+        Courses.capacity(mvc, course, TERM, SECTION, 3)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(3))
+                .andExpect(jsonPath("$.taken").value(3))
+                .andExpect(jsonPath("$.available").value(0));
+
+        expectStatus(first, "ENROLLED");
+        expectStatus(second, "ENROLLED");
+        expectStatus(third, "ENROLLED");
+        expectStatus(fourth, "WAITLISTED");
+        expectSeats(course, 3, 3);
+    }
+
+    @Test
+    void raisingTheCapacityWithoutAWaitlistOnlyFreesSeats() throws Exception {
+        String course = Courses.create(mvc, "SEAT");
+        Courses.capacity(mvc, course, TERM, SECTION, 1).andExpect(status().isOk());
+        enroll(Students.createMany(mvc, "seat-free", 1).get(0), course, "ENROLLED");
+
+        Courses.capacity(mvc, course, TERM, SECTION, 5)
+                .andExpect(jsonPath("$.taken").value(1))
+                .andExpect(jsonPath("$.available").value(4));
+        expectSeats(course, 5, 1);
+    }
+
+    @Test
+    void freedSeatsAreNotHandedOverWhileOverCapacity() throws Exception {
+        String course = Courses.create(mvc, "SEAT");
+        Courses.capacity(mvc, course, TERM, SECTION, 2).andExpect(status().isOk());
+        List<String> students = Students.createMany(mvc, "seat-lower", 3);
+        String first = enroll(students.get(0), course, "ENROLLED");
+        String second = enroll(students.get(1), course, "ENROLLED");
+        String waiting = enroll(students.get(2), course, "WAITLISTED");
+
+        Courses.capacity(mvc, course, TERM, SECTION, 1).andExpect(jsonPath("$.taken").value(2));
+
+        // Two seats held, capacity one: the seat is given up, not handed over.
+        drop(first);
+        expectStatus(waiting, "WAITLISTED");
+        expectSeats(course, 1, 1);
+
+        // Back at capacity: the next freed seat goes to the waitlist.
+        drop(second);
+        expectStatus(waiting, "ENROLLED");
+        expectSeats(course, 1, 1);
+    }
+
+    private String enroll(String studentId, String courseId, String expected) throws Exception {
+        MvcResult pending = mvc.perform(post(ENROLLMENTS).contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"studentId":"%s","courseId":"%s","term":"%s","section":"%s"}"""
+                                .formatted(studentId, courseId, TERM, SECTION)))
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(pending))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value(expected))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
+    private void drop(String enrollmentId) throws Exception {
+        mvc.perform(patch(ENROLLMENTS + "/" + enrollmentId + "/status").param("status", "DROPPED"))
+                .andExpect(status().isOk());
+    }
+
+    private void expectStatus(String enrollmentId, String expected) throws Exception {
+        mvc.perform(get(ENROLLMENTS + "/" + enrollmentId)).andExpect(jsonPath("$.status").value(expected));
+    }
+
+    private ResultActions expectSeats(String courseId, int capacity, int taken) throws Exception {
+        return mvc.perform(get("/api/v1/courses/" + courseId + "/sections/" + TERM + "/" + SECTION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(capacity))
+                .andExpect(jsonPath("$.taken").value(taken));
+    }
+}
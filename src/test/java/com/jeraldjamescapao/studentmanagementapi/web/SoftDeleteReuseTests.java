@@ -0,0 +1,88 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unique values of soft-deleted rows: a deleted student's email and a deleted course's code are
+ * free again at once, while live rows keep them taken.
+ */
+@ApiTest
+class SoftDeleteReuseTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+    private static final String COURSES = "/api/v1/courses";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void deletedStudentsEmailCanBeReused() throws Exception {
+        String email = Students.uniqueEmail("reuse-email");
+        String first = idOf(createStudent(email).andExpect(status().isCreated()));
+        createStudent(email.toUpperCase()).andExpect(status().isConflict());
+
+        mvc.perform(delete(STUDENTS + "/" + first)).andExpect(status().isNoContent());
+
+        String second = idOf(createStudent(email.toUpperCase()).andExpect(status().isCreated()));
+        assertThat(second).isNotEqualTo(first);
+        createStudent(email).andExpect(status().isConflict());
+    }
+
+    @Test
+    void deletedStudentsEmailCanBeReusedInABatch() throws Exception {
+        String email = Students.uniqueEmail("reuse-batch");
+        String first = idOf(createStudent(email).andExpect(status().isCreated()));
+        mvc.perform(delete(STUDENTS + "/" + first)).andExpect(status().isNoContent());
+
+        mvc.perform(post(STUDENTS + ":batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(Students.batch(List.of(Students.json(email)))))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"));
+    }
+
+    @Test
+    void deletedCoursesCodeCanBeReused() throws Exception {
+        String code = "RU" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String first = idOf(createCourse(code).andExpect(status().isCreated()));
+        createCourse(code).andExpect(status().isConflict());
+
+        mvc.perform(delete(COURSES + "/" + first)).andExpect(status().isNoContent());
+        mvc.perform(get(COURSES + "/by-code/" + code)).andExpect(status().isNotFound());
+
+        String second = idOf(createCourse(code).andExpect(status().isCreated()));
+        assertThat(second).isNotEqualTo(first);
+        mvc.perform(get(COURSES + "/by-code/" + code))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(second));
+        createCourse(code).andExpect(status().isConflict());
+    }
+
+    private ResultActions createStudent(String email) throws Exception {
+        return mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content(Students.json(email)));
+    }
+
+    private ResultActions createCourse(String code) throws Exception {
+        return mvc.perform(post(COURSES).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"code\":\"" + code + "\",\"title\":\"Reuse Tests\",\"credits\":3}"));
+    }
+
+    private static String idOf(ResultActions result) throws Exception {
+        return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.id");
+    }
+}
@@ -0,0 +1,79 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentBatchCreateRequest;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-item results and the size limit of {@code POST /students:batch}.
+ */
+@ApiTest
+class StudentBatchCreateTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+    private static final String BATCH = STUDENTS + ":batch";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void reportsAnOutcomePerItem() throws Exception {
+        String existing = Students.uniqueEmail("batch-existing");
+        mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content(Students.json(existing)))
+                .andExpect(status().isCreated());
+        String fresh = Students.uniqueEmail("batch-fresh");
+        String other = Students.uniqueEmail("batch-other");
+
+        String body = mvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content(Students.batch(List.of(
+                        Students.json(fresh),
+                        Students.json(fresh.toUpperCase()),
+                        Students.json(existing),
+                        Students.json("not-an-email"),
+                        Students.json(other)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.conflicts").value(2))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.items[1].message").value("Duplicate email in batch: " + fresh.toUpperCase()))
+                .andExpect(jsonPath("$.items[2].message").value("Email already in use: " + existing))
+                .andReturn().getResponse().getContentAsString();
+
+        List<Integer> indexes = JsonPath.read(body, "$.items[*].index");
+        List<String> statuses = JsonPath.read(body, "$.items[*].status");
+        List<String> ids = JsonPath.read(body, "$.items[*].id");
+        assertThat(indexes).containsExactly(0, 1, 2, 3, 4);
+        assertThat(statuses).containsExactly("CREATED", "CONFLICT", "CONFLICT", "INVALID", "CREATED");
+        assertThat(ids.get(1)).isNull();
+        assertThat(ids.get(2)).isNull();
+        assertThat(ids.get(3)).isNull();
+
+        String id = JsonPath.read(body, "$.items[0].id");
+        mvc.perform(get(STUDENTS + "/" + id)).andExpect(status().isOk()).andExpect(jsonPath("$.email").value(fresh));
+    }
+
+    @Test
+    void acceptsExactlyTheMaximumAndRejectsOneMore() throws Exception {
+        List<String> ids = Students.createMany(mvc, "batch-max", StudentBatchCreateRequest.MAX_ITEMS);
+        assertThat(ids).doesNotHaveDuplicates();
+
+        List<String> tooMany = IntStream.rangeClosed(0, StudentBatchCreateRequest.MAX_ITEMS)
+                .mapToObj(i -> Students.json(Students.uniqueEmail("batch-over")))
+                .toList();
+        mvc.perform(post(BATCH).contentType(MediaType.APPLICATION_JSON).content(Students.batch(tooMany)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,88 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-id outcomes and chunking of {@code POST /students:delete}.
+ */
+@ApiTest
+class StudentBulkDeleteTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void deletesAcrossTheChunkBoundaryAndReportsTheRest() throws Exception {
+        // One more than a chunk, so the last id goes through a second DELETE.
+        List<String> doomed = Students.createMany(mvc, "delete-chunk", 1001);
+        String last = doomed.get(doomed.size() - 1);
+        mvc.perform(get(STUDENTS + "/" + last)).andExpect(status().isOk());
+        String enrolled = enrolledStudentId();
+        String unknown = UUID.randomUUID().toString();
+
+        List<String> ids = new ArrayList<>(doomed);
+        ids.add(enrolled);
+        ids.add(unknown);
+        ids.add(doomed.get(0));
+        delete(ids)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1001))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.blocked.length()").value(1))
+                .andExpect(jsonPath("$.blocked[0]").value(enrolled));
+
+        mvc.perform(get(STUDENTS + "/" + doomed.get(0))).andExpect(status().isNotFound());
+        mvc.perform(get(STUDENTS + "/" + doomed.get(999))).andExpect(status().isNotFound());
+        // read through the cache above, so this also proves the eviction
+        mvc.perform(get(STUDENTS + "/" + last)).andExpect(status().isNotFound());
+        mvc.perform(get(STUDENTS + "/" + enrolled)).andExpect(status().isOk());
+    }
+
+    @Test
+    void deletingAgainFindsNothing() throws Exception {
+        List<String> ids = Students.createMany(mvc, "delete-twice", 3);
+
+        delete(ids).andExpect(jsonPath("$.deleted").value(3));
+        delete(ids)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(0))
+                .andExpect(jsonPath("$.notFound").value(3))
+                .andExpect(jsonPath("$.blocked").isEmpty());
+    }
+
+    @Test
+    void requiresIds() throws Exception {
+        delete(List.of()).andExpect(status().isBadRequest());
+    }
+
+    private String enrolledStudentId() throws Exception {
+        String page = mvc.perform(get("/api/v1/enrollments").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(page, "$.content[0].studentId");
+    }
+
+    private ResultActions delete(List<String> ids) throws Exception {
+        String idList = ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+        return mvc.perform(post(STUDENTS + ":delete").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + idList + "]}"));
+    }
+}
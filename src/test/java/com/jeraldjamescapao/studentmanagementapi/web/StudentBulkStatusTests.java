@@ -0,0 +1,82 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Selection, chunking and cache eviction of {@code POST /students:changeStatus}.
+ */
+@ApiTest
+class StudentBulkStatusTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+    private static final String CHANGE_STATUS = STUDENTS + ":changeStatus";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void updatesEveryMatchingIdAcrossTheChunkBoundary() throws Exception {
+        // One more than a chunk, so the last id goes through a second UPDATE.
+        List<String> enrolled = Students.createMany(mvc, "status-chunk", 1001);
+        String onLeave = Students.createMany(mvc, "status-leave", 1).get(0);
+        changeStatus(List.of(onLeave), null, "ON_LEAVE")
+                .andExpect(jsonPath("$.updated").value(1));
+        String last = enrolled.get(enrolled.size() - 1);
+        mvc.perform(get(STUDENTS + "/" + last)).andExpect(jsonPath("$.status").value("ENROLLED"));
+
+        List<String> ids = new ArrayList<>(enrolled);
+        ids.add(onLeave);
+        ids.add(UUID.randomUUID().toString());
+        ids.add(enrolled.get(0));
+        changeStatus(ids, "ENROLLED", "GRADUATED")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("GRADUATED"))
+                .andExpect(jsonPath("$.matched").value(1001))
+                .andExpect(jsonPath("$.updated").value(1001));
+
+        mvc.perform(get(STUDENTS + "/" + enrolled.get(0))).andExpect(jsonPath("$.status").value("GRADUATED"));
+        mvc.perform(get(STUDENTS + "/" + enrolled.get(999))).andExpect(jsonPath("$.status").value("GRADUATED"));
+        // read through the cache above, so this also proves the eviction
+        mvc.perform(get(STUDENTS + "/" + last)).andExpect(jsonPath("$.status").value("GRADUATED"));
+        mvc.perform(get(STUDENTS + "/" + onLeave)).andExpect(jsonPath("$.status").value("ON_LEAVE"));
+    }
+
+    @Test
+    void withoutFromStatusEveryExistingIdMatches() throws Exception {
+        List<String> ids = new ArrayList<>(Students.createMany(mvc, "status-any", 2));
+        ids.add(UUID.randomUUID().toString());
+
+        changeStatus(ids, null, "SUSPENDED")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matched").value(2))
+                .andExpect(jsonPath("$.updated").value(2));
+    }
+
+    @Test
+    void requiresIdsOrFromStatus() throws Exception {
+        changeStatus(List.of(), null, "GRADUATED").andExpect(status().isBadRequest());
+    }
+
+    private ResultActions changeStatus(List<String> ids, String fromStatus, String status) throws Exception {
+        String idList = ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+        String from = (fromStatus == null) ? "" : ",\"fromStatus\":\"" + fromStatus + "\"";
+        return mvc.perform(post(CHANGE_STATUS).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + idList + "]" + from + ",\"status\":\"" + status + "\"}"));
+    }
+}
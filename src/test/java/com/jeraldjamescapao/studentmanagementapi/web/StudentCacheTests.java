@@ -0,0 +1,104 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.config.CacheConfig;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentResponse;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentUpdateRequest;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.Gender;
+import com.jeraldjamescapao.studentmanagementapi.entity.enums.StudentStatus;
+import com.jeraldjamescapao.studentmanagementapi.service.StudentService;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the {@link CacheConfig#STUDENTS} cache never serves a student after it changed.
+ */
+@ApiTest
+class StudentCacheTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StudentService service;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Test
+    void updateAndDeleteEvictTheCachedStudent() throws Exception {
+        UUID id = create("cache-evict");
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS);
+
+        mvc.perform(get(STUDENTS + "/" + id)).andExpect(status().isOk());
+        assertThat(cache.get(id)).isNotNull();
+
+        mvc.perform(put(STUDENTS + "/" + id).contentType(MediaType.APPLICATION_JSON).content(body("Renamed", "cache-evict")))
+                .andExpect(status().isOk());
+        assertThat(cache.get(id)).isNull();
+
+        mvc.perform(get(STUDENTS + "/" + id)).andExpect(status().isOk());
+        assertThat(((StudentResponse) cache.get(id).get()).getFirstName()).isEqualTo("Renamed");
+
+        mvc.perform(delete(STUDENTS + "/" + id)).andExpect(status().isNoContent());
+        assertThat(cache.get(id)).isNull();
+        mvc.perform(get(STUDENTS + "/" + id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void readerCommittingAfterAWriterLeavesNoStaleEntry() throws Exception {
+        UUID id = create("cache-race");
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS);
+
+        // The reader loads the old row inside its transaction; the writer commits and evicts
+        // before the reader's transaction ends.
+        tx.executeWithoutResult(s -> {
+            assertThat(service.get(id).getFirstName()).isEqualTo("Cache");
+            CompletableFuture.runAsync(() -> service.update(id, StudentUpdateRequest.builder()
+                    .firstName("Renamed").lastName("Tests").email("cache-race@example.edu")
+                    .gender(Gender.OTHER).birthDate(LocalDate.of(2001, 2, 3)).status(StudentStatus.ENROLLED)
+                    .build())).join();
+        });
+
+        Cache.ValueWrapper cached = cache.get(id);
+        if (cached != null) {
+            assertThat(((StudentResponse) cached.get()).getFirstName()).isEqualTo("Renamed");
+        }
+        assertThat(service.get(id).getFirstName()).isEqualTo("Renamed");
+    }
+
+    private UUID create(String emailPrefix) throws Exception {
+        String created = mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content(body("Cache", emailPrefix)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(JsonPath.read(created, "$.id"));
+    }
+
+    private static String body(String firstName, String emailPrefix) {
+        return """
+                {"firstName":"%s","lastName":"Tests","email":"%s@example.edu",
+                 "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}""".formatted(firstName, emailPrefix);
+    }
+}
@@ -0,0 +1,137 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional {@code GET} of students: {@code If-None-Match} against the {@link ETags} of a
+ * single student and of a page.
+ */
+@ApiTest
+class StudentETagTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void studentIsNotResentWhileUnchanged() throws Exception {
+        String email = unique("etag-one");
+        String id = create(email);
+        String tag = mvc.perform(get(STUDENTS + "/" + id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(tag).startsWith("\"").endsWith("\"");
+
+        mvc.perform(get(STUDENTS + "/" + id).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, tag))
+                .andExpect(content().string(""));
+        mvc.perform(get(STUDENTS + "/" + id).header(HttpHeaders.IF_NONE_MATCH, "W/" + tag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get(STUDENTS + "/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + tag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get(STUDENTS + "/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void studentTagChangesWithAnUpdate() throws Exception {
+        String email = unique("etag-two");
+        String id = create(email);
+        String before = mvc.perform(get(STUDENTS + "/" + id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(put(STUDENTS + "/" + id).contentType(MediaType.APPLICATION_JSON).content(body("Changed", email)))
+                .andExpect(status().isOk());
+
+        String after = mvc.perform(get(STUDENTS + "/" + id).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void pageIsNotResentWhileNoMemberChanged() throws Exception {
+        String email = unique("etag-page");
+        String id = create(email);
+        String tag = mvc.perform(get(STUDENTS).param("q", email))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(tag).startsWith("\"p-");
+
+        mvc.perform(get(STUDENTS).param("q", email).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mvc.perform(get(STUDENTS).param("q", email).header(HttpHeaders.IF_NONE_MATCH, "W/" + tag))
+                .andExpect(status().isNotModified());
+        mvc.perform(get(STUDENTS).param("q", email).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+        mvc.perform(get(STUDENTS).param("q", email).param("size", "5").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk());
+
+        mvc.perform(put(STUDENTS + "/" + id).contentType(MediaType.APPLICATION_JSON).content(body("Changed", email)))
+                .andExpect(status().isOk());
+
+        String after = mvc.perform(get(STUDENTS).param("q", email).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotEqualTo(tag);
+    }
+
+    @Test
+    void staleTagGetsThePageAPlainRequestGets() throws Exception {
+        String prefix = unique("etag-stale").replace("@example.edu", "");
+        for (int i = 0; i < 3; i++) {
+            create(prefix + "-" + i + "@example.edu");
+        }
+
+        for (String page : new String[] {"0", "1"}) {
+            MockHttpServletResponse plain = mvc.perform(get(STUDENTS).param("q", prefix)
+                            .param("size", "2").param("page", page).param("sort", "email,desc"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            MockHttpServletResponse conditional = mvc.perform(get(STUDENTS).param("q", prefix)
+                            .param("size", "2").param("page", page).param("sort", "email,desc")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"p-stale\""))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            assertThat(conditional.getContentAsString()).isEqualTo(plain.getContentAsString());
+            assertThat(conditional.getHeader(HttpHeaders.ETAG)).isEqualTo(plain.getHeader(HttpHeaders.ETAG));
+        }
+    }
+
+    private String create(String email) throws Exception {
+        String created = mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content(body("Etag", email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(created, "$.id");
+    }
+
+    private static String unique(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8) + "@example.edu";
+    }
+
+    private static String body(String firstName, String email) {
+        return """
+                {"firstName":"%s","lastName":"Tests","email":"%s",
+                 "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}""".formatted(firstName, email);
+    }
+}
@@ -0,0 +1,67 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Email identity of students: unique ignoring case, and never stored with surrounding whitespace,
+ * so the service's normalization and the {@code live_email} column always agree.
+ */
+@ApiTest
+class StudentEmailTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void emailIsUniqueIgnoringCase() throws Exception {
+        String email = Students.uniqueEmail("email-case");
+        create(email).andExpect(status().isCreated());
+
+        create(email.toUpperCase()).andExpect(status().isConflict());
+        mvc.perform(post(STUDENTS + ":batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(Students.batch(List.of(Students.json(email.toUpperCase())))))
+                .andExpect(jsonPath("$.items[0].status").value("CONFLICT"));
+    }
+
+    @Test
+    void updateToAnotherStudentsEmailConflicts() throws Exception {
+        String taken = Students.uniqueEmail("email-taken");
+        create(taken).andExpect(status().isCreated());
+        String body = create(Students.uniqueEmail("email-mine")).andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(body, "$.id");
+
+        mvc.perform(put(STUDENTS + "/" + id).contentType(MediaType.APPLICATION_JSON).content(Students.json(taken.toUpperCase())))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void emailsWithSurroundingWhitespaceAreRejected() throws Exception {
+        String email = Students.uniqueEmail("email-space");
+
+        create(" " + email).andExpect(status().isBadRequest());
+        create(email + " ").andExpect(status().isBadRequest());
+        mvc.perform(post(STUDENTS + ":batch").contentType(MediaType.APPLICATION_JSON)
+                        .content(Students.batch(List.of(Students.json(" " + email)))))
+                .andExpect(jsonPath("$.items[0].status").value("INVALID"));
+    }
+
+    private ResultActions create(String email) throws Exception {
+        return mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content(Students.json(email)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.dto.student.StudentCursor;
+import com.jeraldjamescapao.studentmanagementapi.exception.BadRequestException;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Covers the opaque {@link StudentCursor} token and the keyset walk of {@code GET /students/scroll}.
+ */
+@ApiTest
+class StudentScrollTests {
+
+    private static final String STUDENTS = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void cursorRoundTripsThroughAnUrlSafeToken() {
+        StudentCursor cursor = new StudentCursor("O'Brien-Ñúñez", "Zoë", UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(StudentCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorRejectsTamperedTokens() {
+        String token = new StudentCursor("Lovelace", "Ada", UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> StudentCursor.decode("not a cursor")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> StudentCursor.decode(token.substring(0, token.length() - 4)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> StudentCursor.decode(raw("Lovelace\0Ada"))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> StudentCursor.decode(raw("Lovelace\0Ada\01-2-3-4-5")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void scrollAnswersTamperedCursorsWithBadRequest() throws Exception {
+        mvc.perform(get(STUDENTS + "/scroll").param("after", "%%%")).andExpect(status().isBadRequest());
+        mvc.perform(get(STUDENTS + "/scroll").param("after", raw("only-one-part"))).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void scrollWalksTiesOnTheSortKeyWithoutSkipsOrRepeats() throws Exception {
+        String tie = "Tiescroll" + UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 5; i++) {
+            mvc.perform(post(STUDENTS).contentType(MediaType.APPLICATION_JSON).content("""
+                    {"firstName":"Same","lastName":"%s","email":"%s-%d@example.edu",
+                     "gender":"OTHER","birthDate":"2001-02-03","status":"ENROLLED"}""".formatted(tie, tie, i)))
+                    .andExpect(status().isCreated());
+        }
+
+        // Start just before the tied group, so pages of two split it twice on equal names.
+        List<String> tied = new ArrayList<>();
+        String after = new StudentCursor(tie, "Same", new UUID(0L, 0L)).encode();
+        boolean inGroup = true;
+        while (inGroup && after != null) {
+            String page = mvc.perform(get(STUDENTS + "/scroll").param("size", "2").param("after", after))
+                    .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+            List<String> ids = JsonPath.read(page, "$.content[*].id");
+            List<String> lastNames = JsonPath.read(page, "$.content[*].lastName");
+            for (int i = 0; i < ids.size(); i++) {
+                inGroup &= lastNames.get(i).equals(tie);
+                if (inGroup) {
+                    tied.add(ids.get(i));
+                }
+            }
+            after = JsonPath.read(page, "$.nextCursor");
+        }
+
+        assertThat(tied).hasSize(5).doesNotHaveDuplicates().isSortedAccordingTo(String::compareTo);
+    }
+
+    @Test
+    void scrollReachesTheLastPageWithoutACursor() throws Exception {
+        String all = mvc.perform(get(STUDENTS).param("size", "1")).andReturn().getResponse().getContentAsString();
+        int total = ((Number) JsonPath.read(all, "$.totalElements")).intValue();
+
+        List<String> seen = new ArrayList<>();
+        String after = null;
+        boolean hasNext = true;
+        while (hasNext) {
+            var request = get(STUDENTS + "/scroll").param("size", "100");
+            if (after != null) {
+                request.param("after", after);
+            }
+            String page = mvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+            seen.addAll(JsonPath.read(page, "$.content[*].id"));
+            hasNext = JsonPath.read(page, "$.hasNext");
+            after = JsonPath.read(page, "$.nextCursor");
+            assertThat(after == null).isEqualTo(!hasNext);
+        }
+
+        assertThat(seen).hasSize(total).doesNotHaveDuplicates();
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
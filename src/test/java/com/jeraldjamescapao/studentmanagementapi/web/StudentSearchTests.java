@@ -0,0 +1,94 @@
+package com.jeraldjamescapao.studentmanagementapi.web;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jeraldjamescapao.studentmanagementapi.search.StudentSearchIndex;
+import com.jeraldjamescapao.studentmanagementapi.support.ApiTest;
+import com.jeraldjamescapao.studentmanagementapi.support.Students;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Totals and ordering of free-text search on both sides of {@code app.search.trigram.max-matches}:
+ * the index answers narrow queries, broader ones go to the database, and neither truncates.
+ */
+@ApiTest
+@TestPropertySource(properties = "app.search.trigram.max-matches=" + StudentSearchTests.MAX_MATCHES)
+class StudentSearchTests {
+
+    static final int MAX_MATCHES = 20;
+    private static final String STUDENTS = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    void waitForTheIndex() throws Exception {
+        String probe = emailTag(Students.createMany(mvc, "search-probe", 1).get(0));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (index.find(probe).isEmpty()) {
+            assertThat(System.nanoTime()).as("search index warm-up").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void indexAnswersQueriesUnderTheCap() throws Exception {
+        List<String> ids = Students.createMany(mvc, "search-narrow", MAX_MATCHES - 5);
+        String tag = emailTag(ids.get(0));
+        assertThat(index.find(tag)).hasValueSatisfying(found -> assertThat(found).hasSize(ids.size()));
+
+        expectAllPagesByEmailDesc(tag, ids.size(), 4);
+    }
+
+    @Test
+    void queriesOverTheCapReportEveryMatch() throws Exception {
+        List<String> ids = Students.createMany(mvc, "search-broad", MAX_MATCHES * 3 + 1);
+        String tag = emailTag(ids.get(0));
+        assertThat(index.find(tag)).isEmpty();
+
+        expectAllPagesByEmailDesc(tag, ids.size(), 7);
+    }
+
+    // Walks every page sorted by email descending and checks totals and the global order.
+    private void expectAllPagesByEmailDesc(String q, int matches, int size) throws Exception {
+        int pages = (matches + size - 1) / size;
+        List<String> emails = new ArrayList<>();
+        for (int page = 0; page < pages; page++) {
+            String body = mvc.perform(get(STUDENTS).param("q", q)
+                            .param("page", String.valueOf(page))
+                            .param("size", String.valueOf(size))
+                            .param("sort", "email,desc"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            assertThat((Integer) JsonPath.read(body, "$.totalElements")).isEqualTo(matches);
+            assertThat((Integer) JsonPath.read(body, "$.totalPages")).isEqualTo(pages);
+            emails.addAll(JsonPath.read(body, "$.content[*].email"));
+        }
+
+        assertThat(emails).hasSize(matches).doesNotHaveDuplicates()
+                .allMatch(e -> e.startsWith(q))
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    // The tag createMany puts in front of every email of one call, e.g. "search-broad-1a2b3c4d".
+    private String emailTag(String studentId) throws Exception {
+        String body = mvc.perform(get(STUDENTS + "/" + studentId))
+                .andReturn().getResponse().getContentAsString();
+        String email = JsonPath.read(body, "$.email");
+        return email.substring(0, email.lastIndexOf('-'));
+    }
+}